@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+/**
+ * The HQL queries used by {@link HqlParsingBenchmark} and {@link SqmTranslationBenchmark}.
+ */
+final class BenchmarkQueries {
+	private BenchmarkQueries() {
+	}
+
+	static String hql(String name) {
+		return switch ( name ) {
+			case "simple" -> "select b from Book b where b.id = :id";
+			case "join" -> "select b.title, a.name from Book b join b.author a where a.name like :name order by b.title";
+			case "complex" -> "select a.name, count(b), avg(b.price), max(b.published) "
+					+ "from Book b join b.author a "
+					+ "where b.available = true and b.pages between :min and :max "
+					+ "and b.id in (select b2.id from Book b2 where b2.price > :price) "
+					+ "group by a.name having count(b) > 1 order by 2 desc";
+			default -> throw new IllegalArgumentException( "Unknown query: " + name );
+		};
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+
+/**
+ * Builds the {@link SessionFactoryImplementor} shared by the benchmarks,
+ * backed by a private in-memory H2 database.
+ */
+public final class BenchmarkSessionFactory {
+	/**
+	 * Number of distinct {@link Author}s, books are spread evenly across them.
+	 */
+	public static final int AUTHOR_COUNT = 100;
+
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSessionFactory() {
+	}
+
+	/**
+	 * Build a new {@link SessionFactoryImplementor} against a fresh in-memory database.
+	 *
+	 * @param additionalSettings Settings applied on top of the benchmark defaults
+	 */
+	public static SessionFactoryImplementor create(Map<String, Object> additionalSettings) {
+		final Configuration configuration = new Configuration()
+				.addAnnotatedClass( Author.class )
+				.addAnnotatedClass( Book.class )
+				.setProperty(
+						AvailableSettings.JAKARTA_JDBC_URL,
+						"jdbc:h2:mem:bench" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1"
+				)
+				.setProperty( AvailableSettings.JAKARTA_JDBC_USER, "sa" )
+				.setProperty( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.setProperty( AvailableSettings.SHOW_SQL, false )
+				.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, 50 );
+		additionalSettings.forEach( (name, value) -> configuration.getProperties().put( name, value ) );
+		return (SessionFactoryImplementor) configuration.buildSessionFactory();
+	}
+
+	/**
+	 * Build a new {@link SessionFactoryImplementor} using only the benchmark defaults.
+	 */
+	public static SessionFactoryImplementor create() {
+		return create( Map.of() );
+	}
+
+	/**
+	 * Insert {@code bookCount} books, with ids {@code 1..bookCount}.
+	 */
+	public static void populate(SessionFactoryImplementor sessionFactory, int bookCount) {
+		sessionFactory.inStatelessTransaction( session -> {
+			final Author[] authors = new Author[AUTHOR_COUNT];
+			for ( int i = 0; i < AUTHOR_COUNT; i++ ) {
+				authors[i] = new Author( (long) i + 1, "Author " + ( i + 1 ) );
+				session.insert( authors[i] );
+			}
+			for ( long id = 1; id <= bookCount; id++ ) {
+				session.insert( new Book( id, "Book " + id, authors[(int) ( id % AUTHOR_COUNT )] ) );
+			}
+		} );
+	}
+}
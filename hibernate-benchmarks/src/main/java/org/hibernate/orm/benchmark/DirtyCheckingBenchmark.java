@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the flush of a session holding many managed entities, which is
+ * dominated by the dirty checking done in {@code DefaultFlushEntityEventListener}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DirtyCheckingBenchmark {
+	@Param({ "1000", "50000" })
+	int managedCount;
+
+	SessionFactoryImplementor sessionFactory;
+	Session session;
+	List<Book> books;
+	int counter;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.create();
+		BenchmarkSessionFactory.populate( sessionFactory, managedCount );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void openSession() {
+		session = sessionFactory.openSession();
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+		session.getTransaction().begin();
+		books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	/**
+	 * Flushes a session in which nothing changed, so that every entity
+	 * is dirty checked and no SQL is executed.
+	 */
+	@Benchmark
+	public void flushUnmodified() {
+		session.flush();
+	}
+
+	/**
+	 * Flushes a session in which a single entity changed.
+	 */
+	@Benchmark
+	public void flushOneModified() {
+		books.get( counter++ % managedCount ).setPages( counter );
+		session.flush();
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.internal.EntityKeyMap;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link EntityKeyMap} used by the {@code StatefulPersistenceContext}
+ * to hold entity instances against the {@link HashMap} it replaced. Run with
+ * {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EntityKeyMapBenchmark {
+	@Param({ "1000", "500000" })
+	int entityCount;
+
+	@Param({ "HashMap", "EntityKeyMap" })
+	String implementation;
+
+	SessionFactoryImplementor sessionFactory;
+	EntityPersister persister;
+
+	EntityKey[] keys;
+	Object[] values;
+
+	Map<EntityKey, Object> populated;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.create();
+		persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		keys = new EntityKey[entityCount];
+		values = new Object[entityCount];
+		populated = newMap();
+		for ( int i = 0; i < entityCount; i++ ) {
+			keys[i] = new EntityKey( i + 1L, persister );
+			values[i] = new Object();
+			populated.put( keys[i], values[i] );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	private Map<EntityKey, Object> newMap() {
+		return "HashMap".equals( implementation ) ? new HashMap<>( 8 ) : new EntityKeyMap<>( 8 );
+	}
+
+	/**
+	 * Fills a new map, growing it from its initial size like a session does.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 20)
+	@Measurement(iterations = 50)
+	public Map<EntityKey, Object> fill() {
+		final Map<EntityKey, Object> map = newMap();
+		for ( int i = 0; i < entityCount; i++ ) {
+			map.putIfAbsent( keys[i], values[i] );
+		}
+		return map;
+	}
+
+	@Benchmark
+	public Object lookupHit() {
+		return populated.get( keys[ThreadLocalRandom.current().nextInt( entityCount )] );
+	}
+
+	/**
+	 * Looks up an identifier which is not in the map, building the
+	 * {@link EntityKey} like the load paths do.
+	 */
+	@Benchmark
+	public Object lookupMiss() {
+		final long id = entityCount + 1L + ThreadLocalRandom.current().nextInt( entityCount );
+		return populated.get( new EntityKey( id, persister ) );
+	}
+
+	/**
+	 * Removes a random entry and puts it back.
+	 */
+	@Benchmark
+	public Object removeAndPut() {
+		final int index = ThreadLocalRandom.current().nextInt( entityCount );
+		populated.remove( keys[index] );
+		return populated.put( keys[index], values[index] );
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the sorting of the queued insert actions when
+ * {@value AvailableSettings#ORDER_INSERTS} is enabled, for a flush
+ * which interleaves each {@link Author} with its {@link Book}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+public class InsertOrderingBenchmark {
+	@Param({ "1000", "20000" })
+	int entityCount;
+
+	SessionFactoryImplementor sessionFactory;
+	SessionImplementor session;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.create( Map.of( AvailableSettings.ORDER_INSERTS, true ) );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Invocation)
+	public void queueInserts() {
+		session = (SessionImplementor) sessionFactory.openSession();
+		final int booksPerAuthor = Math.max( 1, entityCount / BenchmarkSessionFactory.AUTHOR_COUNT - 1 );
+		long id = 0;
+		while ( id < entityCount ) {
+			final Author author = new Author( ++id, "Author " + id );
+			session.persist( author );
+			for ( int i = 0; i < booksPerAuthor && id < entityCount; i++ ) {
+				session.persist( new Book( ++id, "Book " + id, author ) );
+			}
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void discardInserts() {
+		session.close();
+	}
+
+	@Benchmark
+	public void sortActions() {
+		session.getActionQueue().sortActions();
+	}
+}
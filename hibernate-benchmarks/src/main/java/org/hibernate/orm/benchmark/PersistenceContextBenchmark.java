@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures registration and lookup of entity instances in the
+ * {@code StatefulPersistenceContext}, without any database access.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PersistenceContextBenchmark {
+	@Param({ "1000", "100000" })
+	int entityCount;
+
+	SessionFactoryImplementor sessionFactory;
+	EntityPersister persister;
+
+	Book[] books;
+	EntityKey[] keys;
+
+	/**
+	 * Receives the books in {@link #addEntities()}, and is cleared after each call.
+	 */
+	SessionImplementor emptySession;
+
+	/**
+	 * Holds every book, for the lookups.
+	 */
+	SessionImplementor populatedSession;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.create();
+		persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		emptySession = (SessionImplementor) sessionFactory.openSession();
+		populatedSession = (SessionImplementor) sessionFactory.openSession();
+
+		final Author author = new Author( 1L, "Author" );
+		books = new Book[entityCount];
+		keys = new EntityKey[entityCount];
+		final PersistenceContext populated = populatedSession.getPersistenceContextInternal();
+		for ( int i = 0; i < entityCount; i++ ) {
+			final long id = i + 1;
+			books[i] = new Book( id, "Book " + id, author );
+			keys[i] = populatedSession.generateEntityKey( id, persister );
+			populated.addEntity( keys[i], books[i] );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		emptySession.close();
+		populatedSession.close();
+		sessionFactory.close();
+	}
+
+	/**
+	 * Registers every book, then clears the context again.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 20)
+	@Measurement(iterations = 50)
+	public void addEntities() {
+		final PersistenceContext persistenceContext = emptySession.getPersistenceContextInternal();
+		for ( int i = 0; i < entityCount; i++ ) {
+			persistenceContext.addEntity( keys[i], books[i] );
+		}
+		persistenceContext.clear();
+	}
+
+	/**
+	 * Looks up a managed book using a pre-built {@link EntityKey}.
+	 */
+	@Benchmark
+	public Object lookupHit() {
+		return populatedSession.getPersistenceContextInternal()
+				.getEntity( keys[ThreadLocalRandom.current().nextInt( entityCount )] );
+	}
+
+	/**
+	 * Looks up a book which is not managed, building the {@link EntityKey}
+	 * like the load paths do.
+	 */
+	@Benchmark
+	public Object lookupMiss() {
+		final long id = entityCount + 1L + ThreadLocalRandom.current().nextInt( entityCount );
+		return populatedSession.getPersistenceContextInternal()
+				.getEntity( populatedSession.generateEntityKey( id, persister ) );
+	}
+
+	/**
+	 * Looks up a managed book by persister and identifier, without building
+	 * an {@link EntityKey}.
+	 */
+	@Benchmark
+	public Object lookupHitById() {
+		final long id = 1L + ThreadLocalRandom.current().nextInt( entityCount );
+		return populatedSession.getPersistenceContextInternal().getEntity( persister, id );
+	}
+
+	/**
+	 * Looks up a book which is not managed by persister and identifier,
+	 * without building an {@link EntityKey}.
+	 */
+	@Benchmark
+	public Object lookupMissById() {
+		final long id = entityCount + 1L + ThreadLocalRandom.current().nextInt( entityCount );
+		return populatedSession.getPersistenceContextInternal().getEntity( persister, id );
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code SessionImpl.find}, both when the entity has to be loaded
+ * from the database and when it is already managed by the session.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SessionFindBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class Database {
+		@Param({ "1000" })
+		int bookCount;
+
+		SessionFactoryImplementor sessionFactory;
+
+		@Setup
+		public void setUp() {
+			sessionFactory = BenchmarkSessionFactory.create();
+			BenchmarkSessionFactory.populate( sessionFactory, bookCount );
+		}
+
+		@TearDown
+		public void tearDown() {
+			sessionFactory.close();
+		}
+
+		long randomId() {
+			return ThreadLocalRandom.current().nextLong( bookCount ) + 1;
+		}
+	}
+
+	/**
+	 * A session which already holds every book in its persistence context.
+	 */
+	@State(Scope.Thread)
+	public static class ManagedBooks {
+		Session session;
+
+		@Setup(Level.Iteration)
+		public void setUp(Database database) {
+			session = database.sessionFactory.openSession();
+			session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public Book findInNewSession(Database database) {
+		try ( Session session = database.sessionFactory.openSession() ) {
+			return session.find( Book.class, database.randomId() );
+		}
+	}
+
+	@Benchmark
+	public Book findManaged(Database database, ManagedBooks managedBooks) {
+		return managedBooks.session.find( Book.class, database.randomId() );
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.internal.SqmQueryImpl;
+import org.hibernate.query.sqm.sql.internal.StandardSqmTranslator;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the translation of an already interpreted SQM tree into a SQL AST by
+ * {@code BaseSqmToSqlAstConverter}, and of that SQL AST into a JDBC operation
+ * by the {@code AbstractSqlAstTranslator} of the dialect.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SqmTranslationBenchmark {
+	@Param({ "simple", "join", "complex" })
+	String query;
+
+	SessionFactoryImplementor sessionFactory;
+	SessionImplementor session;
+	SqmQueryImpl<?> sqmQuery;
+	SelectStatement sqlAst;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.create();
+		session = (SessionImplementor) sessionFactory.openSession();
+		sqmQuery = (SqmQueryImpl<?>) session.createQuery( BenchmarkQueries.hql( query ), Object.class );
+		sqlAst = toSqlAst();
+	}
+
+	@TearDown
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SelectStatement toSqlAst() {
+		return new StandardSqmTranslator<SelectStatement>(
+				(SqmSelectStatement<?>) sqmQuery.getSqmStatement(),
+				sqmQuery.getQueryOptions(),
+				sqmQuery.getDomainParameterXref(),
+				sqmQuery.getParameterBindings(),
+				session.getLoadQueryInfluencers(),
+				sessionFactory.getSqlTranslationEngine(),
+				true
+		).translate().getSqlAst();
+	}
+
+	@Benchmark
+	public JdbcOperationQuerySelect toJdbcOperation() {
+		return sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( null, QueryOptions.NONE );
+	}
+}
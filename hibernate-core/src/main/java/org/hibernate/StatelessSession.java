@@ -110,6 +110,34 @@ public interface StatelessSession extends SharedSessionContract {
 	@Incubating
 	void insertMultiple(List<?> entities);
 
+	/**
+	 * Insert multiple records, loading the rows of each table using the
+	 * most efficient mechanism offered by the database and its JDBC driver,
+	 * for example, {@code copy ... from stdin} on PostgreSQL. Where no such
+	 * mechanism is available, the rows are inserted using multi-row insert
+	 * statements.
+	 * <p>
+	 * The records are inserted grouped by entity type, in the order in which
+	 * each entity type first occurs in the given list. The records of an entity
+	 * whose identifier is generated by the database, or which has any value
+	 * generated by the database, or which is mapped with custom SQL or dynamic
+	 * inserts, are inserted as if by {@link #insertMultiple}.
+	 * <p>
+	 * The {@link jakarta.persistence.PostPersist} callbacks are triggered after
+	 * all the records of an entity type have been inserted.
+	 * <p>
+	 * If the insertion fails, some of the records may already have been
+	 * inserted, and so the transaction should be rolled back.
+	 *
+	 * @param entities a list of transient instances to be inserted
+	 *
+	 * @see org.hibernate.dialect.Dialect#getBulkInsertSupport
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	void bulkInsert(List<?> entities);
+
 	/**
 	 * Insert a record.
 	 * <p>
@@ -0,0 +1,442 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.action.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.hibernate.engine.spi.ExecutableList;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Sorts the insert actions of a flush when {@linkplain org.hibernate.cfg.BatchSettings#ORDER_INSERTS
+ * insert ordering} is enabled, so that the inserts of each entity are grouped together and can be
+ * batched, without violating foreign key constraints.
+ * <p>
+ * The graph of foreign key dependencies between entities is built once per session factory, and
+ * partitioned into strongly connected components. A flush is then sorted in two steps:
+ * <ol>
+ * <li>the insert actions are bucketed by component, in a single pass, and the buckets are emitted
+ *     in topological order, ties being broken by order of first appearance, and
+ * <li>the bucket of an acyclic component, that is, of a single entity which does not reference
+ *     itself, keeps its original order, while the bucket of a cyclic component is sorted according
+ *     to the dependencies between the entity instances, emitting the inserts of the same entity
+ *     consecutively whenever possible.
+ * </ol>
+ * <p>
+ * A reference to an instance which was still transient when the referencing entity was persisted
+ * is inserted as null, and set by an update later on, so no cycle is expected between instances.
+ * Should there be one anyway, the inserts which could not be sorted keep their original order.
+ *
+ * @since 7.1
+ */
+public final class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( InsertActionSorter.class );
+
+	private final MappingMetamodelImplementor mappingMetamodel;
+	// roles of the one-to-many associations, whose elements are inserted after their owner
+	private final Set<String> oneToManyRoles = new HashSet<>();
+	private final Map<String, Integer> componentsByEntityName;
+	// for each component, the other components whose inserts must be executed before its inserts
+	private final int[][] dependencies;
+	// for each component, the other components whose inserts must be executed after its inserts
+	private final int[][] dependents;
+	private final boolean[] cyclic;
+
+	public InsertActionSorter(MappingMetamodelImplementor mappingMetamodel) {
+		this.mappingMetamodel = mappingMetamodel;
+
+		final List<EntityPersister> persisters = new ArrayList<>();
+		final Map<String, Integer> entityIndexes = new HashMap<>();
+		mappingMetamodel.forEachEntityDescriptor( persister -> {
+			entityIndexes.put( persister.getEntityName(), persisters.size() );
+			persisters.add( persister );
+		} );
+		final int entityCount = persisters.size();
+
+		// for each entity, the entities whose inserts must be executed before its inserts
+		final BitSet[] entityDependencies = new BitSet[entityCount];
+		for ( int i = 0; i < entityCount; i++ ) {
+			entityDependencies[i] = new BitSet( entityCount );
+		}
+		for ( int i = 0; i < entityCount; i++ ) {
+			for ( Type propertyType : persisters.get( i ).getPropertyTypes() ) {
+				addEntityDependencies( i, propertyType, entityIndexes, entityDependencies );
+			}
+		}
+
+		final int[] entityComponents = new StronglyConnectedComponents( entityDependencies ).components;
+		int componentCount = 0;
+		componentsByEntityName = new HashMap<>( entityCount );
+		for ( int i = 0; i < entityCount; i++ ) {
+			componentsByEntityName.put( persisters.get( i ).getEntityName(), entityComponents[i] );
+			componentCount = Math.max( componentCount, entityComponents[i] + 1 );
+		}
+
+		final BitSet[] componentDependencies = new BitSet[componentCount];
+		final BitSet[] componentDependents = new BitSet[componentCount];
+		final int[] componentSizes = new int[componentCount];
+		for ( int i = 0; i < componentCount; i++ ) {
+			componentDependencies[i] = new BitSet( componentCount );
+			componentDependents[i] = new BitSet( componentCount );
+		}
+		cyclic = new boolean[componentCount];
+		for ( int i = 0; i < entityCount; i++ ) {
+			final int component = entityComponents[i];
+			componentSizes[component]++;
+			final BitSet entityDependency = entityDependencies[i];
+			for ( int j = entityDependency.nextSetBit( 0 ); j >= 0; j = entityDependency.nextSetBit( j + 1 ) ) {
+				final int dependencyComponent = entityComponents[j];
+				if ( dependencyComponent == component ) {
+					cyclic[component] = true;
+				}
+				else {
+					componentDependencies[component].set( dependencyComponent );
+					componentDependents[dependencyComponent].set( component );
+				}
+			}
+		}
+		dependencies = new int[componentCount][];
+		dependents = new int[componentCount][];
+		for ( int i = 0; i < componentCount; i++ ) {
+			cyclic[i] = cyclic[i] || componentSizes[i] > 1;
+			dependencies[i] = componentDependencies[i].stream().toArray();
+			dependents[i] = componentDependents[i].stream().toArray();
+		}
+	}
+
+	private void addEntityDependencies(
+			int entity,
+			Type type,
+			Map<String, Integer> entityIndexes,
+			BitSet[] entityDependencies) {
+		if ( type instanceof EntityType entityType ) {
+			final EntityPersister associated =
+					mappingMetamodel.findEntityDescriptor( entityType.getAssociatedEntityName() );
+			if ( associated != null ) {
+				final boolean inverse = entityType.isOneToOne()
+						&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT;
+				if ( !inverse ) {
+					for ( String subclass : associated.getSubclassEntityNames() ) {
+						final Integer dependency = entityIndexes.get( subclass );
+						if ( dependency != null ) {
+							entityDependencies[entity].set( dependency );
+						}
+					}
+				}
+				else if ( !entityType.isReferenceToPrimaryKey() ) {
+					for ( String subclass : associated.getSubclassEntityNames() ) {
+						final Integer dependent = entityIndexes.get( subclass );
+						if ( dependent != null ) {
+							entityDependencies[dependent].set( entity );
+						}
+					}
+				}
+			}
+		}
+		else if ( type instanceof CollectionType collectionType ) {
+			final PluralAttributeMapping pluralAttributeMapping =
+					mappingMetamodel.getCollectionDescriptor( collectionType.getRole() ).getAttributeMapping();
+			// We only care about one-to-many associations, because for these,
+			// the elements depend on the collection owner
+			if ( pluralAttributeMapping.getCollectionDescriptor().isOneToMany()
+					&& pluralAttributeMapping.getElementDescriptor() instanceof EntityCollectionPart elementPart ) {
+				oneToManyRoles.add( collectionType.getRole() );
+				for ( String subclass : elementPart.getAssociatedEntityMappingType().getSubclassEntityNames() ) {
+					final Integer dependent = entityIndexes.get( subclass );
+					if ( dependent != null ) {
+						entityDependencies[dependent].set( entity );
+					}
+				}
+			}
+		}
+		else if ( type instanceof ComponentType componentType ) {
+			for ( Type subtype : componentType.getSubtypes() ) {
+				addEntityDependencies( entity, subtype, entityIndexes, entityDependencies );
+			}
+		}
+	}
+
+	/**
+	 * Sort the insert actions.
+	 */
+	@Override
+	public void sort(List<AbstractEntityInsertAction> insertions) {
+		final int[] positions = new int[cyclic.length];
+		Arrays.fill( positions, -1 );
+		final int[] presentComponents = new int[cyclic.length];
+		final List<List<AbstractEntityInsertAction>> buckets = new ArrayList<>();
+		for ( AbstractEntityInsertAction insertion : insertions ) {
+			final Integer component = componentsByEntityName.get( insertion.getEntityName() );
+			if ( component == null ) {
+				// not an entity of this factory, should never happen
+				return;
+			}
+			int position = positions[component];
+			if ( position < 0 ) {
+				position = positions[component] = buckets.size();
+				presentComponents[position] = component;
+				buckets.add( new ArrayList<>() );
+			}
+			buckets.get( position ).add( insertion );
+		}
+		final int bucketCount = buckets.size();
+		if ( bucketCount == 1 && !cyclic[presentComponents[0]] ) {
+			return;
+		}
+
+		// Kahn's algorithm over the components having inserts, taking the
+		// component which appeared first whenever there is a choice
+		final int[] pendingDependencies = new int[bucketCount];
+		final PriorityQueue<Integer> ready = new PriorityQueue<>();
+		for ( int position = 0; position < bucketCount; position++ ) {
+			for ( int dependency : dependencies[presentComponents[position]] ) {
+				if ( positions[dependency] >= 0 ) {
+					pendingDependencies[position]++;
+				}
+			}
+			if ( pendingDependencies[position] == 0 ) {
+				ready.add( position );
+			}
+		}
+		final int insertionCount = insertions.size();
+		insertions.clear();
+		while ( !ready.isEmpty() ) {
+			final int position = ready.poll();
+			final int component = presentComponents[position];
+			if ( cyclic[component] ) {
+				sortCyclicComponent( buckets.get( position ), insertions );
+			}
+			else {
+				insertions.addAll( buckets.get( position ) );
+			}
+			for ( int dependent : dependents[component] ) {
+				final int dependentPosition = positions[dependent];
+				if ( dependentPosition >= 0 && --pendingDependencies[dependentPosition] == 0 ) {
+					ready.add( dependentPosition );
+				}
+			}
+		}
+		assert insertions.size() == insertionCount;
+	}
+
+	private void sortCyclicComponent(
+			List<AbstractEntityInsertAction> insertions,
+			List<AbstractEntityInsertAction> sorted) {
+		final int insertionCount = insertions.size();
+		final InsertNode[] nodes = new InsertNode[insertionCount];
+		// A map of all nodes keyed by the entity instance
+		// This is needed to discover the dependencies between the inserts
+		final IdentityHashMap<Object, InsertNode> nodesByEntity = new IdentityHashMap<>( insertionCount );
+		for ( int i = 0; i < insertionCount; i++ ) {
+			final AbstractEntityInsertAction insertion = insertions.get( i );
+			nodes[i] = new InsertNode( insertion );
+			nodesByEntity.put( insertion.getInstance(), nodes[i] );
+		}
+		for ( InsertNode node : nodes ) {
+			final Object[] propertyValues = node.insertion.getState();
+			final Type[] propertyTypes = node.insertion.getPersister().getPropertyTypes();
+			for ( int i = 0; i < propertyTypes.length; i++ ) {
+				addInstanceDependencies( node, propertyTypes[i], propertyValues[i], nodesByEntity );
+			}
+		}
+
+		// Kahn's algorithm over the inserts, draining the inserts
+		// of one entity before moving on to the next entity
+		final LinkedHashMap<String, ArrayDeque<InsertNode>> readyByEntityName = new LinkedHashMap<>();
+		for ( InsertNode node : nodes ) {
+			if ( node.pendingDependencies == 0 ) {
+				enqueue( node, readyByEntityName );
+			}
+		}
+		ArrayDeque<InsertNode> current = null;
+		int sortedCount = 0;
+		while ( sortedCount < insertionCount ) {
+			if ( current == null || current.isEmpty() ) {
+				current = nextNonEmpty( readyByEntityName );
+				if ( current == null ) {
+					break;
+				}
+			}
+			final InsertNode node = current.poll();
+			node.sorted = true;
+			sorted.add( node.insertion );
+			sortedCount++;
+			if ( node.dependents != null ) {
+				for ( InsertNode dependent : node.dependents ) {
+					if ( --dependent.pendingDependencies == 0 ) {
+						enqueue( dependent, readyByEntityName );
+					}
+				}
+			}
+		}
+		if ( sortedCount < insertionCount ) {
+			LOG.warn( "The batch containing " + insertionCount + " statements could not be sorted. "
+					+ "This might indicate a circular entity relationship." );
+			for ( InsertNode node : nodes ) {
+				if ( !node.sorted ) {
+					sorted.add( node.insertion );
+				}
+			}
+		}
+	}
+
+	private static void enqueue(InsertNode node, Map<String, ArrayDeque<InsertNode>> readyByEntityName) {
+		readyByEntityName.computeIfAbsent( node.insertion.getEntityName(), name -> new ArrayDeque<>() ).add( node );
+	}
+
+	private static @Nullable ArrayDeque<InsertNode> nextNonEmpty(Map<String, ArrayDeque<InsertNode>> readyByEntityName) {
+		for ( ArrayDeque<InsertNode> queue : readyByEntityName.values() ) {
+			if ( !queue.isEmpty() ) {
+				return queue;
+			}
+		}
+		return null;
+	}
+
+	private void addInstanceDependencies(
+			InsertNode node,
+			Type type,
+			@Nullable Object value,
+			IdentityHashMap<Object, InsertNode> nodesByEntity) {
+		if ( value == null ) {
+			return;
+		}
+		if ( type instanceof EntityType entityType ) {
+			final InsertNode other = nodesByEntity.get( value );
+			if ( other != null && other != node ) {
+				if ( entityType.isOneToOne()
+						&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+					if ( !entityType.isReferenceToPrimaryKey() ) {
+						node.precedes( other );
+					}
+				}
+				else {
+					other.precedes( node );
+				}
+			}
+		}
+		else if ( type instanceof CollectionType collectionType ) {
+			if ( oneToManyRoles.contains( collectionType.getRole() ) ) {
+				final Iterator<?> elementsIterator = collectionType.getElementsIterator( value );
+				while ( elementsIterator.hasNext() ) {
+					final InsertNode other = nodesByEntity.get( elementsIterator.next() );
+					if ( other != null && other != node ) {
+						node.precedes( other );
+					}
+				}
+			}
+		}
+		else if ( type instanceof ComponentType componentType ) {
+			// Support recursive checks of composite type properties for associations and collections.
+			final Object[] componentValues = componentType.getPropertyValues( value, node.insertion.getSession() );
+			final Type[] subtypes = componentType.getSubtypes();
+			for ( int i = 0; i < componentValues.length; i++ ) {
+				addInstanceDependencies( node, subtypes[i], componentValues[i], nodesByEntity );
+			}
+		}
+	}
+
+	private static final class InsertNode {
+		private final AbstractEntityInsertAction insertion;
+		// Inserts which must be executed after this insert
+		private @Nullable List<InsertNode> dependents;
+		private int pendingDependencies;
+		private boolean sorted;
+
+		private InsertNode(AbstractEntityInsertAction insertion) {
+			this.insertion = insertion;
+		}
+
+		private void precedes(InsertNode dependent) {
+			if ( dependents == null ) {
+				dependents = new ArrayList<>();
+			}
+			dependents.add( dependent );
+			dependent.pendingDependencies++;
+		}
+	}
+
+	/**
+	 * Tarjan's algorithm, numbering the components of a dependency graph.
+	 */
+	private static final class StronglyConnectedComponents {
+		private final BitSet[] dependencies;
+		private final int[] indexes;
+		private final int[] lowLinks;
+		private final boolean[] onStack;
+		private final int[] stack;
+		private final int[] components;
+		private int stackSize;
+		private int index;
+		private int componentCount;
+
+		private StronglyConnectedComponents(BitSet[] dependencies) {
+			final int count = dependencies.length;
+			this.dependencies = dependencies;
+			indexes = new int[count];
+			lowLinks = new int[count];
+			onStack = new boolean[count];
+			stack = new int[count];
+			components = new int[count];
+			Arrays.fill( indexes, -1 );
+			for ( int i = 0; i < count; i++ ) {
+				if ( indexes[i] < 0 ) {
+					visit( i );
+				}
+			}
+		}
+
+		private void visit(int vertex) {
+			indexes[vertex] = lowLinks[vertex] = index++;
+			stack[stackSize++] = vertex;
+			onStack[vertex] = true;
+			final BitSet successors = dependencies[vertex];
+			for ( int successor = successors.nextSetBit( 0 ); successor >= 0;
+					successor = successors.nextSetBit( successor + 1 ) ) {
+				if ( indexes[successor] < 0 ) {
+					visit( successor );
+					lowLinks[vertex] = Math.min( lowLinks[vertex], lowLinks[successor] );
+				}
+				else if ( onStack[successor] ) {
+					lowLinks[vertex] = Math.min( lowLinks[vertex], indexes[successor] );
+				}
+			}
+			if ( lowLinks[vertex] == indexes[vertex] ) {
+				int member;
+				do {
+					member = stack[--stackSize];
+					onStack[member] = false;
+					components[member] = componentCount;
+				}
+				while ( member != vertex );
+				componentCount++;
+			}
+		}
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.Incubating;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Specifies that the snapshot of the loaded state of the annotated entity,
+ * which is kept by the session for dirty checking, is stored in a compact
+ * format, with the values of attributes of primitive or primitive wrapper
+ * type packed into bits instead of held as boxed objects.
+ * <p>
+ * This reduces the memory used by a session holding many instances of the
+ * entity, at the cost of expanding the snapshot when it is first needed by
+ * a flush, which does not happen if the entity is enhanced for dirty tracking
+ * and not modified.
+ * <p>
+ * The annotation applies to subclasses of the annotated entity. A compact
+ * snapshot may be enabled for every entity using the configuration property
+ * {@value org.hibernate.cfg.MappingSettings#COMPACT_SNAPSHOTS}.
+ *
+ * @since 7.1
+ */
+@Incubating
+@Target( TYPE )
+@Retention( RUNTIME )
+public @interface CompactSnapshot {
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.internal;
+
+import java.nio.file.Path;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.internal.HqlInterpretationCacheStore;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_STORE_DIRECTORY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+
+/**
+ * Responsible for {@linkplain HqlInterpretationCacheStore saving} the HQL queries
+ * held by the {@link QueryInterpretationCache} when the {@link SessionFactory} is
+ * closed, and for interpreting them again when it is next created.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_STORE_DIRECTORY
+ */
+class SessionFactoryObserverForHqlInterpretationStore implements SessionFactoryObserver {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private HqlInterpretationCacheStore store;
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final String directory = getString( QUERY_PLAN_CACHE_STORE_DIRECTORY, sessionFactory.getProperties() );
+		if ( directory != null ) {
+			final String name = sessionFactory.getName();
+			final String fileName = name == null
+					? "hql-queries.dat"
+					: "hql-queries-" + name.replaceAll( "[^A-Za-z0-9._-]", "_" ) + ".dat";
+			store = new HqlInterpretationCacheStore(
+					Path.of( directory ).resolve( fileName ),
+					HqlInterpretationCacheStore.fingerprint( sessionFactory )
+			);
+
+			final QueryInterpretationCache interpretationCache =
+					sessionFactory.getQueryEngine().getInterpretationCache();
+			final HqlTranslator translator = sessionFactory.getQueryEngine().getHqlTranslator();
+			for ( String queryString : store.load() ) {
+				try {
+					interpretationCache.resolveHqlInterpretation( queryString, null, translator );
+				}
+				catch (RuntimeException e) {
+					log.debugf( e, "Skipping saved HQL query which could not be interpreted: %s", queryString );
+				}
+			}
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		if ( store != null ) {
+			store.save( ( (SessionFactoryImplementor) factory ).getQueryEngine()
+					.getInterpretationCache().getCachedHqlQueryStrings() );
+		}
+	}
+}
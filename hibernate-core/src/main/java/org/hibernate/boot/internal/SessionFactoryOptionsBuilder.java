@@ -65,9 +65,11 @@
 import org.hibernate.jpa.spi.MutableJpaCompliance;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.spi.ImmutableEntityUpdateQueryHandlingMode;
+import org.hibernate.query.spi.InClauseParameterPaddingStrategy;
 import org.hibernate.query.NullPrecedence;
 import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.internal.InClauseParameterPaddingStrategies;
 import org.hibernate.query.internal.NullPrecedenceHelper;
 import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
@@ -98,6 +100,7 @@
 import static org.hibernate.cfg.DialectSpecificSettings.ORACLE_OSON_DISABLED;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
+import static org.hibernate.cfg.QuerySettings.GENERATED_ROW_READERS;
 import static org.hibernate.cfg.QuerySettings.JSON_FUNCTIONS_ENABLED;
 import static org.hibernate.cfg.QuerySettings.PORTABLE_INTEGER_DIVISION;
 import static org.hibernate.cfg.QuerySettings.XML_FUNCTIONS_ENABLED;
@@ -245,6 +248,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
+	private final InClauseParameterPaddingStrategy inClauseParameterPaddingStrategy;
+	private final boolean inClauseArrayParameterEnabled;
+	private final boolean skipUnmodifiedOnFlushEnabled;
+	private final boolean compactSnapshotsEnabled;
+	private final boolean deferSnapshotsEnabled;
+	private final boolean generatedRowReadersEnabled;
 
 	private final boolean portableIntegerDivisionEnabled;
 	private final boolean jsonFunctionsEnabled;
@@ -528,6 +537,14 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 		defaultSchema = getString( DEFAULT_SCHEMA, settings );
 
 		inClauseParameterPaddingEnabled = getBoolean( IN_CLAUSE_PARAMETER_PADDING, settings );
+		inClauseParameterPaddingStrategy =
+				InClauseParameterPaddingStrategies.interpret(
+						settings.get( IN_CLAUSE_PARAMETER_PADDING_STRATEGY ), strategySelector );
+		inClauseArrayParameterEnabled = getBoolean( IN_CLAUSE_ARRAY_PARAMETER, settings );
+		skipUnmodifiedOnFlushEnabled = getBoolean( SKIP_UNMODIFIED_ON_FLUSH, settings );
+		compactSnapshotsEnabled = getBoolean( COMPACT_SNAPSHOTS, settings );
+		deferSnapshotsEnabled = getBoolean( DEFER_SNAPSHOTS, settings );
+		generatedRowReadersEnabled = getBoolean( GENERATED_ROW_READERS, settings );
 
 		portableIntegerDivisionEnabled = getBoolean( PORTABLE_INTEGER_DIVISION, settings );
 
@@ -1198,6 +1215,36 @@ public boolean inClauseParameterPaddingEnabled() {
 		return inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public InClauseParameterPaddingStrategy getInClauseParameterPaddingStrategy() {
+		return inClauseParameterPaddingStrategy;
+	}
+
+	@Override
+	public boolean isInClauseArrayParameterEnabled() {
+		return inClauseArrayParameterEnabled;
+	}
+
+	@Override
+	public boolean isSkipUnmodifiedOnFlushEnabled() {
+		return skipUnmodifiedOnFlushEnabled;
+	}
+
+	@Override
+	public boolean isCompactSnapshotsEnabled() {
+		return compactSnapshotsEnabled;
+	}
+
+	@Override
+	public boolean isDeferSnapshotsEnabled() {
+		return deferSnapshotsEnabled;
+	}
+
+	@Override
+	public boolean isGeneratedRowReadersEnabled() {
+		return generatedRowReadersEnabled;
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return jsonFunctionsEnabled;
@@ -1265,6 +1265,7 @@ private void bindEntity() {
 		bindRowManagement();
 		bindOptimisticLocking();
 		bindConcreteProxy();
+		bindCompactSnapshot();
 		bindSqlRestriction();
 		bindCache();
 		bindNaturalIdCache();
@@ -1596,6 +1597,11 @@ private void bindConcreteProxy() {
 		}
 	}
 
+	private void bindCompactSnapshot() {
+		persistentClass.setCompactSnapshot(
+				annotatedClass.hasAnnotationUsage( CompactSnapshot.class, modelsContext() ) );
+	}
+
 	private void bindSqlRestriction() {
 		final SQLRestriction restriction = extractSQLRestriction( annotatedClass );
 		if ( restriction != null ) {
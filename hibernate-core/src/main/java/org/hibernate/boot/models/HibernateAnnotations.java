@@ -194,6 +194,10 @@ public interface HibernateAnnotations {
 			CompositeTypeRegistrationAnnotation.class,
 			COMPOSITE_TYPE_REGISTRATIONS
 	);
+	OrmAnnotationDescriptor<CompactSnapshot,CompactSnapshotAnnotation> COMPACT_SNAPSHOT = new OrmAnnotationDescriptor<>(
+			CompactSnapshot.class,
+			CompactSnapshotAnnotation.class
+	);
 	OrmAnnotationDescriptor<ConcreteProxy,ConcreteProxyAnnotation> CONCRETE_PROXY = new OrmAnnotationDescriptor<>(
 			ConcreteProxy.class,
 			ConcreteProxyAnnotation.class
@@ -29,6 +29,7 @@
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.spi.ImmutableEntityUpdateQueryHandlingMode;
+import org.hibernate.query.spi.InClauseParameterPaddingStrategy;
 import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
@@ -444,6 +445,36 @@ public boolean inClauseParameterPaddingEnabled() {
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public InClauseParameterPaddingStrategy getInClauseParameterPaddingStrategy() {
+		return delegate.getInClauseParameterPaddingStrategy();
+	}
+
+	@Override
+	public boolean isInClauseArrayParameterEnabled() {
+		return delegate.isInClauseArrayParameterEnabled();
+	}
+
+	@Override
+	public boolean isSkipUnmodifiedOnFlushEnabled() {
+		return delegate.isSkipUnmodifiedOnFlushEnabled();
+	}
+
+	@Override
+	public boolean isCompactSnapshotsEnabled() {
+		return delegate.isCompactSnapshotsEnabled();
+	}
+
+	@Override
+	public boolean isDeferSnapshotsEnabled() {
+		return delegate.isDeferSnapshotsEnabled();
+	}
+
+	@Override
+	public boolean isGeneratedRowReadersEnabled() {
+		return delegate.isGeneratedRowReadersEnabled();
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return delegate.isJsonFunctionsEnabled();
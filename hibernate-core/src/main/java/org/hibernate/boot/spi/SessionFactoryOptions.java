@@ -33,6 +33,7 @@
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.proxy.EntityNotFoundDelegate;
+import org.hibernate.query.spi.InClauseParameterPaddingStrategy;
 import org.hibernate.query.spi.QueryEngineOptions;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
@@ -584,6 +585,66 @@ default boolean inClauseParameterPaddingEnabled() {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING_STRATEGY
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default InClauseParameterPaddingStrategy getInClauseParameterPaddingStrategy() {
+		return InClauseParameterPaddingStrategy.POWER_OF_TWO;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_PARAMETER
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean isInClauseArrayParameterEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#SKIP_UNMODIFIED_ON_FLUSH
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean isSkipUnmodifiedOnFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#COMPACT_SNAPSHOTS
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean isCompactSnapshotsEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#DEFER_SNAPSHOTS
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean isDeferSnapshotsEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#GENERATED_ROW_READERS
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean isGeneratedRowReadersEnabled() {
+		return false;
+	}
+
 	/**
 	 * The number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that should be stored by {@link org.hibernate.stat.Statistics}.
@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.Map;
 
+import org.hibernate.bytecode.enhance.internal.tracker.ChangeNotifier;
 import org.hibernate.bytecode.enhance.internal.tracker.CompositeOwnerTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.NoopCollectionTracker;
@@ -86,12 +87,17 @@ static class ClearOwner {
 	static class TrackChange {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_trackChange(
+				@Advice.This Object self,
 				@Advice.Argument(0) String name,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
 			if ( $$_hibernate_tracker == null ) {
 				$$_hibernate_tracker = new SimpleFieldTracker();
 			}
+			final boolean wasEmpty = $$_hibernate_tracker.isEmpty();
 			$$_hibernate_tracker.add( name );
+			if ( wasEmpty && !$$_hibernate_tracker.isEmpty() ) {
+				ChangeNotifier.notifyFirstChange( self );
+			}
 		}
 	}
 
@@ -66,6 +66,11 @@ public String version() {
 			return Version.getVersionString();
 		}
 
+		@Override
+		public boolean notifiesChanges() {
+			return true;
+		}
+
 		@Override
 		public Class<? extends Annotation> annotationType() {
 			return EnhancementInfo.class;
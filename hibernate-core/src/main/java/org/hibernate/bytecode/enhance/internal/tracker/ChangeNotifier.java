@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.enhance.internal.tracker;
+
+import org.hibernate.bytecode.enhance.spi.EnhancementInfo;
+import org.hibernate.engine.internal.EntityEntryImpl;
+import org.hibernate.engine.spi.ManagedEntity;
+
+/**
+ * Notifies the session of an enhanced entity when the first field of the entity is
+ * modified, that is, when its dirty tracker goes from empty to non-empty.
+ * <p>
+ * Called from the enhanced {@code $$_hibernate_trackChange} method.
+ *
+ * @see org.hibernate.cfg.BytecodeSettings#SKIP_UNMODIFIED_ON_FLUSH
+ * @see org.hibernate.cfg.BytecodeSettings#DEFER_SNAPSHOTS
+ *
+ * @since 7.1
+ */
+public final class ChangeNotifier {
+
+	private static final ClassValue<Boolean> NOTIFYING = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			final EnhancementInfo info = type.getAnnotation( EnhancementInfo.class );
+			return info != null && info.notifiesChanges();
+		}
+	};
+
+	private ChangeNotifier() {
+	}
+
+	/**
+	 * @return true if and only if instances of the given enhanced class notify the
+	 *         session of their first modification
+	 */
+	public static boolean isNotifying(Class<?> type) {
+		return NOTIFYING.get( type );
+	}
+
+	public static void notifyFirstChange(Object entity) {
+		if ( entity instanceof ManagedEntity managedEntity
+				&& managedEntity.$$_hibernate_getEntityEntry() instanceof EntityEntryImpl entry ) {
+			entry.registerModified( entity );
+		}
+	}
+}
@@ -20,4 +20,14 @@
 	 * The Hibernate version used for enhancement.
 	 */
 	String version();
+
+	/**
+	 * Whether the enhanced class notifies the session when a field of an entity is
+	 * first modified.
+	 *
+	 * @see org.hibernate.cfg.BytecodeSettings#SKIP_UNMODIFIED_ON_FLUSH
+	 *
+	 * @since 7.1
+	 */
+	boolean notifiesChanges() default false;
 }
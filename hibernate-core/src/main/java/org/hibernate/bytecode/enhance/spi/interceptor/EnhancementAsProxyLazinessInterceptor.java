@@ -117,10 +117,12 @@ private Object read(
 			// here is the replaying of the explicitly set values we prepared above
 			for ( int i = 0; i < writtenAttributeMappings.length; i++ ) {
 				final AttributeMapping attribute = writtenAttributeMappings[i];
-				attribute.setValue(target, writtenAttributeValues[i] );
+				// track the change before the write, as the enhanced setter does,
+				// so that the session may take the snapshot of the loaded state
 				if ( meta.inLineDirtyChecking ) {
 					asSelfDirtinessTracker(target).$$_hibernate_trackChange( attribute.getAttributeName() );
 				}
+				attribute.setValue(target, writtenAttributeValues[i] );
 			}
 			writtenFieldNames.clear();
 		}
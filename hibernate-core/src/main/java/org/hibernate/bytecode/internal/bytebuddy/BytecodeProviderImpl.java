@@ -27,8 +27,10 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
 import org.hibernate.engine.spi.CompositeOwner;
 import org.hibernate.engine.spi.CompositeTracker;
 import org.hibernate.engine.spi.Managed;
@@ -46,6 +48,8 @@
 import org.hibernate.property.access.spi.SetterFieldImpl;
 import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
@@ -74,6 +78,8 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
 	private static final String OPTIMIZER_PROXY_BRIDGE_NAMING_SUFFIX = "HibernateAccessOptimizerBridge";
+	private static final String DIRTY_CHECK_OPTIMIZER_NAMING_SUFFIX = "HibernateDirtyCheckOptimizer";
+	private static final String ROW_READER_OPTIMIZER_NAMING_SUFFIX = "HibernateRowReaderOptimizer";
 	private static final ElementMatcher.Junction<NamedElement> newInstanceMethodName = ElementMatchers.named(
 			"newInstance" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyValuesMethodName = ElementMatchers.named(
@@ -82,6 +88,10 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			"setPropertyValues" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyNamesMethodName = ElementMatchers.named(
 			"getPropertyNames" );
+	private static final ElementMatcher.Junction<NamedElement> findDirtyMethodName = ElementMatchers.named(
+			"findDirty" );
+	private static final ElementMatcher.Junction<NamedElement> assembleRowMethodName = ElementMatchers.named(
+			"assembleRow" );
 	private static final Member EMBEDDED_MEMBER = new Member() {
 		@Override
 		public Class<?> getDeclaringClass() {
@@ -279,6 +289,73 @@ public ReflectionOptimizer getReflectionOptimizer(
 		}
 	}
 
+	@Override
+	public @Nullable DirtyCheckOptimizer getDirtyCheckOptimizer(Class<?> clazz, @Nullable Class<?>[] propertyTypes) {
+		final Class<?>[] comparedTypes = new Class<?>[propertyTypes.length];
+		final StringBuilder encodedTypes = new StringBuilder( propertyTypes.length );
+		boolean optimized = false;
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			final Class<?> propertyType = propertyTypes[i];
+			if ( propertyType != null && FindDirty.isSupported( propertyType ) ) {
+				comparedTypes[i] = propertyType;
+				encodedTypes.append( FindDirty.encode( propertyType ) );
+				optimized = true;
+			}
+			else {
+				encodedTypes.append( '_' );
+			}
+		}
+		if ( !optimized || clazz.isInterface() ) {
+			return null;
+		}
+
+		final String className = clazz.getName() + "$" + DIRTY_CHECK_OPTIMIZER_NAMING_SUFFIX + "_" + encodedTypes;
+		try {
+			final Class<?> dirtyChecker = byteBuddyState.load( clazz, className, (byteBuddy, namingStrategy) -> byteBuddy
+					.with( namingStrategy )
+					.subclass( Object.class )
+					.implement( DirtyCheckOptimizer.class )
+					.method( findDirtyMethodName )
+					.intercept( new Implementation.Simple( new FindDirty( comparedTypes ) ) )
+			);
+			return (DirtyCheckOptimizer) dirtyChecker.getDeclaredConstructor().newInstance();
+		}
+		catch (Exception exception) {
+			LOG.debugf( "Unable to generate dirty check optimizer for class [%s]: %s", clazz.getName(), exception );
+			return null;
+		}
+	}
+
+	@Override
+	public @Nullable RowReaderOptimizer getRowReaderOptimizer(int[] jdbcValuePositions) {
+		final StringBuilder encodedShape = new StringBuilder();
+		for ( int jdbcValuePosition : jdbcValuePositions ) {
+			if ( jdbcValuePosition < 0 ) {
+				encodedShape.append( 'a' );
+			}
+			else {
+				encodedShape.append( 'p' ).append( jdbcValuePosition );
+			}
+		}
+
+		final String className = RowReaderOptimizer.class.getName() + "$" + ROW_READER_OPTIMIZER_NAMING_SUFFIX
+				+ "_" + encodedShape;
+		try {
+			final Class<?> rowReader = byteBuddyState.load( RowReaderOptimizer.class, className, (byteBuddy, namingStrategy) -> byteBuddy
+					.with( namingStrategy )
+					.subclass( Object.class )
+					.implement( RowReaderOptimizer.class )
+					.method( assembleRowMethodName )
+					.intercept( new Implementation.Simple( new AssembleRow( jdbcValuePositions ) ) )
+			);
+			return (RowReaderOptimizer) rowReader.getDeclaredConstructor().newInstance();
+		}
+		catch (Exception exception) {
+			LOG.debugf( "Unable to generate row reader optimizer for result shape [%s]: %s", encodedShape, exception );
+			return null;
+		}
+	}
+
 	private static class BridgeMembersClassInfo {
 		final Class<?> clazz;
 		final List<String> propertyNames = new ArrayList<>();
@@ -1353,6 +1430,214 @@ private static Constructor<?> findConstructor(Class<?> clazz) {
 		}
 	}
 
+	/**
+	 * Compares the current and previous value of each property of a supported type,
+	 * with one unrolled, monomorphic comparison per property, unboxing the values of
+	 * primitive wrapper types. The comparisons have the semantics of {@code equals()}.
+	 */
+	private static class FindDirty implements ByteCodeAppender {
+
+		private static final Map<Class<?>, Class<?>> PRIMITIVE_TYPES = Map.of(
+				Boolean.class, boolean.class,
+				Byte.class, byte.class,
+				Character.class, char.class,
+				Short.class, short.class,
+				Integer.class, int.class,
+				Long.class, long.class,
+				Float.class, float.class,
+				Double.class, double.class
+		);
+
+		private final @Nullable Class<?>[] propertyTypes;
+
+		private FindDirty(@Nullable Class<?>[] propertyTypes) {
+			this.propertyTypes = propertyTypes;
+		}
+
+		static boolean isSupported(Class<?> propertyType) {
+			return propertyType == String.class || PRIMITIVE_TYPES.containsKey( propertyType );
+		}
+
+		static char encode(Class<?> propertyType) {
+			return propertyType == String.class
+					? 'L'
+					: Type.getDescriptor( PRIMITIVE_TYPES.get( propertyType ) ).charAt( 0 );
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			final List<TypeDescription> locals = Arrays.asList(
+					implementationContext.getInstrumentedType(),
+					TypeDescription.ForLoadedType.of( Object[].class ),
+					TypeDescription.ForLoadedType.of( Object[].class ),
+					TypeDescription.ForLoadedType.of( byte[].class )
+			);
+			for ( int index = 0; index < propertyTypes.length; index++ ) {
+				final Class<?> propertyType = propertyTypes[index];
+				if ( propertyType == null ) {
+					continue;
+				}
+				final String internalName = Type.getInternalName( propertyType );
+				final Label dirtyLabel = new Label();
+				final Label endLabel = new Label();
+
+				// Leave the property to the caller unless both values are instances of the type
+				loadElement( methodVisitor, 1, index );
+				methodVisitor.visitTypeInsn( Opcodes.INSTANCEOF, internalName );
+				methodVisitor.visitJumpInsn( Opcodes.IFEQ, endLabel );
+				loadElement( methodVisitor, 2, index );
+				methodVisitor.visitTypeInsn( Opcodes.INSTANCEOF, internalName );
+				methodVisitor.visitJumpInsn( Opcodes.IFEQ, endLabel );
+
+				// Compare the current value with the previous value
+				if ( propertyType == String.class ) {
+					loadElement( methodVisitor, 1, index );
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, internalName );
+					loadElement( methodVisitor, 2, index );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							internalName,
+							"equals",
+							Type.getMethodDescriptor( Type.BOOLEAN_TYPE, Type.getType( Object.class ) ),
+							false
+					);
+					methodVisitor.visitJumpInsn( Opcodes.IFEQ, dirtyLabel );
+				}
+				else {
+					final Class<?> primitiveType = PRIMITIVE_TYPES.get( propertyType );
+					loadUnboxedElement( methodVisitor, 1, index, internalName, primitiveType );
+					loadUnboxedElement( methodVisitor, 2, index, internalName, primitiveType );
+					if ( primitiveType == long.class ) {
+						methodVisitor.visitInsn( Opcodes.LCMP );
+						methodVisitor.visitJumpInsn( Opcodes.IFNE, dirtyLabel );
+					}
+					else if ( primitiveType == float.class || primitiveType == double.class ) {
+						// Float.compare() and Double.compare() agree with equals() on NaN and signed zeros
+						methodVisitor.visitMethodInsn(
+								Opcodes.INVOKESTATIC,
+								internalName,
+								"compare",
+								Type.getMethodDescriptor(
+										Type.INT_TYPE,
+										Type.getType( primitiveType ),
+										Type.getType( primitiveType )
+								),
+								false
+						);
+						methodVisitor.visitJumpInsn( Opcodes.IFNE, dirtyLabel );
+					}
+					else {
+						methodVisitor.visitJumpInsn( Opcodes.IF_ICMPNE, dirtyLabel );
+					}
+				}
+
+				storeResult( methodVisitor, index, DirtyCheckOptimizer.CLEAN );
+				methodVisitor.visitJumpInsn( Opcodes.GOTO, endLabel );
+
+				methodVisitor.visitLabel( dirtyLabel );
+				implementationContext.getFrameGeneration().full( methodVisitor, Collections.emptyList(), locals );
+				storeResult( methodVisitor, index, DirtyCheckOptimizer.DIRTY );
+
+				methodVisitor.visitLabel( endLabel );
+				implementationContext.getFrameGeneration().full( methodVisitor, Collections.emptyList(), locals );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() + 1 );
+		}
+
+		private static void loadElement(MethodVisitor methodVisitor, int arrayIndex, int index) {
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, arrayIndex );
+			methodVisitor.visitLdcInsn( index );
+			methodVisitor.visitInsn( Opcodes.AALOAD );
+		}
+
+		private static void loadUnboxedElement(
+				MethodVisitor methodVisitor,
+				int arrayIndex,
+				int index,
+				String wrapperInternalName,
+				Class<?> primitiveType) {
+			loadElement( methodVisitor, arrayIndex, index );
+			methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, wrapperInternalName );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					wrapperInternalName,
+					primitiveType.getName() + "Value",
+					Type.getMethodDescriptor( Type.getType( primitiveType ) ),
+					false
+			);
+		}
+
+		private static void storeResult(MethodVisitor methodVisitor, int index, byte result) {
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, 3 );
+			methodVisitor.visitLdcInsn( index );
+			methodVisitor.visitInsn( result == DirtyCheckOptimizer.DIRTY ? Opcodes.ICONST_1 : Opcodes.ICONST_2 );
+			methodVisitor.visitInsn( Opcodes.BASTORE );
+		}
+	}
+
+	/**
+	 * Assembles the value of each column of a row, with one unrolled call per column,
+	 * either reading the JDBC value of the column directly, or calling its assembler.
+	 */
+	private static class AssembleRow implements ByteCodeAppender {
+
+		private final int[] jdbcValuePositions;
+
+		private AssembleRow(int[] jdbcValuePositions) {
+			this.jdbcValuePositions = jdbcValuePositions;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			final String rowProcessingStateName = Type.getInternalName( RowProcessingState.class );
+			for ( int index = 0; index < jdbcValuePositions.length; index++ ) {
+				// resultRow[index] = ...
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 3 );
+				methodVisitor.visitLdcInsn( index );
+				final int jdbcValuePosition = jdbcValuePositions[index];
+				if ( jdbcValuePosition < 0 ) {
+					// ... resultAssemblers[index].assemble( rowProcessingState )
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEINTERFACE,
+							Type.getInternalName( DomainResultAssembler.class ),
+							"assemble",
+							Type.getMethodDescriptor(
+									Type.getType( Object.class ),
+									Type.getType( RowProcessingState.class )
+							),
+							true
+					);
+				}
+				else {
+					// ... rowProcessingState.getJdbcValue( jdbcValuePosition )
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitLdcInsn( jdbcValuePosition );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEINTERFACE,
+							rowProcessingStateName,
+							"getJdbcValue",
+							Type.getMethodDescriptor( Type.getType( Object.class ), Type.INT_TYPE ),
+							true
+					);
+				}
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	public static class GetPropertyNames implements ByteCodeAppender {
 
 		private final String[] propertyNames;
@@ -6,6 +6,7 @@
 
 import java.util.Map;
 
+import org.hibernate.Incubating;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.property.access.spi.PropertyAccess;
@@ -20,6 +21,8 @@
  * Bytecode requirements break down into the following areas<ol>
  *     <li>proxy generation (both for runtime-lazy-loading and basic proxy generation) {@link #getProxyFactoryFactory()}</li>
  *     <li>bean reflection optimization {@link #getReflectionOptimizer}</li>
+ *     <li>dirty checking optimization {@link #getDirtyCheckOptimizer}</li>
+ *     <li>row assembly optimization {@link #getRowReaderOptimizer}</li>
  * </ol>
  *
  * @author Steve Ebersole
@@ -58,6 +61,42 @@ public interface BytecodeProvider extends Service {
 	 */
 	@Nullable ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap);
 
+	/**
+	 * Retrieve a DirtyCheckOptimizer delegate for this provider, comparing the
+	 * values of the given types without dispatching to the Hibernate type of
+	 * each property.
+	 *
+	 * @param clazz The entity class whose state is to be dirty checked.
+	 * @param propertyTypes For each property of the state, the class of its values,
+	 * which is either {@link String} or a primitive wrapper type, or {@code null} if
+	 * the property is to be checked by the caller.
+	 * @return The dirty checking delegate, or {@code null} if this provider does not
+	 * support dirty checking optimization, or if no property is to be optimized.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default @Nullable DirtyCheckOptimizer getDirtyCheckOptimizer(Class<?> clazz, @Nullable Class<?>[] propertyTypes) {
+		return null;
+	}
+
+	/**
+	 * Retrieve a RowReaderOptimizer delegate for this provider, assembling the
+	 * rows of a query result of the given shape.
+	 *
+	 * @param jdbcValuePositions For each column of the result, the position of
+	 * its JDBC value, if the value is to be read directly, or {@code -1} if the
+	 * column is to be assembled by its assembler.
+	 * @return The row assembly delegate, or {@code null} if this provider does not
+	 * support row assembly optimization.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default @Nullable RowReaderOptimizer getRowReaderOptimizer(int[] jdbcValuePositions) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
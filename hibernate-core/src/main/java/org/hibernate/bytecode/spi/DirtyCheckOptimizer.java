@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Represents optimized dirty checking of the state of a particular entity class,
+ * comparing the values of its properties of simple types in generated code, one
+ * call site per property, instead of dispatching to the
+ * {@linkplain org.hibernate.type.Type#isDirty Hibernate type} of each property.
+ *
+ * @see BytecodeProvider#getDirtyCheckOptimizer(Class, Class[])
+ *
+ * @since 7.1
+ */
+@Incubating
+public interface DirtyCheckOptimizer {
+	/**
+	 * Marks a property whose value was compared, and found to be modified.
+	 */
+	byte DIRTY = 1;
+
+	/**
+	 * Marks a property whose value was compared, and found to be unmodified.
+	 */
+	byte CLEAN = 2;
+
+	/**
+	 * Compare the current value of each property handled by this optimizer with its
+	 * previous value, and record the outcome in the given array, at the index of the
+	 * property, as {@link #DIRTY} or {@link #CLEAN}.
+	 * <p>
+	 * The outcome is not recorded for a property which is not handled by this optimizer,
+	 * or whose current or previous value is not an instance of the type of the property,
+	 * for example, when a value is {@code null}, or is a lazy property which was not
+	 * fetched. Such properties must be checked by the caller.
+	 *
+	 * @param currentState The current state of the entity
+	 * @param previousState The baseline state of the entity
+	 * @param result The outcome for each property, of the same length as the states
+	 */
+	void findDirty(Object[] currentState, Object[] previousState, byte[] result);
+}
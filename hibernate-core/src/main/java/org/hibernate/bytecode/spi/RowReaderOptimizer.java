@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * Represents optimized assembly of the rows of a query result of a particular shape,
+ * in generated code with one call site per column, reading the JDBC value of a basic
+ * column directly when it needs no conversion, instead of looping over the
+ * {@linkplain DomainResultAssembler assemblers} of the columns.
+ *
+ * @see BytecodeProvider#getRowReaderOptimizer(int[])
+ *
+ * @since 7.1
+ */
+@Incubating
+public interface RowReaderOptimizer {
+	/**
+	 * Assemble the values of the current row into the given array.
+	 *
+	 * @param rowProcessingState The state of the current row
+	 * @param resultAssemblers The assemblers of the columns of the result, used for
+	 * the columns whose JDBC value is not read directly
+	 * @param resultRow The array receiving the value of each column
+	 */
+	void assembleRow(
+			RowProcessingState rowProcessingState,
+			DomainResultAssembler<?>[] resultAssemblers,
+			Object[] resultRow);
+}
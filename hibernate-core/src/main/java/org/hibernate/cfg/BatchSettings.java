@@ -6,6 +6,7 @@
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -35,6 +36,70 @@ public interface BatchSettings {
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
 
+	/**
+	 * When enabled, specifies that a batch of entity inserts should be sent to the
+	 * database as multi-row {@code insert ... values (...), (...)} statements instead
+	 * of one {@linkplain PreparedStatement#addBatch batched} statement per entity.
+	 * The number of rows per statement is limited by the {@linkplain #STATEMENT_BATCH_SIZE
+	 * batch size}, and by the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit
+	 * parameter limit} of the database.
+	 * <p>
+	 * This only affects the inserts which are already batched, that is, entities whose
+	 * identifier is not generated by the insert. It has no effect on entities mapped
+	 * with custom insert SQL, or on databases which do not
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsert support
+	 * multi-row inserts}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String STATEMENT_BATCH_MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
+	/**
+	 * When enabled, specifies that a full batch should be handed to a background
+	 * thread for execution, so that the round trip to the database overlaps the
+	 * work of the session on the next batch.
+	 * <p>
+	 * The statements are still prepared and bound by the session, which waits for the
+	 * previous execution before binding the next batch, since a JDBC connection
+	 * executes one statement at a time. So at most one batch of a session is in flight.
+	 * <p>
+	 * The session waits for the executing batch, and any failure or unexpected row
+	 * count is reported, before the connection is used by any other statement, and at
+	 * the end of each flush. An executing batch is discarded, and its failure ignored,
+	 * before the transaction is rolled back.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String STATEMENT_BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * When set to a positive number of milliseconds, specifies that the size of the
+	 * batches of each kind of statement, for example, of the inserts of an entity,
+	 * should be adapted to the observed execution time of the batches, growing or
+	 * shrinking toward the given target execution time of a batch.
+	 * <p>
+	 * The {@linkplain #STATEMENT_BATCH_SIZE batch size} is the initial size. A batch
+	 * never holds more than 1000 rows, or more parameters than the
+	 * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit parameter limit}
+	 * of the database, since some drivers rewrite a batch as a single statement.
+	 * The batch size of a session {@linkplain org.hibernate.SharedSessionContract#setJdbcBatchSize
+	 * set explicitly} is never adapted.
+	 * <p>
+	 * The sizes in use are reported by {@link org.hibernate.stat.Statistics#getJdbcBatchSizes()}.
+	 *
+	 * @settingDefault {@code 0}, meaning that the batch size is fixed
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String STATEMENT_BATCH_TARGET_LATENCY = "hibernate.jdbc.batch_target_latency";
+
 	/**
 	 * Enable ordering of entity update statements by entity type and primary
 	 * key value, and of statements relating to collection modification by
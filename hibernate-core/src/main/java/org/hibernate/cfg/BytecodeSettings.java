@@ -4,6 +4,8 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
+
 /**
  * Settings which control the {@link org.hibernate.bytecode.spi.BytecodeProvider}
  * used for bytecode enhancement and reflection optimization.
@@ -57,4 +59,49 @@ public interface BytecodeSettings {
 	@SuppressWarnings("DeprecatedIsStillUsed")
 	@Deprecated(forRemoval = true)
 	String ENHANCER_ENABLE_LAZY_INITIALIZATION = "hibernate.enhancer.enableLazyInitialization";
+
+	/**
+	 * When enabled, a flush visits only those entities which might have been modified
+	 * since they were loaded, instead of every entity in the persistence context.
+	 * <p>
+	 * An entity enhanced with dirty tracking by this version of Hibernate notifies its
+	 * session when its first field is modified. Until then, such an entity is skipped
+	 * by the flush, as long as it has no collections and no mutable properties. Every
+	 * other entity is always visited.
+	 * <p>
+	 * Note that, when this setting is enabled:
+	 * <ul>
+	 * <li>a {@link org.hibernate.event.spi.FlushEntityEventListener}, cascades at flush
+	 *     time, and the check for references to transient entities only see the entities
+	 *     which are visited, and
+	 * <li>the entities are not visited in the order in which they were associated with
+	 *     the session.
+	 * </ul>
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String SKIP_UNMODIFIED_ON_FLUSH = "hibernate.bytecode.skip_unmodified_on_flush";
+
+	/**
+	 * When enabled, the snapshot of the loaded state of an entity, which is used for
+	 * dirty checking, is not kept when the entity is loaded, but is taken when the
+	 * first field of the entity is modified.
+	 * <p>
+	 * This applies only to entities enhanced with dirty tracking by this version of
+	 * Hibernate, and having no collections, no mutable properties, and no lazy
+	 * properties. The state of such an entity is not modified without notifying its
+	 * session, and so, until then, its current state is its loaded state. The loaded
+	 * state of any other entity is always kept.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #SKIP_UNMODIFIED_ON_FLUSH
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String DEFER_SNAPSHOTS = "hibernate.bytecode.defer_snapshots";
 }
@@ -108,6 +108,38 @@ public interface DialectSpecificSettings {
 	 */
 	String MYSQL_NO_BACKSLASH_ESCAPES = "hibernate.dialect.mysql.no_backslash_escapes";
 
+	/**
+	 * Specifies whether rows may be loaded using {@code load data local infile},
+	 * which requires that loading local data be allowed by the server, via
+	 * {@code local_infile}, and by the JDBC driver, via {@code allowLoadLocalInfile}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.dialect.bulk.MySQLLoadDataBulkInsertSupport
+	 *
+	 * @since 7.1
+	 */
+	String MYSQL_LOAD_DATA_LOCAL_INFILE = "hibernate.dialect.mysql.load_data_local_infile";
+
+	/**
+	 * Specifies the JDBC fetch size applied to a forward-only scroll or stream
+	 * when no fetch size was specified for the query.
+	 * <p>
+	 * With {@code -2147483648}, that is, {@link Integer#MIN_VALUE}, Connector/J
+	 * streams the results row by row, but no other statement may be executed on
+	 * the connection until every row was read, so that a lazy association may not
+	 * be fetched meanwhile. A positive fetch size only has an effect when the
+	 * {@code useCursorFetch} connection property is enabled, in which case the
+	 * driver reads the results through a server-side cursor.
+	 *
+	 * @settingDefault {@code 0}, that is, the driver reads every row into memory
+	 *
+	 * @see org.hibernate.dialect.Dialect#getStreamingFetchSize()
+	 *
+	 * @since 7.1
+	 */
+	String MYSQL_STREAMING_FETCH_SIZE = "hibernate.dialect.mysql.streaming_fetch_size";
+
 	/**
 	 * Specifies a custom CockroachDB version string. The expected format of the string is
 	 * the one returned from the {@code version()} function, e.g.:
@@ -600,4 +600,19 @@ public interface MappingSettings {
 	 */
 	String USE_NATIONALIZED_CHARACTER_DATA = "hibernate.use_nationalized_character_data";
 
+	/**
+	 * When enabled, the snapshot of the loaded state of every entity, which is kept
+	 * by the session for dirty checking, is stored in a compact format, with the
+	 * values of attributes of primitive or primitive wrapper type packed into bits
+	 * instead of held as boxed objects.
+	 *
+	 * @apiNote The {@link org.hibernate.annotations.CompactSnapshot} annotation may be
+	 * used to selectively enable compact snapshots for specific entities.
+	 *
+	 * @settingDefault {@code false} (disabled)
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String COMPACT_SNAPSHOTS = "hibernate.compact_snapshots";
 }
@@ -99,6 +99,23 @@ public interface QuerySettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * Specifies the maximum number of threads used to interpret named HQL queries when
+	 * they are {@linkplain #QUERY_STARTUP_CHECKING checked during startup}. The resulting
+	 * interpretations are added to the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}, so the first execution of a named query does not need to
+	 * parse it. A value of {@code 0} means one thread per available processor.
+	 * <p>
+	 * Errors are reported sorted by query name, no matter how many threads are used.
+	 *
+	 * @settingDefault {@code 1} (named queries are checked on the thread creating the
+	 *                 {@code SessionFactory})
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String QUERY_STARTUP_CHECK_PARALLELISM = "hibernate.query.startup_check_parallelism";
+
 	/**
 	 * By default, a {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria
 	 * query} produces SQL with a JDBC bind parameter for any value specified via the
@@ -270,6 +287,49 @@ public interface QuerySettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * Specifies how the number of bind parameters in a SQL {@code IN} predicate is
+	 * padded when {@value #IN_CLAUSE_PARAMETER_PADDING} is enabled. Accepts:
+	 * <ul>
+	 *     <li>{@code power_of_two} (the default), to pad to 4, 8, 16, 32, 64, ...,
+	 *     <li>{@code fibonacci}, to pad to 2, 3, 5, 8, 13, 21, 34, ...,
+	 *     <li>a comma-separated list of bucket sizes, for example {@code 10,50,100,500},
+	 *         to pad to the smallest bucket which fits, or to a multiple of the largest
+	 *         bucket for longer lists,
+	 *     <li>an instance of {@link org.hibernate.query.spi.InClauseParameterPaddingStrategy},
+	 *         its {@link Class}, or the name of its class.
+	 * </ul>
+	 *
+	 * @settingDefault {@code power_of_two}
+	 *
+	 * @see org.hibernate.query.spi.InClauseParameterPaddingStrategy
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String IN_CLAUSE_PARAMETER_PADDING_STRATEGY = "hibernate.query.in_clause_parameter_padding_strategy";
+
+	/**
+	 * When enabled, specifies that an {@code IN} predicate whose list consists only of
+	 * parameters, typically a single list-valued parameter, should be rendered as a
+	 * comparison with a single array-typed parameter, for example {@code x = any (?)}.
+	 * The SQL is then the same no matter how many values are bound, and there is a
+	 * single JDBC parameter to bind, which matters for long lists.
+	 * <p>
+	 * This setting is currently supported on H2, HSQLDB, PostgreSQL, and CockroachDB,
+	 * and ignored on other databases.
+	 * <p>
+	 * This setting takes precedence over {@value #IN_CLAUSE_PARAMETER_PADDING} for the
+	 * predicates it applies to. Negated predicates, predicates comparing tuples, and
+	 * parameters of converted types are still rendered as a list of parameters.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String IN_CLAUSE_ARRAY_PARAMETER = "hibernate.query.in_clause_array_parameter";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -305,6 +365,91 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The maximum estimated memory, in bytes, retained by the query plans and HQL
+	 * interpretations held in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}.
+	 * <p>
+	 * When specified, the cache is bounded by the estimated size of its entries instead
+	 * of by their {@linkplain #QUERY_PLAN_CACHE_MAX_SIZE number}, so that a few plans for
+	 * very large queries do not hold on to as much memory as thousands of small ones.
+	 * This requires a {@linkplain #QUERY_PLAN_CACHE_FACTORY cache implementation}
+	 * supporting weighted entries, such as {@code caffeine}; with other implementations
+	 * the setting is ignored.
+	 * <p>
+	 * Plans evicted from the cache are counted by
+	 * {@link org.hibernate.stat.Statistics#getQueryPlanCacheEvictionCount()}.
+	 *
+	 * @see org.hibernate.query.internal.QueryInterpretationCacheStandardImpl#estimatePlanSize(org.hibernate.query.spi.QueryInterpretationCache.Key, org.hibernate.query.spi.QueryPlan)
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_MAX_MEMORY = "hibernate.query.plan_cache_max_memory";
+
+	/**
+	 * Specifies a directory in which Hibernate saves the HQL queries held by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation
+	 * cache} when the {@code SessionFactory} is closed. When the next {@code SessionFactory}
+	 * with the same name is created, these queries are interpreted again and cached before
+	 * the factory is used, so that the first executions after a restart do not have to pay
+	 * for the parsing of every query.
+	 * <p>
+	 * The saved queries are tagged with a fingerprint of the domain model, the dialect,
+	 * and the version of Hibernate, and are ignored if any of these changed.
+	 * Queries which can no longer be interpreted are skipped.
+	 *
+	 * @settingDefault none, the queries are not saved
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_STORE_DIRECTORY = "hibernate.query.plan_cache_store_directory";
+
+	/**
+	 * Specifies the {@link org.hibernate.internal.util.cache.InternalCacheFactory}
+	 * used to build the internal caches backing the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}.
+	 * <p>
+	 * Accepts any of:
+	 * <ul>
+	 *     <li>{@code legacy}, for the cache based on a segmented LIRS map,
+	 *     <li>{@code caffeine}, for a cache backed by
+	 *         <a href="https://github.com/ben-manes/caffeine">Caffeine</a>, which features
+	 *         lock-free reads and frequency-aware (W-TinyLFU) admission, and requires
+	 *         Caffeine on the classpath,
+	 *     <li>an instance of {@code InternalCacheFactory},
+	 *     <li>a {@link Class} object representing a class that implements
+	 *         {@code InternalCacheFactory}, or
+	 *     <li>the name of a class that implements {@code InternalCacheFactory}.
+	 * </ul>
+	 *
+	 * @settingDefault {@code legacy}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_FACTORY = "hibernate.query.plan_cache_factory";
+
+	/**
+	 * When enabled, specifies that the rows of a query returning only scalar values
+	 * are assembled by code generated for the shape of its result, with one call site
+	 * per column, instead of by a loop dispatching to the assembler of each column.
+	 * The generated code reads the JDBC value of a basic column directly when it does
+	 * not need to be converted.
+	 * <p>
+	 * The generated code is kept with the {@linkplain QueryPlan query plan}, and is
+	 * shared by every query plan with the same result shape.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.bytecode.spi.BytecodeProvider#getRowReaderOptimizer(int[])
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String GENERATED_ROW_READERS = "hibernate.query.generated_row_readers";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -25,6 +25,8 @@
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.AggregateSupportImpl;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.StandardBulkInsertSupport;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.CastStrEmulation;
 import org.hibernate.dialect.function.CoalesceIfnullEmulation;
@@ -4388,6 +4390,41 @@ public ScrollMode defaultScrollMode() {
 		return ScrollMode.SCROLL_INSENSITIVE;
 	}
 
+	/**
+	 * The JDBC fetch size which makes the driver stream the results of a
+	 * {@linkplain ScrollMode#FORWARD_ONLY forward-only}
+	 * {@linkplain Query#scroll(ScrollMode) scroll} or
+	 * {@linkplain Query#stream() stream}, instead of reading every row into
+	 * memory when the query is executed.
+	 * <p>
+	 * The fetch size is only applied when no fetch size was specified for
+	 * the query, nor by {@value org.hibernate.cfg.JdbcSettings#STATEMENT_FETCH_SIZE}.
+	 *
+	 * @return the fetch size, or {@code 0} if the driver streams results by
+	 *         default, or cannot stream them
+	 *
+	 * @see #requiresAutoCommitDisabledForStreaming()
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	public int getStreamingFetchSize() {
+		return 0;
+	}
+
+	/**
+	 * Does the driver only honor the {@linkplain #getStreamingFetchSize
+	 * streaming fetch size} when the connection is not in auto-commit mode?
+	 * If so, auto-commit is disabled while the results are read, when they
+	 * are read outside a transaction.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	public boolean requiresAutoCommitDisabledForStreaming() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support {@code offset} in subqueries?
 	 * <p>
@@ -4846,6 +4883,52 @@ public boolean supportsValuesListForInsert() {
 		return true;
 	}
 
+	/**
+	 * Does this dialect support inserting several rows with a single
+	 * {@code insert ... values (...), (...)} statement, without emulating
+	 * the {@code values} list?
+	 *
+	 * @return {@code true} if multi-row inserts are supported
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_MULTI_ROW_INSERTS
+	 *
+	 * @since 7.1
+	 */
+	public boolean supportsMultiRowInsert() {
+		return supportsValuesListForInsert();
+	}
+
+	/**
+	 * The maximum number of rows of a single multi-row
+	 * {@code insert ... values (...), (...)} statement, independently of
+	 * the {@linkplain #getParameterCountLimit() limit on parameters}.
+	 *
+	 * @return The limit, or a non-positive integer to indicate no limit.
+	 *
+	 * @see #supportsMultiRowInsert()
+	 *
+	 * @since 7.1
+	 */
+	public int getMaximumRowsPerMultiRowInsert() {
+		return 0;
+	}
+
+	/**
+	 * The {@link BulkInsertSupport} used to load many rows into a table,
+	 * as, for example, by {@link org.hibernate.StatelessSession#bulkInsert}.
+	 *
+	 * @param serviceRegistry the service registry, for access to the
+	 *                        classes of the JDBC driver and the settings
+	 *
+	 * @return the {@link StandardBulkInsertSupport} by default
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	public BulkInsertSupport getBulkInsertSupport(ServiceRegistry serviceRegistry) {
+		return StandardBulkInsertSupport.INSTANCE;
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
@@ -1196,6 +1196,11 @@ public boolean supportsLateral() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
 	@Override
 	public boolean supportsNoWait() {
 		return true;
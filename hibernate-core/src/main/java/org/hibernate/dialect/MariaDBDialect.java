@@ -234,6 +234,12 @@ public boolean supportsRecursiveCTE() {
 		return true;
 	}
 
+	@Override
+	public int getStreamingFetchSize() {
+		// MariaDB Connector/J streams the results for any positive fetch size
+		return 1_000;
+	}
+
 	@Override
 	public boolean supportsColumnCheck() {
 		return true;
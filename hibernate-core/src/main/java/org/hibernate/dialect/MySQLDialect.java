@@ -16,6 +16,8 @@
 import org.hibernate.cfg.FetchSettings;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.MySQLAggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.MySQLLoadDataBulkInsertSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.identity.IdentityColumnSupport;
 import org.hibernate.dialect.identity.MySQLIdentityColumnSupport;
@@ -28,6 +30,8 @@
 import org.hibernate.dialect.temptable.TemporaryTableKind;
 import org.hibernate.dialect.type.MySQLCastingJsonArrayJdbcTypeConstructor;
 import org.hibernate.dialect.type.MySQLCastingJsonJdbcType;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.Size;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
 import org.hibernate.engine.jdbc.env.spi.IdentifierCaseStrategy;
@@ -94,10 +98,13 @@
 import java.util.TimeZone;
 
 import static java.lang.Integer.parseInt;
+import static org.hibernate.cfg.DialectSpecificSettings.MYSQL_LOAD_DATA_LOCAL_INFILE;
+import static org.hibernate.cfg.DialectSpecificSettings.MYSQL_STREAMING_FETCH_SIZE;
 import static org.hibernate.dialect.MySQLServerConfiguration.getBytesPerCharacter;
 import static org.hibernate.exception.spi.TemplatedViolatedConstraintNameExtractor.extractUsingTemplate;
 import static org.hibernate.internal.util.JdbcExceptionHelper.extractSqlState;
 import static org.hibernate.internal.util.StringHelper.isNotEmpty;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.StringHelper.split;
 import static org.hibernate.type.SqlTypes.BIGINT;
 import static org.hibernate.type.SqlTypes.BINARY;
@@ -191,6 +198,8 @@ public Size resolveSize(
 
 	private final boolean noBackslashEscapesEnabled;
 
+	private int streamingFetchSize;
+
 	public MySQLDialect() {
 		this( MINIMUM_VERSION );
 	}
@@ -217,6 +226,7 @@ public MySQLDialect(DatabaseVersion version, int bytesPerCharacter, boolean noBa
 	public MySQLDialect(DialectResolutionInfo info) {
 		this( createVersion( info ), MySQLServerConfiguration.fromDialectResolutionInfo( info ) );
 		registerKeywords( info );
+		streamingFetchSize = getInt( MYSQL_STREAMING_FETCH_SIZE, info.getConfigurationValues(), 0 );
 	}
 
 	@Deprecated(since="6.6")
@@ -1246,6 +1256,22 @@ public boolean supportsLockTimeouts() {
 		return false;
 	}
 
+	/**
+	 * By default, Connector/J reads every row of the results into memory.
+	 * It only streams the results row by row for the fetch size
+	 * {@link Integer#MIN_VALUE}, but then no other statement may be executed
+	 * on the connection until every row was read, not even to fetch a lazy
+	 * association. This fetch size, or a positive one along with the
+	 * {@code useCursorFetch} connection property, is therefore only applied
+	 * on request.
+	 *
+	 * @see org.hibernate.cfg.DialectSpecificSettings#MYSQL_STREAMING_FETCH_SIZE
+	 */
+	@Override
+	public int getStreamingFetchSize() {
+		return streamingFetchSize;
+	}
+
 	@Override
 	public SQLExceptionConversionDelegate buildSQLExceptionConversionDelegate() {
 		return (sqlException, message, sql) -> {
@@ -1628,6 +1654,20 @@ public boolean supportsFromClauseInUpdate() {
 		return true;
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport(ServiceRegistry serviceRegistry) {
+		final boolean loadDataLocalInfile =
+				serviceRegistry.requireService( ConfigurationService.class )
+						.getSetting( MYSQL_LOAD_DATA_LOCAL_INFILE, StandardConverters.BOOLEAN, false );
+		if ( loadDataLocalInfile ) {
+			final BulkInsertSupport loadDataSupport = MySQLLoadDataBulkInsertSupport.create( serviceRegistry );
+			if ( loadDataSupport != null ) {
+				return loadDataSupport;
+			}
+		}
+		return super.getBulkInsertSupport( serviceRegistry );
+	}
+
 	@Override
 	public String appendCheckConstraintOptions(CheckConstraint checkConstraint, String sqlCheckConstraint) {
 		return isNotEmpty( checkConstraint.getOptions() )
@@ -1113,6 +1113,11 @@ public boolean supportsValuesList() {
 		return getVersion().isSameOrAfter( 23 );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return getVersion().isSameOrAfter( 23 );
+	}
+
 	// features which remain constant across 8i, 9i, and 10g ~~~~~~~~~~~~~~~~~~
 
 	@Override
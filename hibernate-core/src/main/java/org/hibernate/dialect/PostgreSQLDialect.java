@@ -17,6 +17,7 @@
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.PostgreSQLAggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.function.PostgreSQLMinMaxFunction;
 import org.hibernate.dialect.function.PostgreSQLTruncFunction;
@@ -316,6 +317,18 @@ public int getDefaultStatementBatchSize() {
 		return 15;
 	}
 
+	@Override
+	public int getStreamingFetchSize() {
+		// pgJDBC reads the results through a cursor when a fetch size is set
+		return 1_000;
+	}
+
+	@Override
+	public boolean requiresAutoCommitDisabledForStreaming() {
+		// the cursor is closed when the implicit transaction commits
+		return true;
+	}
+
 	@Override
 	public JdbcType resolveSqlTypeDescriptor(
 			String columnTypeName,
@@ -1623,6 +1636,13 @@ public boolean supportsFromClauseInUpdate() {
 		return true;
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport(ServiceRegistry serviceRegistry) {
+		return driverKind == PostgreSQLDriverKind.PG_JDBC && PgJdbcHelper.isUsable( serviceRegistry )
+				? PgJdbcHelper.getCopyBulkInsertSupport( serviceRegistry )
+				: super.getBulkInsertSupport( serviceRegistry );
+	}
+
 	@Override
 	public boolean supportsBindingNullSqlTypeForSetNull() {
 		return true;
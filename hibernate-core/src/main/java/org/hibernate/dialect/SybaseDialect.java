@@ -579,6 +579,11 @@ public boolean supportsRowValueConstructorSyntaxInInList() {
 		return false;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
 	private static class JTDSSchemaNameResolver implements SchemaNameResolver {
 		@Override
 		public String resolveSchemaName(Connection connection, Dialect dialect) throws SQLException {
@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.util.function.Consumer;
+
+import org.hibernate.Incubating;
+
+/**
+ * A source of rows to be {@linkplain BulkInsertSupport#insertRows inserted}.
+ *
+ * @since 7.1
+ */
+@Incubating
+@FunctionalInterface
+public interface BulkInsertRows {
+	/**
+	 * Pass each row, in turn, to the given consumer. A row is an array of
+	 * JDBC values, one for each {@linkplain BulkInsertTable#getColumnCount()
+	 * parameter} of the insert statement.
+	 * <p>
+	 * The same array may be reused for the next row, and so the consumer
+	 * must not keep a reference to it. This method may be called more than
+	 * once, and produces the same rows each time.
+	 */
+	void forEachRow(Consumer<Object[]> consumer);
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Dialect-level delegate responsible for loading many rows into a table,
+ * using the most efficient mechanism offered by the database and its
+ * JDBC driver, for example:
+ * <ul>
+ *     <li>{@code copy ... from stdin} on PostgreSQL, see {@link PostgreSQLCopyBulkInsertSupport},
+ *     <li>{@code load data local infile} on MySQL, see {@link MySQLLoadDataBulkInsertSupport}, or
+ *     <li>multi-row {@code insert} statements elsewhere, see {@link StandardBulkInsertSupport}.
+ * </ul>
+ * <p>
+ * The rows are streamed from a {@link BulkInsertRows} and encoded directly
+ * from the {@linkplain BulkInsertTable#getColumnTypes() JDBC mappings} of
+ * the columns.
+ *
+ * @see org.hibernate.dialect.Dialect#getBulkInsertSupport
+ * @see org.hibernate.StatelessSession#bulkInsert
+ *
+ * @since 7.1
+ */
+@Incubating
+public interface BulkInsertSupport {
+	/**
+	 * Insert the given rows into the given table.
+	 *
+	 * @param table the table, and the insert statement which would insert a single row
+	 * @param rows the rows to insert
+	 * @param session the session
+	 *
+	 * @return the number of rows inserted
+	 */
+	long insertRows(BulkInsertTable table, BulkInsertRows rows, SharedSessionContractImplementor session);
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import org.hibernate.Incubating;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.model.jdbc.MultiRowInsertSql;
+
+/**
+ * Describes a table into which rows are {@linkplain BulkInsertSupport#insertRows inserted}.
+ * <p>
+ * The columns are the columns whose values are parameters of the insert statement, in
+ * the order of the parameters.
+ *
+ * @since 7.1
+ */
+@Incubating
+public final class BulkInsertTable {
+	private final String tableName;
+	private final String[] columnNames;
+	private final JdbcMapping[] columnTypes;
+	private final MultiRowInsertSql insertSql;
+
+	public BulkInsertTable(
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] columnTypes,
+			MultiRowInsertSql insertSql) {
+		assert columnNames.length == columnTypes.length;
+		assert columnNames.length == insertSql.getParametersPerRow();
+		this.tableName = tableName;
+		this.columnNames = columnNames;
+		this.columnTypes = columnTypes;
+		this.insertSql = insertSql;
+	}
+
+	/**
+	 * The name of the table, as rendered in the insert statement.
+	 */
+	public String getTableName() {
+		return tableName;
+	}
+
+	public int getColumnCount() {
+		return columnNames.length;
+	}
+
+	/**
+	 * The names of the columns, as rendered in the insert statement.
+	 */
+	public String[] getColumnNames() {
+		return columnNames;
+	}
+
+	/**
+	 * The JDBC mappings used to bind the values of the columns.
+	 */
+	public JdbcMapping[] getColumnTypes() {
+		return columnTypes;
+	}
+
+	/**
+	 * Whether the value of every column of the table in the insert
+	 * statement is a parameter. Otherwise, the statement assigns a
+	 * literal value to some column, a discriminator value, for example,
+	 * and the rows may only be inserted by an insert statement.
+	 */
+	public boolean hasOnlyParameterValues() {
+		return insertSql.hasOnlyParameters();
+	}
+
+	/**
+	 * The insert statement inserting the given number of rows.
+	 */
+	public String getInsertSql(int rowCount) {
+		return insertSql.render( rowCount );
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.math.BigDecimal;
+import java.util.function.IntPredicate;
+
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.type.SqlTypes.isTemporalType;
+
+/**
+ * Encodes rows in the delimited text format read by {@code copy ... from stdin}
+ * on PostgreSQL, and by {@code load data} on MySQL, with their default options:
+ * <ul>
+ *     <li>values are separated by a tab, and rows are terminated by a newline,
+ *     <li>a null value is written as {@code \N}, and
+ *     <li>a backslash, tab, newline, or carriage return in a value is escaped
+ *         with a backslash.
+ * </ul>
+ * <p>
+ * A value is unwrapped to the Java type {@linkplain org.hibernate.type.descriptor.jdbc.JdbcType#getPreferredJavaTypeClass
+ * preferred} by the binder of its JDBC type, and written using the string form of
+ * that type, so only JDBC types whose string form is understood by the database
+ * may be encoded.
+ */
+final class DelimitedTextEncoder {
+	private final JavaType<Object>[] javaTypes;
+	private final Class<?>[] valueClasses;
+	private final WrapperOptions options;
+
+	private DelimitedTextEncoder(JavaType<Object>[] javaTypes, Class<?>[] valueClasses, WrapperOptions options) {
+		this.javaTypes = javaTypes;
+		this.valueClasses = valueClasses;
+		this.options = options;
+	}
+
+	/**
+	 * Create an encoder for the rows of the given table.
+	 *
+	 * @param supportedTypeCodes the JDBC type codes which may be encoded for the database
+	 *
+	 * @return the encoder, or {@code null} if the value of some column may not be encoded
+	 */
+	@SuppressWarnings("unchecked")
+	static @Nullable DelimitedTextEncoder create(
+			BulkInsertTable table,
+			IntPredicate supportedTypeCodes,
+			WrapperOptions options) {
+		if ( !table.hasOnlyParameterValues() ) {
+			return null;
+		}
+		final int columnCount = table.getColumnCount();
+		final JavaType<Object>[] javaTypes = new JavaType[columnCount];
+		final Class<?>[] valueClasses = new Class<?>[columnCount];
+		for ( int i = 0; i < columnCount; i++ ) {
+			final JdbcMapping jdbcMapping = table.getColumnTypes()[i];
+			final int typeCode = jdbcMapping.getJdbcType().getDefaultSqlTypeCode();
+			// a temporal value would be bound using the configured JDBC time zone
+			if ( !supportedTypeCodes.test( typeCode )
+					|| isTemporalType( typeCode ) && options.getJdbcTimeZone() != null ) {
+				return null;
+			}
+			final Class<?> valueClass = jdbcMapping.getJdbcType().getPreferredJavaTypeClass( options );
+			if ( valueClass == null ) {
+				return null;
+			}
+			javaTypes[i] = (JavaType<Object>) jdbcMapping.getJdbcJavaType();
+			valueClasses[i] = valueClass;
+		}
+		return new DelimitedTextEncoder( javaTypes, valueClasses, options );
+	}
+
+	/**
+	 * Append the given row, terminated by a newline.
+	 */
+	void appendRow(Object[] row, StringBuilder text) {
+		for ( int i = 0; i < row.length; i++ ) {
+			if ( i > 0 ) {
+				text.append( '\t' );
+			}
+			final Object value = row[i] == null ? null : javaTypes[i].unwrap( row[i], valueClasses[i], options );
+			if ( value == null ) {
+				text.append( "\\N" );
+			}
+			else if ( value instanceof String string ) {
+				appendEscaped( string, text );
+			}
+			else if ( value instanceof Boolean bool ) {
+				text.append( bool ? 't' : 'f' );
+			}
+			else if ( value instanceof BigDecimal decimal ) {
+				text.append( decimal.toPlainString() );
+			}
+			else {
+				text.append( value );
+			}
+		}
+		text.append( '\n' );
+	}
+
+	private static void appendEscaped(String string, StringBuilder text) {
+		for ( int i = 0; i < string.length(); i++ ) {
+			final char c = string.charAt( i );
+			switch ( c ) {
+				case '\\' -> text.append( "\\\\" );
+				case '\t' -> text.append( "\\t" );
+				case '\n' -> text.append( "\\n" );
+				case '\r' -> text.append( "\\r" );
+				default -> text.append( c );
+			}
+		}
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.service.ServiceRegistry;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.type.SqlTypes.BIGINT;
+import static org.hibernate.type.SqlTypes.CHAR;
+import static org.hibernate.type.SqlTypes.DATE;
+import static org.hibernate.type.SqlTypes.DECIMAL;
+import static org.hibernate.type.SqlTypes.DOUBLE;
+import static org.hibernate.type.SqlTypes.FLOAT;
+import static org.hibernate.type.SqlTypes.INTEGER;
+import static org.hibernate.type.SqlTypes.LONG32NVARCHAR;
+import static org.hibernate.type.SqlTypes.LONG32VARCHAR;
+import static org.hibernate.type.SqlTypes.LONGNVARCHAR;
+import static org.hibernate.type.SqlTypes.LONGVARCHAR;
+import static org.hibernate.type.SqlTypes.NCHAR;
+import static org.hibernate.type.SqlTypes.NUMERIC;
+import static org.hibernate.type.SqlTypes.NVARCHAR;
+import static org.hibernate.type.SqlTypes.REAL;
+import static org.hibernate.type.SqlTypes.SMALLINT;
+import static org.hibernate.type.SqlTypes.TINYINT;
+import static org.hibernate.type.SqlTypes.VARCHAR;
+
+/**
+ * Streams the rows to the server using {@code load data local infile}, reading
+ * the rows, in the {@linkplain DelimitedTextEncoder text format}, from an in-memory
+ * stream passed to the statement of MySQL Connector/J. The rows are sent in chunks
+ * of about {@value #CHUNK_SIZE} characters, each by one execution of the statement.
+ * <p>
+ * Loading local data must be allowed by both the server, via {@code local_infile},
+ * and the driver, via {@code allowLoadLocalInfile}, and so this support is only
+ * used when enabled by
+ * {@value org.hibernate.cfg.DialectSpecificSettings#MYSQL_LOAD_DATA_LOCAL_INFILE}.
+ * <p>
+ * Falls back to the {@linkplain StandardBulkInsertSupport standard} multi-row
+ * inserts if the statement is not a statement of Connector/J, or if the value
+ * of some column may not be written as text.
+ * <p>
+ * Since {@code local} implies {@code ignore}, the server skips a row with a
+ * duplicate key, with a warning, instead of failing the statement. When the
+ * server loads fewer rows than it was sent, a
+ * {@link org.hibernate.exception.ConstraintViolationException} is thrown if
+ * it reported a duplicate key, and a {@link HibernateException} otherwise.
+ * The other rows have then already been loaded, along with the rows of the
+ * previous chunks, and so the transaction should be rolled back.
+ *
+ * @since 7.1
+ */
+public class MySQLLoadDataBulkInsertSupport implements BulkInsertSupport {
+	private static final String STATEMENT_CLASS_NAME = "com.mysql.cj.jdbc.JdbcStatement";
+	private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+	private static final int ER_DUP_ENTRY = 1062;
+
+	private final Class<?> statementClass;
+	private final Method setLocalInfileInputStream;
+
+	private MySQLLoadDataBulkInsertSupport(Class<?> statementClass, Method setLocalInfileInputStream) {
+		this.statementClass = statementClass;
+		this.setLocalInfileInputStream = setLocalInfileInputStream;
+	}
+
+	/**
+	 * Create the support, if MySQL Connector/J is available.
+	 *
+	 * @return the support, or {@code null} if the classes of the driver are not available
+	 */
+	public static @Nullable MySQLLoadDataBulkInsertSupport create(ServiceRegistry serviceRegistry) {
+		final ClassLoaderService classLoaderService = serviceRegistry.requireService( ClassLoaderService.class );
+		try {
+			final Class<?> statementClass = classLoaderService.classForName( STATEMENT_CLASS_NAME );
+			return new MySQLLoadDataBulkInsertSupport(
+					statementClass,
+					statementClass.getMethod( "setLocalInfileInputStream", InputStream.class )
+			);
+		}
+		catch (ClassLoadingException | NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public long insertRows(BulkInsertTable table, BulkInsertRows rows, SharedSessionContractImplementor session) {
+		final DelimitedTextEncoder encoder =
+				DelimitedTextEncoder.create( table, MySQLLoadDataBulkInsertSupport::isSupported, session );
+		if ( encoder == null ) {
+			return StandardBulkInsertSupport.INSTANCE.insertRows( table, rows, session );
+		}
+
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final String sql = loadDataSql( table );
+		final Statement statement = jdbcCoordinator.getStatementPreparer().createStatement();
+		try {
+			final Object driverStatement;
+			try {
+				if ( !statement.isWrapperFor( statementClass ) ) {
+					return StandardBulkInsertSupport.INSTANCE.insertRows( table, rows, session );
+				}
+				driverStatement = statement.unwrap( statementClass );
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper()
+						.convert( e, "Unable to unwrap statement", sql );
+			}
+
+			final Chunk chunk = new Chunk( table, statement, driverStatement, sql, session );
+			rows.forEachRow( row -> {
+				encoder.appendRow( row, chunk.text );
+				chunk.rowCount++;
+				if ( chunk.text.length() >= CHUNK_SIZE ) {
+					chunk.load();
+				}
+			} );
+			chunk.load();
+			return chunk.loadedRowCount;
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private static String loadDataSql(BulkInsertTable table) {
+		// the default field and line terminators and escape character
+		final StringBuilder sql = new StringBuilder( "load data local infile 'stream' into table " )
+				.append( table.getTableName() )
+				.append( " character set utf8mb4 (" );
+		final String[] columnNames = table.getColumnNames();
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( columnNames[i] );
+		}
+		return sql.append( ')' ).toString();
+	}
+
+	private static boolean isSupported(int typeCode) {
+		return switch ( typeCode ) {
+			case TINYINT, SMALLINT, INTEGER, BIGINT, REAL, FLOAT, DOUBLE, NUMERIC, DECIMAL,
+				CHAR, NCHAR, VARCHAR, NVARCHAR, LONGVARCHAR, LONGNVARCHAR, LONG32VARCHAR, LONG32NVARCHAR,
+				DATE -> true;
+			default -> false;
+		};
+	}
+
+	/**
+	 * The rows collected for one execution of the statement.
+	 */
+	private final class Chunk {
+		private final BulkInsertTable table;
+		private final Statement statement;
+		private final Object driverStatement;
+		private final String sql;
+		private final SharedSessionContractImplementor session;
+
+		private final StringBuilder text = new StringBuilder( CHUNK_SIZE + 1024 );
+		private int rowCount;
+		private long loadedRowCount;
+
+		private Chunk(
+				BulkInsertTable table,
+				Statement statement,
+				Object driverStatement,
+				String sql,
+				SharedSessionContractImplementor session) {
+			this.table = table;
+			this.statement = statement;
+			this.driverStatement = driverStatement;
+			this.sql = sql;
+			this.session = session;
+		}
+
+		private void load() {
+			if ( rowCount > 0 ) {
+				final byte[] bytes = text.toString().getBytes( StandardCharsets.UTF_8 );
+				try {
+					// the stream is only used by the next execution
+					setLocalInfileInputStream.invoke( driverStatement, new ByteArrayInputStream( bytes ) );
+				}
+				catch (IllegalAccessException | InvocationTargetException e) {
+					throw new HibernateException( "Could not set the input stream of 'load data local infile'", e );
+				}
+				final int loaded = session.getJdbcCoordinator().getResultSetReturn().executeUpdate( statement, sql );
+				// 'local' implies 'ignore', so a row with a duplicate key is skipped with a warning
+				if ( loaded != rowCount ) {
+					throw rowsSkipped( loaded );
+				}
+				loadedRowCount += loaded;
+				text.setLength( 0 );
+				rowCount = 0;
+			}
+		}
+
+		private HibernateException rowsSkipped(int loaded) {
+			final String message = "Loaded " + loaded + " of " + rowCount
+					+ " rows into table '" + table.getTableName() + "'";
+			try {
+				for ( SQLWarning warning = statement.getWarnings(); warning != null; warning = warning.getNextWarning() ) {
+					if ( warning.getErrorCode() == ER_DUP_ENTRY ) {
+						return session.getJdbcServices().getSqlExceptionHelper().convert( warning, message, sql );
+					}
+				}
+			}
+			catch (SQLException e) {
+				// report the number of rows only
+			}
+			return new HibernateException( message );
+		}
+	}
+}
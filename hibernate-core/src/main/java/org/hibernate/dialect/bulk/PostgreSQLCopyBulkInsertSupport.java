@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import static org.hibernate.type.SqlTypes.BIGINT;
+import static org.hibernate.type.SqlTypes.BOOLEAN;
+import static org.hibernate.type.SqlTypes.CHAR;
+import static org.hibernate.type.SqlTypes.DATE;
+import static org.hibernate.type.SqlTypes.DECIMAL;
+import static org.hibernate.type.SqlTypes.DOUBLE;
+import static org.hibernate.type.SqlTypes.FLOAT;
+import static org.hibernate.type.SqlTypes.INTEGER;
+import static org.hibernate.type.SqlTypes.LONG32NVARCHAR;
+import static org.hibernate.type.SqlTypes.LONG32VARCHAR;
+import static org.hibernate.type.SqlTypes.LONGNVARCHAR;
+import static org.hibernate.type.SqlTypes.LONGVARCHAR;
+import static org.hibernate.type.SqlTypes.NCHAR;
+import static org.hibernate.type.SqlTypes.NUMERIC;
+import static org.hibernate.type.SqlTypes.NVARCHAR;
+import static org.hibernate.type.SqlTypes.REAL;
+import static org.hibernate.type.SqlTypes.SMALLINT;
+import static org.hibernate.type.SqlTypes.TIMESTAMP;
+import static org.hibernate.type.SqlTypes.TINYINT;
+import static org.hibernate.type.SqlTypes.UUID;
+import static org.hibernate.type.SqlTypes.VARCHAR;
+
+/**
+ * Streams the rows to the server using {@code copy ... from stdin}, via the
+ * {@link org.postgresql.copy.CopyManager} of the PostgreSQL JDBC driver, in
+ * the {@linkplain DelimitedTextEncoder text format}.
+ * <p>
+ * Falls back to the {@linkplain StandardBulkInsertSupport standard} multi-row
+ * inserts if the connection is not a connection of the PostgreSQL JDBC driver,
+ * or if the value of some column may not be written as text.
+ *
+ * @implNote This class is loaded via the {@link org.hibernate.boot.registry.classloading.spi.ClassLoaderService},
+ * since it refers to classes of the JDBC driver.
+ *
+ * @see org.hibernate.dialect.type.PgJdbcHelper#getCopyBulkInsertSupport
+ *
+ * @since 7.1
+ */
+public class PostgreSQLCopyBulkInsertSupport implements BulkInsertSupport {
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	@Override
+	public long insertRows(BulkInsertTable table, BulkInsertRows rows, SharedSessionContractImplementor session) {
+		final DelimitedTextEncoder encoder =
+				DelimitedTextEncoder.create( table, PostgreSQLCopyBulkInsertSupport::isSupported, session );
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final Connection connection = jdbcCoordinator.getLogicalConnection().getPhysicalConnection();
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		final String sql = copySql( table );
+		try {
+			if ( encoder == null || !connection.isWrapperFor( PGConnection.class ) ) {
+				return StandardBulkInsertSupport.INSTANCE.insertRows( table, rows, session );
+			}
+			jdbcServices.getSqlStatementLogger().logStatement( sql );
+			final CopyIn copyIn = connection.unwrap( PGConnection.class ).getCopyAPI().copyIn( sql );
+			try {
+				final StringBuilder text = new StringBuilder( BUFFER_SIZE + 1024 );
+				rows.forEachRow( row -> {
+					encoder.appendRow( row, text );
+					if ( text.length() >= BUFFER_SIZE ) {
+						write( copyIn, text, jdbcServices, sql );
+					}
+				} );
+				write( copyIn, text, jdbcServices, sql );
+				return copyIn.endCopy();
+			}
+			finally {
+				if ( copyIn.isActive() ) {
+					copyIn.cancelCopy();
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert( e, "Unable to copy rows", sql );
+		}
+		finally {
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private static void write(CopyIn copyIn, StringBuilder text, JdbcServices jdbcServices, String sql) {
+		if ( !text.isEmpty() ) {
+			final byte[] bytes = text.toString().getBytes( StandardCharsets.UTF_8 );
+			try {
+				copyIn.writeToCopy( bytes, 0, bytes.length );
+			}
+			catch (SQLException e) {
+				throw jdbcServices.getSqlExceptionHelper().convert( e, "Unable to copy rows", sql );
+			}
+			text.setLength( 0 );
+		}
+	}
+
+	private static String copySql(BulkInsertTable table) {
+		final StringBuilder sql = new StringBuilder( "copy " ).append( table.getTableName() ).append( " (" );
+		final String[] columnNames = table.getColumnNames();
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( columnNames[i] );
+		}
+		// the text format, with its default delimiter, null string, and escapes, in UTF-8
+		return sql.append( ") from stdin with (encoding 'UTF8')" ).toString();
+	}
+
+	private static boolean isSupported(int typeCode) {
+		return switch ( typeCode ) {
+			case BOOLEAN, TINYINT, SMALLINT, INTEGER, BIGINT, REAL, FLOAT, DOUBLE, NUMERIC, DECIMAL,
+				CHAR, NCHAR, VARCHAR, NVARCHAR, LONGVARCHAR, LONGNVARCHAR, LONG32VARCHAR, LONG32NVARCHAR,
+				DATE, TIMESTAMP, UUID -> true;
+			default -> false;
+		};
+	}
+}
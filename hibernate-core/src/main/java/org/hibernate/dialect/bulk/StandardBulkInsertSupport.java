@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Locale;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.descriptor.ValueBinder;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Inserts the rows using multi-row {@code insert ... values (...), (...)} statements,
+ * with as many rows per statement as allowed by the {@linkplain Dialect#getParameterCountLimit()
+ * parameter limit} of the database, up to {@value #MAXIMUM_ROWS_PER_STATEMENT}. The
+ * statement inserting the maximum number of rows is prepared once, and reused.
+ * <p>
+ * If the database does not {@linkplain Dialect#supportsMultiRowInsert() support} multi-row
+ * inserts, each row is inserted by the single-row insert statement.
+ *
+ * @since 7.1
+ */
+public class StandardBulkInsertSupport implements BulkInsertSupport {
+	/**
+	 * Singleton access
+	 */
+	public static final StandardBulkInsertSupport INSTANCE = new StandardBulkInsertSupport();
+
+	private static final int MAXIMUM_ROWS_PER_STATEMENT = 100;
+
+	@Override
+	public long insertRows(BulkInsertTable table, BulkInsertRows rows, SharedSessionContractImplementor session) {
+		final RowChunks chunks = new RowChunks( table, maximumRowsPerStatement( table, session.getJdbcServices() ), session );
+		try {
+			rows.forEachRow( chunks::add );
+			chunks.executeRemaining();
+			return chunks.insertedRowCount;
+		}
+		finally {
+			chunks.release();
+		}
+	}
+
+	private static int maximumRowsPerStatement(BulkInsertTable table, JdbcServices jdbcServices) {
+		final Dialect dialect = jdbcServices.getDialect();
+		if ( !dialect.supportsMultiRowInsert() ) {
+			return 1;
+		}
+		int maximumRowsPerStatement = MAXIMUM_ROWS_PER_STATEMENT;
+		final int parameterCountLimit = dialect.getParameterCountLimit();
+		if ( parameterCountLimit > 0 ) {
+			maximumRowsPerStatement =
+					Math.min( maximumRowsPerStatement, parameterCountLimit / table.getColumnCount() );
+		}
+		final int rowLimit = dialect.getMaximumRowsPerMultiRowInsert();
+		if ( rowLimit > 0 ) {
+			maximumRowsPerStatement = Math.min( maximumRowsPerStatement, rowLimit );
+		}
+		return Math.max( 1, maximumRowsPerStatement );
+	}
+
+	/**
+	 * Collects the rows for one statement, and executes the statement when full.
+	 */
+	private static final class RowChunks {
+		private final BulkInsertTable table;
+		private final int maximumRowCount;
+		private final SharedSessionContractImplementor session;
+		private final JdbcCoordinator jdbcCoordinator;
+
+		private final ValueBinder<?>[] binders;
+		private final Object[] values;
+		private int rowCount;
+		private long insertedRowCount;
+
+		private @Nullable String fullStatementSql;
+		private @Nullable PreparedStatement fullStatement;
+
+		private RowChunks(BulkInsertTable table, int maximumRowCount, SharedSessionContractImplementor session) {
+			this.table = table;
+			this.maximumRowCount = maximumRowCount;
+			this.session = session;
+			this.jdbcCoordinator = session.getJdbcCoordinator();
+
+			final int columnCount = table.getColumnCount();
+			binders = new ValueBinder<?>[columnCount];
+			for ( int i = 0; i < columnCount; i++ ) {
+				binders[i] = table.getColumnTypes()[i].getJdbcValueBinder();
+			}
+			values = new Object[maximumRowCount * columnCount];
+		}
+
+		private void add(Object[] row) {
+			System.arraycopy( row, 0, values, rowCount * row.length, row.length );
+			rowCount++;
+			if ( rowCount == maximumRowCount ) {
+				if ( fullStatement == null ) {
+					fullStatementSql = table.getInsertSql( maximumRowCount );
+					fullStatement = prepare( fullStatementSql );
+				}
+				execute( fullStatement, fullStatementSql );
+			}
+		}
+
+		private void executeRemaining() {
+			if ( rowCount > 0 ) {
+				final String sql = table.getInsertSql( rowCount );
+				final PreparedStatement statement = prepare( sql );
+				try {
+					execute( statement, sql );
+				}
+				finally {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+				}
+			}
+		}
+
+		private PreparedStatement prepare(String sql) {
+			return jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		}
+
+		@SuppressWarnings("unchecked")
+		private void execute(PreparedStatement statement, String sql) {
+			final int columnCount = binders.length;
+			final int parameterCount = rowCount * columnCount;
+			for ( int i = 0; i < parameterCount; i++ ) {
+				final Object value = values[i];
+				try {
+					( (ValueBinder<Object>) binders[i % columnCount] ).bind( statement, value, i + 1, session );
+				}
+				catch (SQLException e) {
+					throw session.getJdbcServices().getSqlExceptionHelper().convert(
+							e,
+							String.format(
+									Locale.ROOT,
+									"Unable to bind parameter #%s - %s",
+									i + 1,
+									value
+							),
+							sql
+					);
+				}
+			}
+			try {
+				insertedRowCount += jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			}
+			finally {
+				jdbcCoordinator.afterStatementExecution();
+			}
+			rowCount = 0;
+		}
+
+		private void release() {
+			if ( fullStatement != null ) {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( fullStatement );
+				fullStatement = null;
+			}
+		}
+	}
+}
@@ -213,4 +213,9 @@ public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
 		inArrayPredicate.getArrayParameter().accept( this );
 		appendSql( ')' );
 	}
+
+	@Override
+	protected boolean supportsInArrayParameter() {
+		return true;
+	}
 }
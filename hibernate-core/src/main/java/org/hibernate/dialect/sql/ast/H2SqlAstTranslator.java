@@ -95,6 +95,12 @@ protected void visitReturningColumns(List<ColumnReference> returningColumns) {
 		// do nothing - this is handled via `#renderReturningClause`
 	}
 
+	@Override
+	protected boolean supportsInArrayParameter() {
+		// rendered as array_contains(?,x)
+		return true;
+	}
+
 	@Deprecated( forRemoval = true, since = "6.5" )
 	public void visitReturningInsertStatement(TableInsertStandard tableInsert) {
 		assert tableInsert.getReturningColumns() != null
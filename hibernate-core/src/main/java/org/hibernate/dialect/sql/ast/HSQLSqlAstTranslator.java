@@ -121,6 +121,11 @@ public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
 		appendSql( "))" );
 	}
 
+	@Override
+	protected boolean supportsInArrayParameter() {
+		return true;
+	}
+
 	@Override
 	protected boolean supportsRecursiveClauseArrayAndRowEmulation() {
 		// Even though HSQL supports the array constructor, it's illegal to use arrays in CTEs
@@ -54,6 +54,11 @@ public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
 		appendSql( ")" );
 	}
 
+	@Override
+	protected boolean supportsInArrayParameter() {
+		return true;
+	}
+
 	@Override
 	protected String getArrayContainsFunction() {
 		return super.getArrayContainsFunction();
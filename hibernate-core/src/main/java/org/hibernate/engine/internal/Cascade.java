@@ -91,6 +91,7 @@ public static <T> void cascade(
 			if ( bytecodeEnhancement.isEnhancedForLazyLoading() ) {
 				entry = eventSource.getPersistenceContextInternal().getEntry( parent );
 				if ( entry != null
+						&& !( entry instanceof EntityEntryImpl entryImpl && entryImpl.isLoadedStateLazy() )
 						&& entry.getLoadedState() == null
 						&& entry.getStatus() == Status.MANAGED ) {
 					return;
@@ -0,0 +1,264 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A compact representation of the loaded state of an entity, in which the
+ * values of the properties of primitive wrapper type are packed into the
+ * bits of a {@code long[]} array instead of being held as boxed objects,
+ * and the values of all other properties are held by reference.
+ * <p>
+ * A snapshot is immutable, and is expanded back to the usual {@code Object[]}
+ * representation of the state by {@link #toArray()}.
+ *
+ * @see org.hibernate.annotations.CompactSnapshot
+ * @see org.hibernate.cfg.MappingSettings#COMPACT_SNAPSHOTS
+ *
+ * @since 7.1
+ */
+public final class CompactLoadedState implements Serializable {
+
+	private static final byte REFERENCE = 0;
+	private static final byte BOOLEAN = 1;
+	private static final byte BYTE = 2;
+	private static final byte SHORT = 3;
+	private static final byte CHARACTER = 4;
+	private static final byte INTEGER = 5;
+	private static final byte FLOAT = 6;
+	private static final byte LONG = 7;
+	private static final byte DOUBLE = 8;
+
+	private static final int[] WIDTHS = { 0, 1, 8, 16, 16, 32, 32, 64, 64 };
+
+	private static final Map<Class<?>, Byte> KINDS = Map.ofEntries(
+			Map.entry( Boolean.class, BOOLEAN ),
+			Map.entry( boolean.class, BOOLEAN ),
+			Map.entry( Byte.class, BYTE ),
+			Map.entry( byte.class, BYTE ),
+			Map.entry( Short.class, SHORT ),
+			Map.entry( short.class, SHORT ),
+			Map.entry( Character.class, CHARACTER ),
+			Map.entry( char.class, CHARACTER ),
+			Map.entry( Integer.class, INTEGER ),
+			Map.entry( int.class, INTEGER ),
+			Map.entry( Float.class, FLOAT ),
+			Map.entry( float.class, FLOAT ),
+			Map.entry( Long.class, LONG ),
+			Map.entry( long.class, LONG ),
+			Map.entry( Double.class, DOUBLE ),
+			Map.entry( double.class, DOUBLE )
+	);
+
+	/**
+	 * The position of the value of each property of an entity in a snapshot,
+	 * shared by all snapshots of the entity.
+	 */
+	public static final class Layout implements Serializable {
+		// the kind of each property
+		private final byte[] kinds;
+		// the bit offset of the value of each packed property,
+		// or the index of the value of each reference property
+		private final int[] positions;
+		// the index of the null bit of each packed property
+		private final byte[] nullBits;
+		private final int wordCount;
+		private final int referenceCount;
+
+		private Layout(byte[] kinds, int[] positions, byte[] nullBits, int wordCount, int referenceCount) {
+			this.kinds = kinds;
+			this.positions = positions;
+			this.nullBits = nullBits;
+			this.wordCount = wordCount;
+			this.referenceCount = referenceCount;
+		}
+
+		/**
+		 * The layout of the snapshots of an entity with the given properties, or
+		 * {@code null} if the entity has no property which could be packed.
+		 *
+		 * @param propertyTypes The types of the properties
+		 * @param propertyLaziness Whether each property is lazy, in which case it
+		 *                         is never packed, since it might be unfetched
+		 */
+		public static @Nullable Layout forProperties(Type[] propertyTypes, boolean[] propertyLaziness) {
+			final int propertyCount = propertyTypes.length;
+			final byte[] kinds = new byte[propertyCount];
+			int packedCount = 0;
+			for ( int i = 0; i < propertyCount; i++ ) {
+				// the null bits of the packed values fit in a single long
+				if ( packedCount < Long.SIZE && !propertyLaziness[i]
+						&& propertyTypes[i] instanceof BasicType<?> basicType ) {
+					final Byte kind = KINDS.get( basicType.getReturnedClass() );
+					if ( kind != null ) {
+						kinds[i] = kind;
+						packedCount++;
+					}
+				}
+			}
+			if ( packedCount == 0 ) {
+				return null;
+			}
+
+			final int[] positions = new int[propertyCount];
+			final byte[] nullBits = new byte[propertyCount];
+			int referenceCount = 0;
+			int packedIndex = 0;
+			int bitOffset = 0;
+			// assign the widest values first, so that no value spans two words
+			for ( int kind = DOUBLE; kind >= BOOLEAN; kind-- ) {
+				for ( int i = 0; i < propertyCount; i++ ) {
+					if ( kinds[i] == kind ) {
+						positions[i] = bitOffset;
+						nullBits[i] = (byte) packedIndex++;
+						bitOffset += WIDTHS[kind];
+					}
+				}
+			}
+			for ( int i = 0; i < propertyCount; i++ ) {
+				if ( kinds[i] == REFERENCE ) {
+					positions[i] = referenceCount++;
+				}
+			}
+			return new Layout( kinds, positions, nullBits, ( bitOffset + Long.SIZE - 1 ) / Long.SIZE, referenceCount );
+		}
+	}
+
+	private final Layout layout;
+	private final long[] words;
+	private final long nulls;
+	private final Object @Nullable [] references;
+
+	private CompactLoadedState(Layout layout, long[] words, long nulls, Object @Nullable [] references) {
+		this.layout = layout;
+		this.words = words;
+		this.nulls = nulls;
+		this.references = references;
+	}
+
+	/**
+	 * Create a compact snapshot of the given state, or return {@code null} if
+	 * a value does not have the type expected by the layout.
+	 */
+	public static @Nullable CompactLoadedState of(Layout layout, Object[] state) {
+		final long[] words = new long[layout.wordCount];
+		final Object[] references = layout.referenceCount == 0 ? null : new Object[layout.referenceCount];
+		long nulls = 0;
+		for ( int i = 0; i < state.length; i++ ) {
+			final Object value = state[i];
+			final byte kind = layout.kinds[i];
+			final int position = layout.positions[i];
+			if ( kind == REFERENCE ) {
+				references[position] = value;
+			}
+			else if ( value == null ) {
+				nulls |= 1L << layout.nullBits[i];
+			}
+			else {
+				final long bits;
+				switch ( kind ) {
+					case BOOLEAN:
+						if ( !( value instanceof Boolean booleanValue ) ) {
+							return null;
+						}
+						bits = booleanValue ? 1L : 0L;
+						break;
+					case BYTE:
+						if ( !( value instanceof Byte byteValue ) ) {
+							return null;
+						}
+						bits = byteValue & 0xFFL;
+						break;
+					case SHORT:
+						if ( !( value instanceof Short shortValue ) ) {
+							return null;
+						}
+						bits = shortValue & 0xFFFFL;
+						break;
+					case CHARACTER:
+						if ( !( value instanceof Character charValue ) ) {
+							return null;
+						}
+						bits = charValue;
+						break;
+					case INTEGER:
+						if ( !( value instanceof Integer intValue ) ) {
+							return null;
+						}
+						bits = intValue & 0xFFFFFFFFL;
+						break;
+					case FLOAT:
+						if ( !( value instanceof Float floatValue ) ) {
+							return null;
+						}
+						bits = Float.floatToRawIntBits( floatValue ) & 0xFFFFFFFFL;
+						break;
+					case LONG:
+						if ( !( value instanceof Long longValue ) ) {
+							return null;
+						}
+						bits = longValue;
+						break;
+					case DOUBLE:
+						if ( !( value instanceof Double doubleValue ) ) {
+							return null;
+						}
+						bits = Double.doubleToRawLongBits( doubleValue );
+						break;
+					default:
+						throw new AssertionError( "Unknown kind " + kind );
+				}
+				words[position >>> 6] |= bits << ( position & 63 );
+			}
+		}
+		return new CompactLoadedState( layout, words, nulls, references );
+	}
+
+	/**
+	 * The value of the property at the given index.
+	 */
+	public Object get(int index) {
+		final byte kind = layout.kinds[index];
+		final int position = layout.positions[index];
+		if ( kind == REFERENCE ) {
+			return references[position];
+		}
+		else if ( ( nulls & 1L << layout.nullBits[index] ) != 0 ) {
+			return null;
+		}
+		else {
+			final long bits = words[position >>> 6] >>> ( position & 63 );
+			return switch ( kind ) {
+				case BOOLEAN -> ( bits & 1L ) != 0;
+				case BYTE -> (byte) bits;
+				case SHORT -> (short) bits;
+				case CHARACTER -> (char) bits;
+				case INTEGER -> (int) bits;
+				case FLOAT -> Float.intBitsToFloat( (int) bits );
+				case LONG -> bits;
+				case DOUBLE -> Double.longBitsToDouble( bits );
+				default -> throw new AssertionError( "Unknown kind " + kind );
+			};
+		}
+	}
+
+	/**
+	 * Expand this snapshot to a new array holding the value of each property.
+	 */
+	public Object[] toArray() {
+		final Object[] state = new Object[layout.kinds.length];
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = get( i );
+		}
+		return state;
+	}
+}
@@ -29,6 +29,7 @@
 import org.hibernate.engine.spi.Status;
 import org.hibernate.internal.util.ImmutableBitSet;
 import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.type.TypeHelper;
 
@@ -37,6 +38,7 @@
 import static org.hibernate.LockMode.PESSIMISTIC_FORCE_INCREMENT;
 import static org.hibernate.engine.internal.EntityEntryImpl.BooleanState.EXISTS_IN_DATABASE;
 import static org.hibernate.engine.internal.EntityEntryImpl.BooleanState.IS_BEING_REPLICATED;
+import static org.hibernate.engine.internal.EntityEntryImpl.BooleanState.LOADED_STATE_DEFERRED;
 import static org.hibernate.engine.internal.EntityEntryImpl.EnumState.LOCK_MODE;
 import static org.hibernate.engine.internal.EntityEntryImpl.EnumState.PREVIOUS_STATUS;
 import static org.hibernate.engine.internal.EntityEntryImpl.EnumState.STATUS;
@@ -70,6 +72,7 @@ public final class EntityEntryImpl implements Serializable, EntityEntry {
 
 	private final Object id;
 	private Object[] loadedState;
+	private @Nullable CompactLoadedState compactLoadedState;
 	private Object version;
 	private final EntityPersister persister; // permanent but we only need the entityName state in a non transient way
 	private transient EntityKey cachedEntityKey; // cached EntityKey (lazy-initialized)
@@ -92,8 +95,9 @@ public final class EntityEntryImpl implements Serializable, EntityEntry {
 	 * 4 - existsInDatabase
 	 * 5 - isBeingReplicated
 	 * 6 - loadedWithLazyPropertiesUnfetched; NOTE: this is not updated when properties are fetched lazily!
+	 * 7 - loadedStateDeferred
 	 *
-	 * 0000 0000 | 0000 0000 | 0654 3333 | 2222 1111
+	 * 0000 0000 | 0000 0000 | 7654 3333 | 2222 1111
 	 * </pre>
 	 * <p>
 	 * Use {@link #setCompressedValue(EnumState, Enum)},
@@ -202,6 +206,8 @@ public void setStatus(Status status) {
 		if ( status == READ_ONLY ) {
 			//memory optimization
 			loadedState = null;
+			compactLoadedState = null;
+			setCompressedValue( LOADED_STATE_DEFERRED, false );
 		}
 
 		final Status currentStatus = getStatus();
@@ -218,9 +224,66 @@ public Object getId() {
 
 	@Override
 	public Object[] getLoadedState() {
+		if ( compactLoadedState != null ) {
+			// expand the compact snapshot for good, since
+			// the caller is allowed to modify the array
+			loadedState = compactLoadedState.toArray();
+			compactLoadedState = null;
+		}
+		else if ( isLoadedStateDeferred() ) {
+			takeDeferredSnapshot( getPersistenceContext().getEntity( getEntityKey() ) );
+		}
 		return loadedState;
 	}
 
+	@Override
+	public Object[] getLoadedStateForReading() {
+		// a temporary copy, keeping the compact snapshot
+		return compactLoadedState != null ? compactLoadedState.toArray() : getLoadedState();
+	}
+
+	/**
+	 * Whether the loaded state is held as a {@link CompactLoadedState compact snapshot},
+	 * which is expanded for good by {@link #getLoadedState()}, but not by
+	 * {@link #getLoadedStateForReading()}.
+	 */
+	public boolean isLoadedStateCompact() {
+		return compactLoadedState != null;
+	}
+
+	/**
+	 * Whether the snapshot of the loaded state is deferred until the entity
+	 * is first modified, in which case the loaded state is the current state
+	 * of the entity, and is taken by {@link #getLoadedState()}.
+	 *
+	 * @see EntityPersister#isSnapshotDeferrable()
+	 */
+	public boolean isLoadedStateDeferred() {
+		return getCompressedValue( LOADED_STATE_DEFERRED );
+	}
+
+	/**
+	 * Whether the loaded state is not held as an array, and so
+	 * {@link #getLoadedState()} has to allocate one.
+	 */
+	public boolean isLoadedStateLazy() {
+		return compactLoadedState != null || isLoadedStateDeferred();
+	}
+
+	/**
+	 * Takes the deferred snapshot of the loaded state of the given entity,
+	 * if any, before the state of the entity is modified.
+	 */
+	public void takeDeferredSnapshot(Object entity) {
+		if ( isLoadedStateDeferred() ) {
+			setCompressedValue( LOADED_STATE_DEFERRED, false );
+			if ( entity != null ) {
+				// no need for a deep copy, since there are no mutable properties
+				loadedState = persister.getValues( entity );
+			}
+		}
+	}
+
 	@Override
 	public Object[] getDeletedState() {
 		final EntityEntryExtraStateHolder extra = getExtraState( EntityEntryExtraStateHolder.class );
@@ -291,6 +354,8 @@ public Object getRowId() {
 	@Override
 	public void postUpdate(Object entity, Object[] updatedState, Object nextVersion) {
 		loadedState = updatedState;
+		compactLoadedState = null;
+		setCompressedValue( LOADED_STATE_DEFERRED, false );
 		setLockMode( LockMode.WRITE );
 
 		if ( persister.isVersioned() ) {
@@ -308,6 +373,9 @@ public void postUpdate(Object entity, Object[] updatedState, Object nextVersion)
 
 	@Override
 	public void postLoad(Object entity) {
+		if ( !deferLoadedState() ) {
+			compactLoadedState();
+		}
 		processIfSelfDirtinessTracker( entity, EntityEntryImpl::clearDirtyAttributes );
 		processIfManagedEntity( entity, EntityEntryImpl::useTracker );
 
@@ -315,6 +383,49 @@ public void postLoad(Object entity) {
 			session.getFactory().getCustomEntityDirtinessStrategy()
 					.resetDirty( entity, persister, session );
 		}
+
+		if ( persistenceContext instanceof StatefulPersistenceContext statefulPersistenceContext ) {
+			statefulPersistenceContext.forgetIfUnmodified( entity, this );
+		}
+	}
+
+	/**
+	 * Called by an enhanced entity when its first field is modified.
+	 *
+	 * @see org.hibernate.bytecode.enhance.internal.tracker.ChangeNotifier
+	 */
+	public void registerModified(Object entity) {
+		// the modified field still holds its loaded value
+		takeDeferredSnapshot( entity );
+		if ( persistenceContext != null ) {
+			persistenceContext.registerModifiedEntity( entity );
+		}
+	}
+
+	private boolean deferLoadedState() {
+		if ( loadedState != null && getStatus() == MANAGED && persister.isSnapshotDeferrable() ) {
+			loadedState = null;
+			setCompressedValue( LOADED_STATE_DEFERRED, true );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private void compactLoadedState() {
+		if ( loadedState != null ) {
+			final CompactLoadedState.Layout layout =
+					persister instanceof AbstractEntityPersister entityPersister
+							? entityPersister.getCompactLoadedStateLayout()
+							: null;
+			if ( layout != null ) {
+				compactLoadedState = CompactLoadedState.of( layout, loadedState );
+				if ( compactLoadedState != null ) {
+					loadedState = null;
+				}
+			}
+		}
 	}
 
 	private static void clearDirtyAttributes(final SelfDirtinessTracker entity) {
@@ -353,12 +464,25 @@ else if ( earlyInsert ) {
 
 	@Override
 	public Object getLoadedValue(String propertyName) {
-		if ( loadedState == null || propertyName == null ) {
+		if ( loadedState == null && !isLoadedStateLazy() || propertyName == null ) {
 			return null;
 		}
 		else {
 			final int index = propertyIndex( propertyName );
-			return index < 0 ? null : loadedState[index];
+			if ( index < 0 ) {
+				return null;
+			}
+			else if ( compactLoadedState != null ) {
+				return compactLoadedState.get( index );
+			}
+			else if ( isLoadedStateDeferred() ) {
+				// the entity is unmodified, so its current value is its loaded value
+				final Object entity = getPersistenceContext().getEntity( getEntityKey() );
+				return entity == null ? null : persister.getValue( entity, index );
+			}
+			else {
+				return loadedState[index];
+			}
 		}
 	}
 
@@ -372,8 +496,9 @@ public void overwriteLoadedStateCollectionValue(String propertyName, PersistentC
 		// nothing to do if status is READ_ONLY
 		if ( getStatus() != READ_ONLY ) {
 			assert propertyName != null;
-			assert loadedState != null;
-			loadedState[ propertyIndex( propertyName ) ] = collection;
+			final Object[] state = getLoadedState();
+			assert state != null;
+			state[ propertyIndex( propertyName ) ] = collection;
 		}
 	}
 
@@ -445,7 +570,7 @@ public boolean isModifiableEntity() {
 	public void forceLocked(Object entity, Object nextVersion) {
 		version = nextVersion;
 		final int versionProperty = persister.getVersionProperty();
-		loadedState[versionProperty] = version;
+		getLoadedState()[versionProperty] = version;
 		setLockMode( PESSIMISTIC_FORCE_INCREMENT );
 		persister.setValue( entity, versionProperty, nextVersion );
 	}
@@ -465,6 +590,7 @@ public void setReadOnly(boolean readOnly, Object entity) {
 			if ( readOnly ) {
 				setStatus( READ_ONLY );
 				loadedState = null;
+				compactLoadedState = null;
 			}
 			else if ( !persister.isMutable() ) {
 				throw new IllegalStateException( "Cannot make an entity of immutable type '"
@@ -518,7 +644,7 @@ public void serialize(ObjectOutputStream oos) throws IOException {
 		oos.writeInt( getStatus().ordinal() );
 		oos.writeInt( previousStatus == null ? -1 : previousStatus.ordinal() );
 		// todo : potentially look at optimizing these two arrays
-		oos.writeObject( loadedState );
+		oos.writeObject( getLoadedStateForReading() );
 		oos.writeObject( getDeletedState() );
 		oos.writeObject( version );
 		oos.writeInt( getLockMode().ordinal() );
@@ -721,7 +847,8 @@ private E[] getEnumConstants() {
 	enum BooleanState {
 
 		EXISTS_IN_DATABASE(13),
-		IS_BEING_REPLICATED(14);
+		IS_BEING_REPLICATED(14),
+		LOADED_STATE_DEFERRED(15);
 
 		private final int offset;
 		private final int mask;
@@ -0,0 +1,410 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link Map} keyed by {@link EntityKey}, used by the {@link StatefulPersistenceContext}
+ * to hold the entity instances associated with a session.
+ * <p>
+ * Keys and values are stored in two parallel arrays, using open addressing with linear
+ * probing, so that no node object is allocated per entry, as it is by {@link java.util.HashMap}.
+ * Removal shifts the following entries of the probe sequence back, so that no tombstones
+ * are left in the table.
+ * <p>
+ * Entries may also be looked up by {@linkplain #get(EntityPersister, Object) persister and
+ * identifier}, without instantiating an {@code EntityKey}.
+ * <p>
+ * Null keys are not supported, but null values are, since only the array of keys tells
+ * which slots are occupied. Iterators are fail-fast, and support {@link Iterator#remove()}.
+ *
+ * @param <V> the type of the values
+ *
+ * @since 7.1
+ */
+public final class EntityKeyMap<V> extends AbstractMap<EntityKey, V> {
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+	// 2^32 divided by the golden ratio
+	private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+	private EntityKey[] keys;
+	private Object[] values;
+	// the number of bits to discard from the mixed hash
+	private int shift;
+	private int resizeThreshold;
+	private int size;
+	private int modCount;
+
+	private @Nullable Set<Entry<EntityKey, V>> entrySet;
+
+	public EntityKeyMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize the number of entries which can be held without resizing
+	 */
+	public EntityKeyMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor at or below 2/3
+		final long minimumCapacity = Math.max( MINIMUM_CAPACITY, 3L * expectedSize / 2 + 1 );
+		return minimumCapacity >= MAXIMUM_CAPACITY
+				? MAXIMUM_CAPACITY
+				: Integer.highestOneBit( (int) minimumCapacity - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		keys = new EntityKey[capacity];
+		values = new Object[capacity];
+		shift = Integer.numberOfLeadingZeros( capacity - 1 );
+		resizeThreshold = capacity == MAXIMUM_CAPACITY ? capacity - 1 : (int) ( 2L * capacity / 3 );
+	}
+
+	private int indexFor(int hash) {
+		return ( hash * HASH_MULTIPLIER ) >>> shift;
+	}
+
+	private int next(int index) {
+		return ( index + 1 ) & ( keys.length - 1 );
+	}
+
+	private int indexOf(EntityKey key) {
+		final EntityKey[] keys = this.keys;
+		int index = indexFor( key.hashCode() );
+		EntityKey candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( candidate == key || candidate.equals( key ) ) {
+				return index;
+			}
+			index = next( index );
+		}
+		return -1;
+	}
+
+	private int indexOf(EntityPersister persister, Object id) {
+		final EntityKey[] keys = this.keys;
+		final int hash = EntityKey.generateHashCode( id, persister );
+		int index = indexFor( hash );
+		EntityKey candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( candidate.hashCode() == hash && candidate.matches( id, persister ) ) {
+				return index;
+			}
+			index = next( index );
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof EntityKey entityKey && indexOf( entityKey ) >= 0;
+	}
+
+	@Override
+	public @Nullable V get(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final int index = indexOf( entityKey );
+			return index < 0 ? null : valueAt( index );
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Get the value mapped to the key of the entity instance with the given
+	 * persister and identifier, without instantiating an {@link EntityKey}.
+	 *
+	 * @return the value, or {@code null} if there is no such entry
+	 */
+	public @Nullable V get(EntityPersister persister, Object id) {
+		final int index = indexOf( persister, id );
+		return index < 0 ? null : valueAt( index );
+	}
+
+	@Override
+	public @Nullable V put(EntityKey key, V value) {
+		return put( key, value, false );
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(EntityKey key, V value) {
+		return put( key, value, true );
+	}
+
+	private @Nullable V put(EntityKey key, V value, boolean onlyIfAbsent) {
+		final EntityKey[] keys = this.keys;
+		int index = indexFor( key.hashCode() );
+		EntityKey candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( candidate == key || candidate.equals( key ) ) {
+				final V previous = valueAt( index );
+				// like HashMap, a key mapped to null is considered absent
+				if ( !onlyIfAbsent || previous == null ) {
+					values[index] = value;
+				}
+				return previous;
+			}
+			index = next( index );
+		}
+		keys[index] = key;
+		values[index] = value;
+		modCount++;
+		if ( ++size > resizeThreshold ) {
+			resize();
+		}
+		return null;
+	}
+
+	private void resize() {
+		final EntityKey[] oldKeys = keys;
+		final Object[] oldValues = values;
+		if ( oldKeys.length == MAXIMUM_CAPACITY ) {
+			throw new IllegalStateException( "Capacity exhausted" );
+		}
+		allocate( oldKeys.length << 1 );
+		final EntityKey[] keys = this.keys;
+		for ( int i = 0; i < oldKeys.length; i++ ) {
+			final EntityKey key = oldKeys[i];
+			if ( key != null ) {
+				int index = indexFor( key.hashCode() );
+				while ( keys[index] != null ) {
+					index = next( index );
+				}
+				keys[index] = key;
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	@Override
+	public @Nullable V remove(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final int index = indexOf( entityKey );
+			if ( index >= 0 ) {
+				final V previous = valueAt( index );
+				removeAt( index );
+				return previous;
+			}
+		}
+		return null;
+	}
+
+	private void removeAt(int index) {
+		final EntityKey[] keys = this.keys;
+		final Object[] values = this.values;
+		// shift back the entries of the probe sequence which
+		// follows the removed entry, so no tombstone is needed
+		int hole = index;
+		int current = next( hole );
+		EntityKey key;
+		while ( ( key = keys[current] ) != null ) {
+			final int home = indexFor( key.hashCode() );
+			// move the entry unless its home slot lies
+			// cyclically within (hole, current]
+			if ( hole <= current ? home <= hole || home > current : home <= hole && home > current ) {
+				keys[hole] = key;
+				values[hole] = values[current];
+				hole = current;
+			}
+			current = next( current );
+		}
+		keys[hole] = null;
+		values[hole] = null;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( keys, null );
+			Arrays.fill( values, null );
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private V valueAt(int index) {
+		return (V) values[index];
+	}
+
+	@Override
+	public Set<Entry<EntityKey, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	@Override
+	public Set<EntityKey> keySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<EntityKey> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					EntityKey element(EntityKey key, Object value) {
+						return key;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsKey( o );
+			}
+		};
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					V element(EntityKey key, Object value) {
+						return (V) value;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<EntityKey, V>> {
+		@Override
+		public Iterator<Entry<EntityKey, V>> iterator() {
+			return new SlotIterator<>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				Entry<EntityKey, V> element(EntityKey key, Object value) {
+					return new MapEntry( key, (V) value );
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			EntityKeyMap.this.clear();
+		}
+	}
+
+	private final class MapEntry extends SimpleEntry<EntityKey, V> {
+		private MapEntry(EntityKey key, V value) {
+			super( key, value );
+		}
+
+		@Override
+		public V setValue(V value) {
+			put( getKey(), value );
+			return super.setValue( value );
+		}
+	}
+
+	/**
+	 * Iterates the occupied slots of the table. When an element is removed,
+	 * the iteration continues over a copy of the table, since shifting back
+	 * the entries could otherwise move an entry which was not visited yet
+	 * to a slot which was.
+	 */
+	private abstract class SlotIterator<T> implements Iterator<T> {
+		private EntityKey[] keys = EntityKeyMap.this.keys;
+		private Object[] values = EntityKeyMap.this.values;
+		private boolean copied;
+		private int expectedModCount = modCount;
+		private int index;
+		private int lastReturned = -1;
+
+		abstract T element(EntityKey key, Object value);
+
+		@Override
+		public boolean hasNext() {
+			while ( index < keys.length ) {
+				if ( keys[index] != null ) {
+					return true;
+				}
+				index++;
+			}
+			return false;
+		}
+
+		@Override
+		public T next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = index++;
+			return element( keys[lastReturned], values[lastReturned] );
+		}
+
+		@Override
+		public void remove() {
+			if ( lastReturned < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !copied ) {
+				keys = keys.clone();
+				values = values.clone();
+				copied = true;
+			}
+			EntityKeyMap.this.remove( keys[lastReturned] );
+			expectedModCount = modCount;
+			lastReturned = -1;
+		}
+	}
+}
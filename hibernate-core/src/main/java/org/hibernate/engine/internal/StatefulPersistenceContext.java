@@ -31,6 +31,7 @@
 import org.hibernate.MappingException;
 import org.hibernate.NonUniqueObjectException;
 import org.hibernate.PersistentObjectException;
+import org.hibernate.bytecode.enhance.internal.tracker.ChangeNotifier;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -54,6 +55,7 @@
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.internal.util.collections.InstanceIdentityMap;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
@@ -117,7 +119,7 @@ the following fields are used in all circumstances, and are not worth (or not su
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private EntityKeyMap<EntityHolderImpl> entitiesByKey;
 
 	// New entity holder cached instance
 	private EntityHolderImpl newEntityHolder;
@@ -128,7 +130,7 @@ the following fields are used in all circumstances, and are not worth (or not su
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private EntityKeyMap<Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -174,6 +176,10 @@ the following fields are used in all circumstances, and are not worth (or not su
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
+	// The entities which might have been modified since the last flush,
+	// or null if every entity is visited by a flush
+	private IdentitySet<Object> entitiesToFlush;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -182,11 +188,15 @@ the following fields are used in all circumstances, and are not worth (or not su
 	StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		if ( session instanceof SessionImplementor
+				&& session.getFactory().getSessionFactoryOptions().isSkipUnmodifiedOnFlushEnabled() ) {
+			entitiesToFlush = new IdentitySet<>( INIT_COLL_SIZE );
+		}
 	}
 
-	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
+	private EntityKeyMap<EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new EntityKeyMap<>( INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
@@ -271,6 +281,9 @@ public void clear() {
 		entitiesByKey = null;
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
+		if ( entitiesToFlush != null ) {
+			entitiesToFlush.clear();
+		}
 		parentsByChild = null;
 		entitySnapshotsByKey = null;
 		collectionsByKey = null;
@@ -400,7 +413,7 @@ public EntityHolder claimEntityHolderIfPossible(
 			Object entity,
 			JdbcValuesSourceProcessingState processingState,
 			EntityInitializer<?> initializer) {
-		final Map<EntityKey, EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
+		final EntityKeyMap<EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
 		EntityHolderImpl holder = getOrInitializeNewHolder().withEntity( key, key.getPersister(), entity );
 		final EntityHolderImpl oldHolder = entityHolderMap.putIfAbsent( key, newEntityHolder );
 		if ( oldHolder != null ) {
@@ -435,6 +448,11 @@ public EntityHolder claimEntityHolderIfPossible(
 		return entitiesByKey == null ? null : entitiesByKey.get( key );
 	}
 
+	@Override
+	public @Nullable EntityHolder getEntityHolder(EntityPersister persister, Object id) {
+		return entitiesByKey == null ? null : entitiesByKey.get( persister, id );
+	}
+
 	@Override
 	public boolean containsEntityHolder(EntityKey key) {
 		return entitiesByKey != null && entitiesByKey.get( key ) != null;
@@ -497,7 +515,7 @@ public void addEntity(EntityKey key, Object entity) {
 
 	@Override
 	public EntityHolder addEntityHolder(EntityKey key, Object entity) {
-		final Map<EntityKey, EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
+		final EntityKeyMap<EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
 		EntityHolderImpl holder = getOrInitializeNewHolder().withEntity( key, key.getPersister(), entity );
 		final EntityHolderImpl oldHolder = entityHolderMap.putIfAbsent( key, holder );
 		if ( oldHolder != null ) {
@@ -521,6 +539,12 @@ public Object getEntity(EntityKey key) {
 		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
 	}
 
+	@Override
+	public Object getEntity(EntityPersister persister, Object id) {
+		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( persister, id );
+		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
+	}
+
 	@Override
 	public boolean containsEntity(EntityKey key) {
 		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( key );
@@ -601,6 +625,9 @@ public EntityEntry getEntry(Object entity) {
 
 	@Override
 	public EntityEntry removeEntry(Object entity) {
+		if ( entitiesToFlush != null ) {
+			entitiesToFlush.remove( entity );
+		}
 		return entityEntryContext.removeEntityEntry( entity );
 	}
 
@@ -670,6 +697,7 @@ public EntityEntry addEntry(
 				);
 		entityEntryContext.addEntityEntry( entity, entityEntry );
 		setHasNonReadOnlyEnties( status );
+		registerModifiedEntity( entity );
 		return entityEntry;
 	}
 
@@ -681,6 +709,7 @@ public EntityEntry addReferenceEntry(
 		entityEntry.setStatus( status );
 		entityEntryContext.addEntityEntry( entity, entityEntry );
 		setHasNonReadOnlyEnties( status );
+		registerModifiedEntity( entity );
 		return entityEntry;
 	}
 
@@ -899,7 +928,7 @@ public Object proxyFor(EntityHolder holder, EntityPersister persister) {
 
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
-		final Map<EntityKey, EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
+		final EntityKeyMap<EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
 		final EntityHolderImpl holder = getOrInitializeNewHolder().withEntity( key, key.getPersister(), entity );
 		final EntityHolderImpl oldHolder = entityHolderMap.putIfAbsent( key, holder );
 		if ( oldHolder != null ) {
@@ -1225,7 +1254,7 @@ public Object getProxy(EntityKey key) {
 
 	@Override
 	public void addProxy(EntityKey key, Object proxy) {
-		final Map<EntityKey, EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
+		final EntityKeyMap<EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
 		final EntityHolderImpl holder = getOrInitializeNewHolder().withProxy( key, key.getPersister(), proxy );
 		final EntityHolderImpl oldHolder = entityHolderMap.putIfAbsent( key, holder );
 		if ( oldHolder != null ) {
@@ -1283,7 +1312,7 @@ public Map<EntityKey, Object> getEntitySnapshotsByKey() {
 	@Override
 	public Map<EntityKey, Object> getOrInitializeEntitySnapshotsByKey() {
 		if ( entitySnapshotsByKey == null ) {
-			entitySnapshotsByKey = mapOfSize( INIT_COLL_SIZE );
+			entitySnapshotsByKey = new EntityKeyMap<>( INIT_COLL_SIZE );
 		}
 		return entitySnapshotsByKey;
 	}
@@ -1472,6 +1501,57 @@ public Entry<Object,EntityEntry>[] reentrantSafeEntityEntries() {
 		return entityEntryContext.reentrantSafeEntityEntries();
 	}
 
+	@Override
+	public Object @Nullable [] getEntitiesToFlush() {
+		return entitiesToFlush == null ? null : entitiesToFlush.toArray();
+	}
+
+	@Override
+	public void registerModifiedEntity(Object entity) {
+		if ( entitiesToFlush != null ) {
+			entitiesToFlush.add( entity );
+		}
+	}
+
+	@Override
+	public void forgetUnmodifiedEntities() {
+		if ( entitiesToFlush != null ) {
+			for ( Object entity : entitiesToFlush.toArray() ) {
+				final EntityEntry entry = getEntry( entity );
+				if ( entry == null || isUnmodified( entity, entry ) ) {
+					entitiesToFlush.remove( entity );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Called after an entity is loaded, to avoid visiting it in the next flush
+	 * unless it is modified.
+	 */
+	void forgetIfUnmodified(Object entity, EntityEntry entry) {
+		if ( entitiesToFlush != null && isUnmodified( entity, entry ) ) {
+			entitiesToFlush.remove( entity );
+		}
+	}
+
+	/**
+	 * An entity may be skipped by a flush if it notifies us of its first
+	 * modification, and if the flush would certainly find it non-dirty.
+	 */
+	private static boolean isUnmodified(Object entity, EntityEntry entry) {
+		return entry.getStatus() == Status.MANAGED
+			&& ChangeNotifier.isNotifying( entity.getClass() )
+			&& !isEnhancedProxy( entity )
+			&& !entry.requiresDirtyCheck( entity );
+	}
+
+	private static boolean isEnhancedProxy(Object entity) {
+		return isPersistentAttributeInterceptable( entity )
+			&& asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor()
+					instanceof EnhancementAsProxyLazinessInterceptor;
+	}
+
 	@Override
 	public Object getOwnerId(String entityName, String propertyName, Object childEntity, Map mergeMap) {
 		final String collectionRole = entityName + '.' + propertyName;
@@ -1768,6 +1848,7 @@ private void setEntityReadOnly(Object entity, boolean readOnly) {
 		}
 		entry.setReadOnly( readOnly, entity );
 		hasNonReadOnlyEntities = hasNonReadOnlyEntities || ! readOnly;
+		registerModifiedEntity( entity );
 	}
 
 	@Override
@@ -1955,18 +2036,23 @@ public static StatefulPersistenceContext deserialize(
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitySnapshotsByKey = new EntityKeyMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
 
 			rtn.entityEntryContext = EntityEntryContext.deserialize( ois, rtn );
+			if ( rtn.entitiesToFlush != null ) {
+				for ( var me : rtn.reentrantSafeEntityEntries() ) {
+					rtn.entitiesToFlush.add( me.getKey() );
+				}
+			}
 
 			count = ois.readInt();
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = new EntityKeyMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
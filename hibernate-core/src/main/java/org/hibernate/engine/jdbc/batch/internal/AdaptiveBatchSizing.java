@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.sql.ast.internal.ParameterMarkerStrategyStandard;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * Tracks the execution time of the batches of each {@link BatchKey}, and adapts
+ * the size of the next batches of the key toward a target execution time.
+ * <p>
+ * The time per row is estimated from the full batches only, as a moving average,
+ * and a single adjustment never more than halves or doubles the size.
+ *
+ * @see org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_TARGET_LATENCY
+ *
+ * @since 7.1
+ */
+public class AdaptiveBatchSizing {
+	/**
+	 * The minimum size of a batch, since a batch of one row is not a batch.
+	 */
+	public static final int MINIMUM_BATCH_SIZE = 2;
+	/**
+	 * The maximum size of a batch.
+	 */
+	public static final int MAXIMUM_BATCH_SIZE = 1_000;
+
+	// the weight of the last execution in the moving average
+	private static final double SMOOTHING = 0.25;
+
+	private final long targetNanos;
+	private final ConcurrentHashMap<BatchKey, AdaptiveBatchSize> batchSizes = new ConcurrentHashMap<>();
+
+	public AdaptiveBatchSizing(long targetLatencyMillis) {
+		this.targetNanos = TimeUnit.MILLISECONDS.toNanos( targetLatencyMillis );
+	}
+
+	/**
+	 * The adaptive size of the batches of the given key, created with the
+	 * given initial size if the key was not yet executed.
+	 */
+	public AdaptiveBatchSize getBatchSize(
+			BatchKey key,
+			int initialSize,
+			PreparedStatementGroup statementGroup,
+			JdbcServices jdbcServices,
+			StatisticsImplementor statistics) {
+		final AdaptiveBatchSize batchSize = batchSizes.get( key );
+		return batchSize != null
+				? batchSize
+				: batchSizes.computeIfAbsent( key, k -> {
+					final int maximumSize = maximumBatchSize( statementGroup, jdbcServices );
+					final AdaptiveBatchSize created = new AdaptiveBatchSize(
+							k.toLoggableString(),
+							Math.min( Math.max( initialSize, MINIMUM_BATCH_SIZE ), maximumSize ),
+							maximumSize
+					);
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.jdbcBatchSize( created.batchKey, created.size );
+					}
+					return created;
+				} );
+	}
+
+	private static int maximumBatchSize(PreparedStatementGroup statementGroup, JdbcServices jdbcServices) {
+		final int parameterCountLimit = jdbcServices.getDialect().getParameterCountLimit();
+		if ( parameterCountLimit > 0
+				&& ParameterMarkerStrategyStandard.isStandardRenderer( jdbcServices.getParameterMarkerStrategy() ) ) {
+			final int[] parametersPerRow = new int[1];
+			statementGroup.forEachStatement( (tableName, statementDetails) -> parametersPerRow[0] =
+					Math.max( parametersPerRow[0], BatchSqlHelper.countParameters( statementDetails.getSqlString() ) ) );
+			if ( parametersPerRow[0] > 0 ) {
+				return Math.max( MINIMUM_BATCH_SIZE,
+						Math.min( MAXIMUM_BATCH_SIZE, parameterCountLimit / parametersPerRow[0] ) );
+			}
+		}
+		return MAXIMUM_BATCH_SIZE;
+	}
+
+	/**
+	 * The size of the batches of one {@link BatchKey}, shared by every session.
+	 */
+	public final class AdaptiveBatchSize {
+		private final String batchKey;
+		private final int maximumSize;
+		private volatile int size;
+
+		// guarded by lock
+		private double nanosPerRow;
+
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+		 */
+		private final Lock lock = new ReentrantLock();
+
+		private AdaptiveBatchSize(String batchKey, int size, int maximumSize) {
+			this.batchKey = batchKey;
+			this.size = size;
+			this.maximumSize = maximumSize;
+		}
+
+		/**
+		 * The size of the next batch.
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		public int getMaximumSize() {
+			return maximumSize;
+		}
+
+		/**
+		 * Record the execution time of a batch of the given number of rows, and
+		 * adjust the size of the next batches if the batch was full.
+		 */
+		public void recordExecution(int rowCount, long nanos, StatisticsImplementor statistics) {
+			lock.lock();
+			try {
+				if ( rowCount < size || rowCount == 0 ) {
+					// the time of a partial batch is dominated by the round trip
+					return;
+				}
+
+				final double lastNanosPerRow = (double) nanos / rowCount;
+				nanosPerRow = nanosPerRow == 0
+						? lastNanosPerRow
+						: SMOOTHING * lastNanosPerRow + ( 1 - SMOOTHING ) * nanosPerRow;
+
+				final double idealSize = nanosPerRow > 0 ? targetNanos / nanosPerRow : maximumSize;
+				final int adjustedSize = (int) Math.max(
+						MINIMUM_BATCH_SIZE,
+						Math.min( maximumSize, Math.min( size * 2d, Math.max( size / 2d, idealSize ) ) )
+				);
+				// ignore small deviations
+				if ( Math.abs( adjustedSize - size ) > size / 10 ) {
+					if ( BATCH_LOGGER.isDebugEnabled() ) {
+						BATCH_LOGGER.debugf( "Adjusting batch size from %s to %s - %s", size, adjustedSize, batchKey );
+					}
+					size = adjustedSize;
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.jdbcBatchSize( batchKey, adjustedSize );
+					}
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "AdaptiveBatchSize(" + batchKey + "=" + size + ")";
+		}
+	}
+}
@@ -4,21 +4,33 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchSizing.AdaptiveBatchSize;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.internal.JdbcCoordinatorImpl;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
 
 /**
@@ -26,8 +38,13 @@
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
+	private static final int PIPELINE_KEEP_ALIVE_SECONDS = 10;
+
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
+	private final @Nullable ExecutorService pipelineExecutor;
+	private final @Nullable AdaptiveBatchSizing adaptiveBatchSizing;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -36,6 +53,57 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether batches of entity inserts should be
+	 * executed as {@linkplain MultiRowInsertBatch multi-row inserts}
+	 *
+	 * @since 7.1
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts) {
+		this( globalBatchSize, multiRowInserts, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether batches of entity inserts should be
+	 * executed as {@linkplain MultiRowInsertBatch multi-row inserts}
+	 * @param pipelining Whether batches are executed by the
+	 * {@linkplain PipelinedBatch pipeline} of a session, instead of by the
+	 * session itself
+	 *
+	 * @since 7.1
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts, boolean pipelining) {
+		this( globalBatchSize, multiRowInserts, pipelining, 0 );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether batches of entity inserts should be
+	 * executed as {@linkplain MultiRowInsertBatch multi-row inserts}
+	 * @param pipelining Whether batches are executed by the
+	 * {@linkplain PipelinedBatch pipeline} of a session, instead of by the
+	 * session itself
+	 * @param targetLatencyMillis The execution time toward which the
+	 * {@linkplain AdaptiveBatchSizing size of the batches} is adapted, or
+	 * {@code 0} if the batch size is fixed
+	 *
+	 * @since 7.1
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts, boolean pipelining, long targetLatencyMillis) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
 					"Using standard BatchBuilder (%s)",
@@ -44,6 +112,26 @@ public BatchBuilderImpl(int globalBatchSize) {
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
+		this.pipelineExecutor = pipelining ? createPipelineExecutor() : null;
+		this.adaptiveBatchSizing = targetLatencyMillis > 0 && globalBatchSize > 1
+				? new AdaptiveBatchSizing( targetLatencyMillis )
+				: null;
+	}
+
+	/**
+	 * The threads executing the pipelined batches of every session, none
+	 * of which is kept when idle.
+	 */
+	private static ExecutorService createPipelineExecutor() {
+		return new ThreadPoolExecutor(
+				0,
+				Integer.MAX_VALUE,
+				PIPELINE_KEEP_ALIVE_SECONDS,
+				SECONDS,
+				new SynchronousQueue<>(),
+				new PipelineThreadFactory()
+		);
 	}
 
 	public int getJdbcBatchSize() {
@@ -61,9 +149,60 @@ public Batch buildBatch(
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( multiRowInserts ) {
+			final Batch batch = MultiRowInsertBatch.create( key, statementGroup, batchSize, jdbcCoordinator );
+			if ( batch != null ) {
+				return batch;
+			}
+		}
+		final AdaptiveBatchSize adaptiveBatchSize =
+				adaptiveBatchSize( key, batchSize, statementGroup, jdbcCoordinator );
+		if ( pipelineExecutor != null && jdbcCoordinator instanceof JdbcCoordinatorImpl jdbcCoordinatorImpl ) {
+			final Batch batch = PipelinedBatch.create(
+					key,
+					statementGroup,
+					adaptiveBatchSize == null ? batchSize : adaptiveBatchSize.getSize(),
+					jdbcCoordinatorImpl.getBatchPipeline( pipelineExecutor ),
+					adaptiveBatchSize,
+					jdbcCoordinator
+			);
+			if ( batch != null ) {
+				return batch;
+			}
+		}
+		return adaptiveBatchSize == null
+				? new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator )
+				: new BatchImpl( key, statementGroup, adaptiveBatchSize.getSize(), jdbcCoordinator, adaptiveBatchSize );
+	}
+
+	private @Nullable AdaptiveBatchSize adaptiveBatchSize(
+			BatchKey key,
+			int batchSize,
+			PreparedStatementGroup statementGroup,
+			JdbcCoordinator jdbcCoordinator) {
+		// a batch size set explicitly by the session is never adapted
+		if ( adaptiveBatchSizing == null || batchSize != globalBatchSize ) {
+			return null;
+		}
+		final JdbcSessionContext jdbcSessionContext = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext();
+		return adaptiveBatchSizing.getBatchSize(
+				key,
+				batchSize,
+				statementGroup,
+				jdbcSessionContext.getJdbcServices(),
+				jdbcSessionContext.getStatistics()
+		);
 	}
 
+	@Override
+	public void stop() {
+		if ( pipelineExecutor != null ) {
+			// the sessions still executing batches execute
+			// them themselves once the executor is shut down
+			pipelineExecutor.shutdown();
+		}
+	}
 
 	/**
 	 * Intended for use from tests
@@ -143,4 +282,22 @@ public MutationDetails getDeleteDetails() {
 				jdbcCoordinator
 		);
 	}
+
+	/**
+	 * Creates the daemon threads of the pipelines, with the context class
+	 * loader of the thread which bootstrapped the factory.
+	 */
+	private static class PipelineThreadFactory implements ThreadFactory {
+		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread =
+					new Thread( runnable, "hibernate-batch-pipeline-" + threadCount.incrementAndGet() );
+			thread.setDaemon( true );
+			thread.setContextClassLoader( contextClassLoader );
+			return thread;
+		}
+	}
 }
@@ -14,7 +14,11 @@
 
 import static org.hibernate.cfg.BatchSettings.BATCH_STRATEGY;
 import static org.hibernate.cfg.BatchSettings.BUILDER;
+import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_MULTI_ROW_INSERTS;
+import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_PIPELINING;
 import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_TARGET_LATENCY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
@@ -42,7 +46,12 @@ public BatchBuilder initiateService(Map<String, Object> configurationValues, Ser
 		}
 
 		if ( builder == null ) {
-			return new BatchBuilderImpl( getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ) );
+			return new BatchBuilderImpl(
+					getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					getBoolean( STATEMENT_BATCH_MULTI_ROW_INSERTS, configurationValues ),
+					getBoolean( STATEMENT_BATCH_PIPELINING, configurationValues ),
+					getInt( STATEMENT_BATCH_TARGET_LATENCY, configurationValues, 0 )
+			);
 		}
 
 		if ( builder instanceof BatchBuilder batchBuilder ) {
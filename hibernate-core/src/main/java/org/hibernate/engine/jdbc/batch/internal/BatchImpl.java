@@ -26,6 +26,8 @@
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static java.util.Objects.requireNonNull;
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
@@ -39,8 +41,9 @@
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
-	private final int batchSizeToUse;
 	private final PreparedStatementGroup statementGroup;
+	private final AdaptiveBatchSizing.@Nullable AdaptiveBatchSize adaptiveBatchSize;
+	private int batchSizeToUse;
 
 	private final JdbcCoordinator jdbcCoordinator;
 	private final SqlStatementLogger sqlStatementLogger;
@@ -57,6 +60,21 @@ public BatchImpl(
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * @param adaptiveBatchSize The size of the batch, which is adjusted after each
+	 * execution, or {@code null} if the size is fixed
+	 *
+	 * @since 7.1
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			AdaptiveBatchSizing.@Nullable AdaptiveBatchSize adaptiveBatchSize) {
 		requireNonNull( key, "Batch key cannot be null" );
 		requireNonNull( jdbcCoordinator, "JDBC coordinator cannot be null" );
 
@@ -64,6 +82,7 @@ public BatchImpl(
 		this.key = key;
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
+		this.adaptiveBatchSize = adaptiveBatchSize;
 
 		final JdbcServices jdbcServices =
 				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
@@ -249,6 +268,7 @@ protected void performExecution() {
 
 		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 		final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		final long startTime = adaptiveBatchSize == null ? 0 : System.nanoTime();
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
@@ -264,7 +284,7 @@ protected void performExecution() {
 								rowCounts = statement.executeBatch();
 							}
 							finally {
-								eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+								eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql, batchSizeToUse );
 								eventHandler.jdbcExecuteBatchEnd();
 							}
 							checkRowCounts( rowCounts, statementDetails );
@@ -284,10 +304,28 @@ protected void performExecution() {
 				}
 			} );
 			batchExecuted = true;
+			if ( adaptiveBatchSize != null ) {
+				adaptiveBatchSize.recordExecution(
+						batchPosition,
+						System.nanoTime() - startTime,
+						jdbcSessionOwner.getJdbcSessionContext().getStatistics()
+				);
+			}
 		}
 		finally {
 			jdbcCoordinator.afterStatementExecution();
 			batchPosition = 0;
+			if ( adaptiveBatchSize != null ) {
+				resize( adaptiveBatchSize.getSize() );
+			}
+		}
+	}
+
+	private void resize(int batchSize) {
+		if ( batchSize != batchSizeToUse ) {
+			batchSizeToUse = batchSize;
+			// the mappers of the next batch are allocated for the new size
+			staleStateMappers = null;
 		}
 	}
 
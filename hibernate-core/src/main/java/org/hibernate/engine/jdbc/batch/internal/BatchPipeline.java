@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.hibernate.HibernateException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * Executes the batches of one session on a thread of an {@link Executor} shared
+ * by the sessions of the factory, one batch at a time.
+ * <p>
+ * The statements of a batch are prepared, bound and added to the JDBC batch by
+ * the session. Only the execution of the JDBC batch, and the check of the row
+ * counts, happen on the thread of the executor. The session therefore waits for
+ * the execution in flight before preparing or binding any statement, and before
+ * using the connection in any other way.
+ * <p>
+ * A failure of a batch is reported to the session when it next waits for the
+ * pipeline.
+ * <p>
+ * Not thread-safe: the pipeline is only used by the thread of the session.
+ *
+ * @see PipelinedBatch
+ * @see org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_PIPELINING
+ *
+ * @since 7.1
+ */
+public class BatchPipeline {
+	private final Executor executor;
+
+	private @Nullable FutureTask<?> inFlight;
+	private @Nullable Runnable completion;
+
+	public BatchPipeline(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Hand the given execution to the pipeline, first waiting for the execution in
+	 * flight, if any.
+	 *
+	 * @param execution the execution, which may only use JDBC statements prepared
+	 * and bound by the session
+	 * @param completion called by the thread of the session once the execution
+	 * completed, whether successfully or not
+	 *
+	 * @throws RuntimeException the failure of the previous execution
+	 */
+	public void submit(Runnable execution, Runnable completion) {
+		await();
+		final FutureTask<?> task = new FutureTask<>( execution, null );
+		try {
+			executor.execute( task );
+		}
+		catch (RejectedExecutionException e) {
+			// the executor was shut down, so execute the batch right here
+			task.run();
+		}
+		this.inFlight = task;
+		this.completion = completion;
+	}
+
+	/**
+	 * Wait for the execution in flight, if any.
+	 *
+	 * @throws RuntimeException the failure of the execution
+	 */
+	public void await() {
+		final RuntimeException failure = awaitInFlight();
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Wait for the execution in flight, if any, ignoring its failure.
+	 */
+	public void discard() {
+		final RuntimeException failure = awaitInFlight();
+		if ( failure != null ) {
+			BATCH_LOGGER.debug( "Discarding failure of pipelined batch execution", failure );
+		}
+	}
+
+	/**
+	 * Wait for the execution in flight, if any, before the connection is closed.
+	 */
+	public void close() {
+		discard();
+	}
+
+	private @Nullable RuntimeException awaitInFlight() {
+		final FutureTask<?> task = inFlight;
+		if ( task == null ) {
+			return null;
+		}
+		final Runnable completion = this.completion;
+		inFlight = null;
+		this.completion = null;
+		boolean interrupted = false;
+		try {
+			while ( true ) {
+				try {
+					task.get();
+					return null;
+				}
+				catch (InterruptedException e) {
+					// the connection may not be used until the execution completes
+					interrupted = true;
+				}
+				catch (ExecutionException e) {
+					final Throwable cause = e.getCause();
+					if ( cause instanceof Error error ) {
+						throw error;
+					}
+					return cause instanceof RuntimeException runtimeException
+							? runtimeException
+							: new HibernateException( "Pipelined batch execution failed", cause );
+				}
+			}
+		}
+		finally {
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+			if ( completion != null ) {
+				completion.run();
+			}
+		}
+	}
+}
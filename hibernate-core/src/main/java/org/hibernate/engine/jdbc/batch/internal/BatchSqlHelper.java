@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+/**
+ * Helper for inspecting the SQL of batched statements.
+ *
+ * @since 7.1
+ */
+public final class BatchSqlHelper {
+	private BatchSqlHelper() {
+	}
+
+	/**
+	 * The number of parameter markers of the given SQL, skipping any
+	 * quoted literal or identifier.
+	 */
+	public static int countParameters(String sql) {
+		int count = 0;
+		char quote = 0;
+		for ( int i = 0; i < sql.length(); i++ ) {
+			final char c = sql.charAt( i );
+			if ( quote != 0 ) {
+				if ( c == quote ) {
+					quote = 0;
+				}
+			}
+			else if ( c == '\'' || c == '"' ) {
+				quote = c;
+			}
+			else if ( c == '?' ) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
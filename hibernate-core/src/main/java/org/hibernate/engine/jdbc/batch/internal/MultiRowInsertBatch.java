@@ -0,0 +1,501 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.persister.entity.mutation.EntityTableMapping;
+import org.hibernate.resource.jdbc.ResourceRegistry;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.sql.ast.internal.ParameterMarkerStrategyStandard;
+import org.hibernate.sql.model.jdbc.MultiRowInsertSql;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Objects.requireNonNull;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * A {@link Batch} of entity inserts which, instead of adding each row to a JDBC
+ * batch, collects the bound values of the rows and sends them as multi-row
+ * {@code insert ... values (...), (...)} statements when the batch is executed.
+ * The number of rows per statement is limited by the
+ * {@linkplain Dialect#getParameterCountLimit() parameter limit} and the
+ * {@linkplain Dialect#getMaximumRowsPerMultiRowInsert() row limit} of the database.
+ * <p>
+ * Only applies to the statements generated for the tables of an entity, and is
+ * therefore only used when every statement of the group is a {@code values}
+ * insert of that form.
+ * <p>
+ * Like the JDBC statements of a {@link BatchImpl}, the statement prepared for
+ * each number of rows is kept until the batch is executed explicitly.
+ *
+ * @see org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_MULTI_ROW_INSERTS
+ *
+ * @since 7.1
+ */
+public class MultiRowInsertBatch implements Batch {
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+	private final List<TableRows> tableRows;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final WrapperOptions wrapperOptions;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private int batchPosition;
+	private boolean batchExecuted;
+
+	private MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			List<TableRows> tableRows,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			WrapperOptions wrapperOptions) {
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.tableRows = tableRows;
+		this.batchSizeToUse = batchSizeToUse;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.wrapperOptions = wrapperOptions;
+
+		final JdbcServices jdbcServices =
+				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.createBatch(
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	/**
+	 * Create a batch executing the statements of the given group as multi-row inserts.
+	 *
+	 * @return the batch, or {@code null} if the database does not support multi-row
+	 * inserts, or if any statement of the group is not a {@code values} insert into
+	 * a table of an entity
+	 */
+	public static @Nullable MultiRowInsertBatch create(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		requireNonNull( key, "Batch key cannot be null" );
+		requireNonNull( jdbcCoordinator, "JDBC coordinator cannot be null" );
+
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final JdbcServices jdbcServices = jdbcSessionOwner.getJdbcSessionContext().getJdbcServices();
+		final Dialect dialect = jdbcServices.getDialect();
+		if ( !( jdbcSessionOwner instanceof WrapperOptions wrapperOptions )
+				|| !dialect.supportsMultiRowInsert()
+				|| !ParameterMarkerStrategyStandard.isStandardRenderer( jdbcServices.getParameterMarkerStrategy() )
+				|| statementGroup.getNumberOfStatements() == 0 ) {
+			return null;
+		}
+
+		final List<TableRows> tableRows = new ArrayList<>( statementGroup.getNumberOfStatements() );
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final TableRows rows = TableRows.create( statementDetails, batchSizeToUse, dialect );
+			if ( rows != null ) {
+				tableRows.add( rows );
+			}
+		} );
+		return tableRows.size() == statementGroup.getNumberOfStatements()
+				? new MultiRowInsertBatch( key, statementGroup, tableRows, batchSizeToUse, jdbcCoordinator, wrapperOptions )
+				: null;
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(
+			JdbcValueBindings jdbcValueBindings,
+			TableInclusionChecker inclusionChecker,
+			StaleStateMapper staleStateMapper) {
+		// an insert never results in a stale state
+		addToBatch( jdbcValueBindings, inclusionChecker );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.addToBatch(
+					batchPosition + 1,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			for ( int i = 0; i < tableRows.size(); i++ ) {
+				final TableRows rows = tableRows.get( i );
+				final EntityTableMapping tableMapping = rows.tableMapping;
+				if ( inclusionChecker == null || inclusionChecker.include( tableMapping ) ) {
+					rows.addRow( jdbcValueBindings.getBindingGroup( tableMapping.getTableName() ) );
+				}
+				jdbcValueBindings.afterStatement( tableMapping );
+			}
+		}
+		catch (RuntimeException e) {
+			// the rows of the other tables may already have been added
+			abortBatch( e );
+			throw e;
+		}
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an explicit execution of this batch.
+	 */
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an implicit execution of this batch.
+	 */
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( batchPosition == 0 ) {
+				if ( !batchExecuted && BATCH_LOGGER.isDebugEnabled() ) {
+					BATCH_LOGGER.debugf(
+							"No batched statements to execute - %s",
+							getKey().toLoggableString()
+					);
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			releaseStatements();
+			statementGroup.release();
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.executeBatch(
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			// the tables are in the order in which their rows must be inserted
+			for ( int i = 0; i < tableRows.size(); i++ ) {
+				final TableRows rows = tableRows.get( i );
+				int firstRow = 0;
+				while ( firstRow < rows.rowCount ) {
+					final int rowCount = Math.min( rows.maximumRowsPerStatement, rows.rowCount - firstRow );
+					executeStatement( rows, firstRow, rowCount );
+					firstRow += rowCount;
+				}
+			}
+			batchExecuted = true;
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+		finally {
+			clearRows();
+			batchPosition = 0;
+		}
+	}
+
+	private void executeStatement(TableRows rows, int firstRow, int rowCount) {
+		final PreparedInsert insert = rows.prepare( rowCount, jdbcCoordinator );
+		final String sql = insert.sql();
+		final PreparedStatement statement = insert.statement();
+		try {
+			rows.bind( statement, firstRow, rowCount, wrapperOptions, sqlExceptionHelper, sql );
+			final int insertedRowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			rows.verifyOutcome( insertedRowCount, rowCount, sql );
+		}
+		finally {
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private void clearRows() {
+		for ( int i = 0; i < tableRows.size(); i++ ) {
+			tableRows.get( i ).clear();
+		}
+	}
+
+	private void releaseStatements() {
+		final ResourceRegistry resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+		boolean released = false;
+		for ( int i = 0; i < tableRows.size(); i++ ) {
+			released |= tableRows.get( i ).releaseStatements( resourceRegistry );
+		}
+		if ( released ) {
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( batchPosition != 0 && BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+		}
+		clearRows();
+		batchPosition = 0;
+		releaseStatements();
+		statementGroup.release();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * A multi-row insert statement, prepared for a certain number of rows.
+	 */
+	private record PreparedInsert(String sql, PreparedStatement statement) {
+	}
+
+	/**
+	 * The rows collected for one table.
+	 */
+	private static final class TableRows {
+		private final EntityTableMapping tableMapping;
+		private final Expectation expectation;
+		private final MultiRowInsertSql insertSql;
+		private final int parametersPerRow;
+		private final int maximumRowsPerStatement;
+
+		// the values and binders of the rows, indexed by parameter position,
+		// starting from zero, followed by the parameters of the next row
+		private final Object[] values;
+		private final ValueBinder<?>[] binders;
+		private int rowCount;
+
+		// the statements prepared so far, by number of rows
+		private final Map<Integer, PreparedInsert> preparedInserts = new HashMap<>();
+
+		private TableRows(
+				EntityTableMapping tableMapping,
+				Expectation expectation,
+				MultiRowInsertSql insertSql,
+				int maximumRowsPerStatement,
+				int batchSize) {
+			this.tableMapping = tableMapping;
+			this.expectation = expectation;
+			this.insertSql = insertSql;
+			this.parametersPerRow = insertSql.getParametersPerRow();
+			this.maximumRowsPerStatement = maximumRowsPerStatement;
+			this.values = new Object[batchSize * parametersPerRow];
+			this.binders = new ValueBinder<?>[batchSize * parametersPerRow];
+		}
+
+		private static @Nullable TableRows create(
+				PreparedStatementDetails statementDetails,
+				int batchSize,
+				Dialect dialect) {
+			if ( !( statementDetails.getMutatingTableDetails() instanceof EntityTableMapping tableMapping )
+					|| tableMapping.getInsertDetails().getCustomSql() != null ) {
+				return null;
+			}
+
+			final Expectation expectation = statementDetails.getExpectation();
+			if ( expectation.getClass() != Expectation.RowCount.class
+					&& expectation.getClass() != Expectation.None.class ) {
+				return null;
+			}
+
+			// the statement must be of form: insert into table (c1,...) values (?,...)
+			final MultiRowInsertSql insertSql = MultiRowInsertSql.from( statementDetails.getSqlString() );
+			if ( insertSql == null ) {
+				return null;
+			}
+
+			int maximumRowsPerStatement = batchSize;
+			final int parameterCountLimit = dialect.getParameterCountLimit();
+			if ( parameterCountLimit > 0 ) {
+				maximumRowsPerStatement =
+						Math.min( maximumRowsPerStatement, parameterCountLimit / insertSql.getParametersPerRow() );
+			}
+			final int rowLimit = dialect.getMaximumRowsPerMultiRowInsert();
+			if ( rowLimit > 0 ) {
+				maximumRowsPerStatement = Math.min( maximumRowsPerStatement, rowLimit );
+			}
+			maximumRowsPerStatement = Math.max( 1, maximumRowsPerStatement );
+			return new TableRows( tableMapping, expectation, insertSql, maximumRowsPerStatement, batchSize );
+		}
+
+		private void addRow(@Nullable BindingGroup bindingGroup) {
+			final int firstParameter = rowCount * parametersPerRow;
+			if ( bindingGroup != null ) {
+				final int offset = firstParameter - 1;
+				for ( Binding binding : bindingGroup.getBindings() ) {
+					assert binding.getPosition() <= parametersPerRow;
+					values[offset + binding.getPosition()] = binding.getValue();
+					binders[offset + binding.getPosition()] = binding.getValueBinder();
+				}
+			}
+			// every parameter of the row must be bound, since
+			// the row can't be left out of the statement
+			for ( int i = 0; i < parametersPerRow; i++ ) {
+				if ( binders[firstParameter + i] == null ) {
+					Arrays.fill( values, firstParameter, firstParameter + parametersPerRow, null );
+					Arrays.fill( binders, firstParameter, firstParameter + parametersPerRow, null );
+					throw new HibernateException( String.format(
+							Locale.ROOT,
+							"No value bound to parameter #%s of the insert into table '%s'",
+							i + 1,
+							tableMapping.getTableName()
+					) );
+				}
+			}
+			rowCount++;
+		}
+
+		private PreparedInsert prepare(int rowCount, JdbcCoordinator jdbcCoordinator) {
+			PreparedInsert insert = preparedInserts.get( rowCount );
+			if ( insert == null ) {
+				final String sql = insertSql.render( rowCount );
+				final PreparedStatement statement =
+						jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+				insert = new PreparedInsert( sql, statement );
+				preparedInserts.put( rowCount, insert );
+			}
+			return insert;
+		}
+
+		private boolean releaseStatements(ResourceRegistry resourceRegistry) {
+			if ( preparedInserts.isEmpty() ) {
+				return false;
+			}
+			for ( PreparedInsert insert : preparedInserts.values() ) {
+				resourceRegistry.release( insert.statement() );
+			}
+			preparedInserts.clear();
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void bind(
+				PreparedStatement statement,
+				int firstRow,
+				int rowCount,
+				WrapperOptions wrapperOptions,
+				SqlExceptionHelper sqlExceptionHelper,
+				String sql) {
+			final int offset = firstRow * parametersPerRow;
+			final int parameterCount = rowCount * parametersPerRow;
+			for ( int i = 0; i < parameterCount; i++ ) {
+				final Object value = values[offset + i];
+				try {
+					( (ValueBinder<Object>) binders[offset + i] ).bind( statement, value, i + 1, wrapperOptions );
+				}
+				catch (SQLException e) {
+					throw sqlExceptionHelper.convert(
+							e,
+							String.format(
+									Locale.ROOT,
+									"Unable to bind parameter #%s - %s",
+									i + 1,
+									value
+							),
+							sql
+					);
+				}
+			}
+		}
+
+		private void verifyOutcome(int insertedRowCount, int rowCount, String sql) {
+			if ( expectation instanceof Expectation.RowCount && insertedRowCount != rowCount ) {
+				throw new StaleStateException(
+						"Multi-row insert returned unexpected row count (expected row count " + rowCount
+								+ " but was " + insertedRowCount + ") [" + sql + "]"
+				);
+			}
+		}
+
+		private void clear() {
+			final int parameterCount = rowCount * parametersPerRow;
+			Arrays.fill( values, 0, parameterCount, null );
+			Arrays.fill( binders, 0, parameterCount, null );
+			rowCount = 0;
+		}
+	}
+}
@@ -0,0 +1,493 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Objects.requireNonNull;
+import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * A {@link Batch} which hands each full batch to the {@link BatchPipeline} of the
+ * session, so that the session continues with the next batch while the previous
+ * batch is executed.
+ * <p>
+ * Since the statements of the batch are in use while the previous batch executes,
+ * the values bound by the session are only recorded. When the batch is full, the
+ * session waits for the previous execution, prepares the statements, binds the
+ * recorded values, and adds them to the JDBC batch. The pipeline then only
+ * executes the JDBC batch. A failure, including an unexpected row count, is
+ * reported when the next batch is handed to the pipeline, when the batch is
+ * {@linkplain #execute executed}, or when the session {@linkplain #awaitExecution
+ * waits} for the batch before using the connection for another statement.
+ *
+ * @see org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_PIPELINING
+ *
+ * @since 7.1
+ */
+public class PipelinedBatch implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+	private final PreparedStatementDetails[] statements;
+	private final BatchPipeline pipeline;
+	private final AdaptiveBatchSizing.@Nullable AdaptiveBatchSize adaptiveBatchSize;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final WrapperOptions wrapperOptions;
+	private final JdbcEventHandler eventHandler;
+	private final EventMonitor eventMonitor;
+	private final StatisticsImplementor statistics;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private Rows rows;
+	private boolean batchExecuted;
+
+	private PipelinedBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			PreparedStatementDetails[] statements,
+			int batchSizeToUse,
+			BatchPipeline pipeline,
+			AdaptiveBatchSizing.@Nullable AdaptiveBatchSize adaptiveBatchSize,
+			JdbcCoordinator jdbcCoordinator,
+			WrapperOptions wrapperOptions) {
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.statements = statements;
+		this.batchSizeToUse = batchSizeToUse;
+		this.pipeline = pipeline;
+		this.adaptiveBatchSize = adaptiveBatchSize;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.wrapperOptions = wrapperOptions;
+		this.rows = new Rows( batchSizeToUse, statements.length );
+
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final JdbcSessionContext jdbcSessionContext = jdbcSessionOwner.getJdbcSessionContext();
+		eventHandler = jdbcSessionContext.getEventHandler();
+		eventMonitor = jdbcSessionOwner.getEventMonitor();
+		statistics = jdbcSessionContext.getStatistics();
+		final JdbcServices jdbcServices = jdbcSessionContext.getJdbcServices();
+		sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.createBatch(
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	/**
+	 * Create a batch executing the statements of the given group via the given pipeline.
+	 *
+	 * @param adaptiveBatchSize The size of the batch, which is adjusted after each
+	 * execution, or {@code null} if the size is fixed
+	 *
+	 * @return the batch, or {@code null} if the group has no statements
+	 */
+	public static @Nullable PipelinedBatch create(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			BatchPipeline pipeline,
+			AdaptiveBatchSizing.@Nullable AdaptiveBatchSize adaptiveBatchSize,
+			JdbcCoordinator jdbcCoordinator) {
+		requireNonNull( key, "Batch key cannot be null" );
+		requireNonNull( jdbcCoordinator, "JDBC coordinator cannot be null" );
+
+		if ( !( jdbcCoordinator.getJdbcSessionOwner() instanceof WrapperOptions wrapperOptions )
+				|| statementGroup.getNumberOfStatements() == 0 ) {
+			return null;
+		}
+
+		final PreparedStatementDetails[] statements =
+				new PreparedStatementDetails[statementGroup.getNumberOfStatements()];
+		final int[] index = new int[1];
+		statementGroup.forEachStatement( (tableName, statementDetails) -> statements[index[0]++] = statementDetails );
+		return new PipelinedBatch(
+				key,
+				statementGroup,
+				statements,
+				batchSizeToUse,
+				pipeline,
+				adaptiveBatchSize,
+				jdbcCoordinator,
+				wrapperOptions
+		);
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(
+			JdbcValueBindings jdbcValueBindings,
+			TableInclusionChecker inclusionChecker,
+			StaleStateMapper staleStateMapper) {
+		rows.addStaleStateMapper( staleStateMapper );
+		addToBatch( jdbcValueBindings, inclusionChecker );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.addToBatch(
+					rows.rowCount + 1,
+					rows.batchSize,
+					getKey().toLoggableString()
+			);
+		}
+
+		final int offset = rows.rowCount * statements.length;
+		for ( int i = 0; i < statements.length; i++ ) {
+			final TableMapping tableDetails = statements[i].getMutatingTableDetails();
+			if ( inclusionChecker == null || inclusionChecker.include( tableDetails ) ) {
+				// the bindings are immutable, but the group is reused for the next row
+				final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+				rows.bindings[offset + i] = bindingGroup == null
+						? NO_BINDINGS
+						: bindingGroup.getBindings().toArray( NO_BINDINGS );
+			}
+			jdbcValueBindings.afterStatement( tableDetails );
+		}
+
+		rows.rowCount++;
+		if ( rows.rowCount == rows.batchSize ) {
+			notifyObserversImplicitExecution();
+			submitRows();
+		}
+	}
+
+	private void submitRows() {
+		final Rows submittedRows = rows;
+		// the size of the next batch is adjusted by the executions of the previous batches
+		rows = new Rows(
+				adaptiveBatchSize == null ? batchSizeToUse : adaptiveBatchSize.getSize(),
+				statements.length
+		);
+		try {
+			// the statements are only bound once their previous execution completed
+			pipeline.await();
+			if ( BATCH_LOGGER.isTraceEnabled() ) {
+				BATCH_MESSAGE_LOGGER.executeBatch(
+						submittedRows.rowCount,
+						submittedRows.batchSize,
+						getKey().toLoggableString()
+				);
+			}
+			try {
+				for ( int i = 0; i < statements.length; i++ ) {
+					addRows( submittedRows, i );
+				}
+			}
+			catch (RuntimeException e) {
+				clearBatches();
+				throw e;
+			}
+			eventHandler.jdbcExecuteBatchStart();
+			pipeline.submit( () -> performExecution( submittedRows ), eventHandler::jdbcExecuteBatchEnd );
+			batchExecuted = true;
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an explicit execution of this batch.
+	 */
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an implicit execution of this batch.
+	 */
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( rows.rowCount == 0 ) {
+				if ( !batchExecuted && BATCH_LOGGER.isDebugEnabled() ) {
+					BATCH_LOGGER.debugf(
+							"No batched statements to execute - %s",
+							getKey().toLoggableString()
+					);
+				}
+			}
+			else {
+				submitRows();
+			}
+			awaitExecution();
+		}
+		finally {
+			statementGroup.release();
+		}
+	}
+
+	@Override
+	public void awaitExecution() {
+		try {
+			pipeline.await();
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+	}
+
+	/**
+	 * Execute the statements, to which the rows were already added by the session.
+	 * Called by the pipeline, and so never touches the session.
+	 */
+	private void performExecution(Rows rows) {
+		final long startTime = adaptiveBatchSize == null ? 0 : System.nanoTime();
+		try {
+			for ( int i = 0; i < statements.length; i++ ) {
+				executeStatement( rows, statements[i] );
+			}
+			if ( adaptiveBatchSize != null ) {
+				adaptiveBatchSize.recordExecution( rows.rowCount, System.nanoTime() - startTime, statistics );
+			}
+		}
+		catch (RuntimeException e) {
+			clearBatches();
+			throw e;
+		}
+	}
+
+	/**
+	 * Prepare the statement, and add the recorded rows to its JDBC batch.
+	 * Called by the session.
+	 */
+	@SuppressWarnings("unchecked")
+	private void addRows(Rows rows, int statementIndex) {
+		final PreparedStatementDetails statementDetails = statements[statementIndex];
+		final String sql = statementDetails.getSqlString();
+		for ( int row = 0; row < rows.rowCount; row++ ) {
+			final Binding[] bindings = rows.bindings[row * statements.length + statementIndex];
+			if ( bindings != null ) {
+				//noinspection resource
+				final PreparedStatement statement = statementDetails.resolveStatement();
+				sqlStatementLogger.logStatement( sql );
+				for ( Binding binding : bindings ) {
+					try {
+						( (ValueBinder<Object>) binding.getValueBinder() )
+								.bind( statement, binding.getValue(), binding.getPosition(), wrapperOptions );
+					}
+					catch (SQLException e) {
+						throw sqlExceptionHelper.convert(
+								e,
+								String.format(
+										Locale.ROOT,
+										"Unable to bind parameter #%s - %s",
+										binding.getPosition(),
+										binding.getValue()
+								),
+								sql
+						);
+					}
+				}
+				try {
+					statement.addBatch();
+				}
+				catch (SQLException e) {
+					BATCH_LOGGER.debug( "SQLException escaped proxy", e );
+					throw sqlExceptionHelper.convert(
+							e,
+							"Could not perform addBatch",
+							sql
+					);
+				}
+			}
+		}
+	}
+
+	private void executeStatement(Rows rows, PreparedStatementDetails statementDetails) {
+		final String sql = statementDetails.getSqlString();
+		final PreparedStatement statement = statementDetails.getStatement();
+		if ( statement != null ) {
+			try {
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					final int[] rowCounts;
+					final DiagnosticEvent executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
+					try {
+						rowCounts = statement.executeBatch();
+					}
+					finally {
+						eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql, rows.batchSize );
+					}
+					checkRowCounts( rowCounts, rows, statementDetails );
+				}
+				else {
+					statement.executeBatch();
+				}
+			}
+			catch (SQLException e) {
+				throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+			}
+		}
+	}
+
+	private void checkRowCounts(int[] rowCounts, Rows rows, PreparedStatementDetails statementDetails)
+			throws SQLException, HibernateException {
+		final int numberOfRowCounts = rowCounts.length;
+		if ( numberOfRowCounts != rows.rowCount ) {
+			JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
+					statementDetails.getMutatingTableDetails().getTableName(),
+					numberOfRowCounts,
+					rows.rowCount
+			);
+		}
+
+		final String sql = statementDetails.getSqlString();
+		for ( int i = 0; i < numberOfRowCounts; i++ ) {
+			try {
+				statementDetails.getExpectation()
+						.verifyOutcome( rowCounts[i], statementDetails.getStatement(), i, sql );
+			}
+			catch ( StaleStateException staleStateException ) {
+				if ( rows.staleStateMappers != null ) {
+					throw rows.staleStateMappers[i].map( staleStateException );
+				}
+			}
+		}
+	}
+
+	private void clearBatches() {
+		for ( PreparedStatementDetails statementDetails : statements ) {
+			final PreparedStatement statement = statementDetails.getStatement();
+			if ( statement != null ) {
+				try {
+					if ( !statement.isClosed() ) {
+						statement.clearBatch();
+					}
+				}
+				catch ( SQLException e ) {
+					BATCH_MESSAGE_LOGGER.unableToReleaseBatchStatement();
+				}
+			}
+		}
+	}
+
+	@Override
+	public void release() {
+		// the statements may not be released while in use by the pipeline
+		pipeline.discard();
+		if ( rows.rowCount != 0 && BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+		}
+		rows.clear();
+		statementGroup.release();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "PipelinedBatch(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * The rows recorded for one execution of the batch.
+	 */
+	private static final class Rows {
+		// the bindings of each statement, followed by the bindings of
+		// the next row, or null if the table is not affected by the row
+		private final Binding[][] bindings;
+		private final int batchSize;
+		private StaleStateMapper @Nullable [] staleStateMappers;
+		private int rowCount;
+
+		private Rows(int batchSize, int numberOfStatements) {
+			this.bindings = new Binding[batchSize * numberOfStatements][];
+			this.batchSize = batchSize;
+		}
+
+		private void addStaleStateMapper(StaleStateMapper staleStateMapper) {
+			if ( staleStateMapper != null ) {
+				if ( staleStateMappers == null ) {
+					staleStateMappers = new StaleStateMapper[batchSize];
+				}
+				staleStateMappers[rowCount] = staleStateMapper;
+			}
+		}
+
+		private void clear() {
+			Arrays.fill( bindings, null );
+			staleStateMappers = null;
+			rowCount = 0;
+		}
+	}
+}
@@ -67,6 +67,15 @@ interface StaleStateMapper {
 	 */
 	void execute();
 
+	/**
+	 * Wait for the completion of any execution of this batch which is still in flight,
+	 * before the connection is used for a statement which is not part of the batch.
+	 *
+	 * @since 7.1
+	 */
+	default void awaitExecution() {
+	}
+
 	/**
 	 * Used to indicate that the batch instance is no longer needed and that, therefore,
 	 * it can release its resources.
@@ -8,6 +8,7 @@
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.JdbcBatchLogging;
+import org.hibernate.engine.jdbc.batch.internal.BatchPipeline;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
@@ -36,6 +37,7 @@
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import static org.hibernate.ConnectionReleaseMode.AFTER_STATEMENT;
@@ -57,6 +59,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private transient final JdbcServices jdbcServices;
 
 	private transient Batch currentBatch;
+	private transient BatchPipeline batchPipeline;
 
 	private transient long transactionTimeOutInstant = -1;
 
@@ -151,6 +154,10 @@ public Connection close() {
 			}
 		}
 		finally {
+			if ( batchPipeline != null ) {
+				batchPipeline.close();
+				batchPipeline = null;
+			}
 			connection = logicalConnection.close();
 		}
 		return connection;
@@ -192,17 +199,51 @@ public void executeBatch() {
 
 	@Override
 	public void conditionallyExecuteBatch(BatchKey key) {
-		if ( currentBatch != null && !currentBatch.getKey().equals( key ) ) {
-			JdbcBatchLogging.BATCH_LOGGER.debugf( "Conditionally executing batch - %s", currentBatch.getKey() );
-			try {
-				currentBatch.execute();
+		if ( currentBatch != null ) {
+			if ( !currentBatch.getKey().equals( key ) ) {
+				JdbcBatchLogging.BATCH_LOGGER.debugf( "Conditionally executing batch - %s", currentBatch.getKey() );
+				try {
+					currentBatch.execute();
+				}
+				finally {
+					currentBatch.release();
+				}
 			}
-			finally {
-				currentBatch.release();
+			else {
+				// the batch stays open, but must not be executing concurrently
+				currentBatch.awaitExecution();
 			}
 		}
 	}
 
+	/**
+	 * The pipeline executing the batches of this session.
+	 *
+	 * @param executor the executor running the pipelines of the factory
+	 *
+	 * @see org.hibernate.engine.jdbc.batch.internal.PipelinedBatch
+	 *
+	 * @since 7.1
+	 */
+	public BatchPipeline getBatchPipeline(Executor executor) {
+		if ( batchPipeline == null ) {
+			batchPipeline = new BatchPipeline( executor );
+		}
+		return batchPipeline;
+	}
+
+	/**
+	 * Wait for any execution of the current batch which is still in flight,
+	 * since the connection is about to be used for another statement.
+	 *
+	 * @since 7.1
+	 */
+	public void awaitBatchExecution() {
+		if ( currentBatch != null ) {
+			currentBatch.awaitExecution();
+		}
+	}
+
 	@Override
 	public void abortBatch() {
 		if ( currentBatch != null ) {
@@ -210,6 +251,16 @@ public void abortBatch() {
 		}
 	}
 
+	/**
+	 * Wait for any execution of a batch which is still in flight, ignoring
+	 * its failure, since the transaction is ending anyway.
+	 */
+	private void discardBatchExecution() {
+		if ( batchPipeline != null ) {
+			batchPipeline.discard();
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
@@ -281,6 +332,7 @@ else if ( hasRegisteredResources() ) {
 
 	@Override
 	public void afterTransaction() {
+		discardBatchExecution();
 		transactionTimeOutInstant = -1;
 		switch ( connectionReleaseMode() ) {
 			case AFTER_STATEMENT:
@@ -300,6 +352,7 @@ private boolean hasRegisteredResources() {
 
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		awaitBatchExecution();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
@@ -378,6 +431,14 @@ public void beforeTransactionCompletion() {
 		logicalConnection.beforeTransactionCompletion();
 	}
 
+	@Override
+	public void beforeTransactionRollback() {
+		// the pending statements belong to the transaction, and the
+		// connection may not be rolled back while a batch executes
+		abortBatch();
+		discardBatchExecution();
+	}
+
 	@Override
 	public void afterTransactionCompletion(boolean successful, boolean delayed) {
 		afterTransaction();
@@ -43,6 +43,7 @@ public ResultSetReturnImpl(JdbcCoordinator jdbcCoordinator, JdbcServices jdbcSer
 
 	@Override
 	public ResultSet extract(PreparedStatement statement, String sql) {
+		awaitBatchExecution();
 		// IMPL NOTE : SQL logged by caller
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -70,6 +71,12 @@ public ResultSet extract(PreparedStatement statement, String sql) {
 		}
 	}
 
+	private void awaitBatchExecution() {
+		if ( jdbcCoordinator instanceof JdbcCoordinatorImpl jdbcCoordinatorImpl ) {
+			jdbcCoordinatorImpl.awaitBatchExecution();
+		}
+	}
+
 	private EventMonitor getEventManager() {
 		return jdbcCoordinator.getJdbcSessionOwner().getEventMonitor();
 	}
@@ -92,6 +99,7 @@ private void jdbcExecuteStatementStart() {
 
 	@Override
 	public ResultSet extract(Statement statement, String sql) {
+		awaitBatchExecution();
 		sqlStatementLogger.logStatement( sql );
 		long executeStartNanos = beginSlowQueryLogging();
 		try {
@@ -118,6 +126,7 @@ public ResultSet extract(Statement statement, String sql) {
 
 	@Override
 	public ResultSet execute(PreparedStatement statement, String sql) {
+		awaitBatchExecution();
 		// sql logged by StatementPreparerImpl
 		long executeStartNanos = beginSlowQueryLogging();
 		try {
@@ -149,6 +158,7 @@ public ResultSet execute(PreparedStatement statement, String sql) {
 
 	@Override
 	public ResultSet execute(Statement statement, String sql) {
+		awaitBatchExecution();
 		sqlStatementLogger.logStatement( sql );
 		long executeStartNanos = beginSlowQueryLogging();
 		try {
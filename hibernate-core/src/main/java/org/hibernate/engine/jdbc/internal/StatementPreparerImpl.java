@@ -65,6 +65,7 @@ protected final SqlExceptionHelper sqlExceptionHelper() {
 
 	@Override
 	public Statement createStatement() {
+		jdbcCoordinator.awaitBatchExecution();
 		try {
 			final Statement statement = connection().createStatement();
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( statement, true );
@@ -149,6 +150,8 @@ public PreparedStatement prepareQueryStatement(
 			resultSetType = ResultSet.TYPE_FORWARD_ONLY;
 		}
 
+		// the batch stays open, but its execution must not be in flight
+		jdbcCoordinator.awaitBatchExecution();
 		final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
 			public PreparedStatement doPrepare() throws SQLException {
 					return isCallable
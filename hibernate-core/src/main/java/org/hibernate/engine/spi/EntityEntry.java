@@ -7,6 +7,7 @@
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.LockMode;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -40,6 +41,18 @@ public interface EntityEntry {
 
 	Object[] getLoadedState();
 
+	/**
+	 * The {@linkplain #getLoadedState() loaded state}, for callers which only
+	 * read it, such as dirty checking. The returned array might be a copy, and
+	 * so it must never be modified.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default Object[] getLoadedStateForReading() {
+		return getLoadedState();
+	}
+
 	Object getLoadedValue(String propertyName);
 
 	void overwriteLoadedStateCollectionValue(String propertyName, PersistentCollection<?> collection);
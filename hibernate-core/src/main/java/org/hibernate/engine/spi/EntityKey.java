@@ -56,11 +56,22 @@ public EntityKey(@Nullable Object id, EntityPersister persister) {
 	}
 
 	private int generateHashCode() {
+		return generateHashCode( identifier, persister );
+	}
+
+	/**
+	 * The {@linkplain #hashCode() hash code} of the key of the entity instance
+	 * with the given identifier, computed without instantiating the key.
+	 *
+	 * @param id The entity id
+	 * @param persister The entity persister
+	 */
+	public static int generateHashCode(Object id, EntityPersister persister) {
 		int result = 17;
 		final String rootEntityName = persister.getRootEntityName();
 		result = 37 * result + rootEntityName.hashCode();
 		final Type identifierType = persister.getIdentifierType().getTypeForEqualsHashCode();
-		result = 37 * result + ( identifierType == null ? identifier.hashCode() : identifierType.getHashCode( identifier, persister.getFactory() ) );
+		result = 37 * result + ( identifierType == null ? id.hashCode() : identifierType.getHashCode( id, persister.getFactory() ) );
 		return result;
 	}
 
@@ -94,21 +105,32 @@ public boolean equals(@Nullable Object other) {
 		}
 
 		final EntityKey otherKey = (EntityKey) other;
-		return samePersistentType( otherKey )
-				&& sameIdentifier( otherKey );
+		return matches( otherKey.identifier, otherKey.persister );
+	}
 
+	/**
+	 * Does this key identify the entity instance with the given identifier?
+	 * This is equivalent to comparing with a new key for the given identifier
+	 * and persister using {@link #equals}, but does not instantiate the key.
+	 *
+	 * @param id The entity id
+	 * @param persister The entity persister
+	 */
+	public boolean matches(Object id, EntityPersister persister) {
+		return samePersistentType( persister )
+			&& sameIdentifier( id );
 	}
 
-	private boolean sameIdentifier(final EntityKey otherKey) {
+	private boolean sameIdentifier(final Object otherIdentifier) {
 		final Type identifierType;
-		return this.identifier == otherKey.identifier || (
-				(identifierType = persister.getIdentifierType().getTypeForEqualsHashCode()) == null && identifier.equals( otherKey.identifier )
-						|| identifierType != null && identifierType.isEqual( otherKey.identifier, this.identifier, persister.getFactory() ) );
+		return this.identifier == otherIdentifier || (
+				(identifierType = persister.getIdentifierType().getTypeForEqualsHashCode()) == null && identifier.equals( otherIdentifier )
+						|| identifierType != null && identifierType.isEqual( otherIdentifier, this.identifier, persister.getFactory() ) );
 	}
 
-	private boolean samePersistentType(final EntityKey otherKey) {
-		return otherKey.persister == persister
-			|| otherKey.persister.getRootEntityName().equals( persister.getRootEntityName() );
+	private boolean samePersistentType(final EntityPersister otherPersister) {
+		return otherPersister == persister
+			|| otherPersister.getRootEntityName().equals( persister.getRootEntityName() );
 	}
 
 	@Override
@@ -171,6 +171,23 @@ default boolean hasLoadContext() {
 	 */
 	boolean containsEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance with the given identifier. Unlike
+	 * {@link #getEntity(EntityKey)}, this does not require that
+	 * an {@link EntityKey} be instantiated for each lookup.
+	 *
+	 * @param persister The persister for the entity
+	 * @param id The identifier of the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default Object getEntity(EntityPersister persister, Object id) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Remove an entity.  Also clears up all other state associated with the entity aside from the {@link EntityEntry}
 	 *
@@ -523,6 +540,23 @@ EntityHolder claimEntityHolderIfPossible(
 
 	@Nullable EntityHolder getEntityHolder(EntityKey key);
 
+	/**
+	 * Get the holder for the entity instance with the given identifier.
+	 * Unlike {@link #getEntityHolder(EntityKey)}, this does not require
+	 * that an {@link EntityKey} be instantiated for each lookup.
+	 *
+	 * @param persister The persister for the entity
+	 * @param id The identifier of the entity
+	 *
+	 * @return The holder, or {@code null}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default @Nullable EntityHolder getEntityHolder(EntityPersister persister, Object id) {
+		return getEntityHolder( getSession().generateEntityKey( id, persister ) );
+	}
+
 	boolean containsEntityHolder(EntityKey key);
 
 	@Nullable EntityHolder removeEntityHolder(EntityKey key);
@@ -556,6 +590,46 @@ EntityHolder claimEntityHolderIfPossible(
 	 */
 	Map.Entry<Object,EntityEntry>[] reentrantSafeEntityEntries();
 
+	/**
+	 * The entities which must be visited by a flush, if the persistence context keeps
+	 * track of the entities which might have been modified, or {@code null} if every
+	 * entity must be visited.
+	 * <p>
+	 * The returned array is safe from additions/removals while iterating, and might
+	 * contain entities which are no longer associated with the persistence context.
+	 *
+	 * @see org.hibernate.cfg.BytecodeSettings#SKIP_UNMODIFIED_ON_FLUSH
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default Object @Nullable [] getEntitiesToFlush() {
+		return null;
+	}
+
+	/**
+	 * Register an entity which might have been modified, and must be visited by the
+	 * next flush.
+	 *
+	 * @see #getEntitiesToFlush()
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void registerModifiedEntity(Object entity) {
+	}
+
+	/**
+	 * Forget the entities which are known to be unmodified, after a flush.
+	 *
+	 * @see #getEntitiesToFlush()
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void forgetUnmodifiedEntities() {
+	}
+
 //	/**
 //	 * Get the mapping from entity instance to entity entry
 //	 *
@@ -27,6 +27,7 @@
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
+import org.hibernate.action.internal.InsertActionSorter;
 import org.hibernate.StatelessSession;
 import org.hibernate.StatelessSessionBuilder;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
@@ -403,6 +404,11 @@ public EntityCopyObserverFactory getEntityCopyObserver() {
 		return delegate.getEntityCopyObserver();
 	}
 
+	@Override
+	public InsertActionSorter getInsertActionSorter() {
+		return delegate.getInsertActionSorter();
+	}
+
 	@Override
 	public ClassLoaderService getClassLoaderService() {
 		return delegate.getClassLoaderService();
@@ -12,6 +12,7 @@
 import org.hibernate.Internal;
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
+import org.hibernate.action.internal.InsertActionSorter;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.SessionFactoryOptions;
@@ -224,6 +225,19 @@ default JpaMetamodel getJpaMetamodel() {
 	@Incubating
 	EntityCopyObserverFactory getEntityCopyObserver();
 
+	/**
+	 * Obtain the {@link InsertActionSorter} used when
+	 * {@linkplain SessionFactoryOptions#isOrderInsertsEnabled() insert ordering}
+	 * is enabled. It holds the foreign key dependencies between the entities of
+	 * this factory, and so should be built just once.
+	 *
+	 * @since 7.1
+	 */
+	@Internal
+	default InsertActionSorter getInsertActionSorter() {
+		return new InsertActionSorter( getMappingMetamodel() );
+	}
+
 	/**
 	 * Obtain the {@link ClassLoaderService}.
 	 *
@@ -5,6 +5,8 @@
 package org.hibernate.event.internal;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
@@ -130,7 +132,7 @@ private void prepareEntityFlushes(EventSource session, PersistenceContext persis
 		LOG.debug( "Processing flush-time cascades" );
 		final PersistContext context = PersistContext.create();
 		// safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
-		for ( var me : persistenceContext.reentrantSafeEntityEntries() ) {
+		for ( var me : entityEntriesToFlush( persistenceContext ) ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			final EntityEntry entry = me.getValue();
 			if ( flushable( entry ) ) {
@@ -145,7 +147,7 @@ void checkForTransientReferences(EventSource session, PersistenceContext persist
 		// processed, so that all entities which will be persisted are
 		// persistent when we do the check (I wonder if we could move this
 		// into Nullability, instead of abusing the Cascade infrastructure)
-		for ( var me : persistenceContext.reentrantSafeEntityEntries() ) {
+		for ( var me : entityEntriesToFlush( persistenceContext ) ) {
 			final EntityEntry entry = me.getValue();
 			if ( checkable( entry ) ) {
 				Cascade.cascade(
@@ -160,6 +162,32 @@ void checkForTransientReferences(EventSource session, PersistenceContext persist
 		}
 	}
 
+	/**
+	 * The entity/EntityEntry combos to visit during the flush, either every entry
+	 * of the persistence context, or only those of the entities which might have
+	 * been modified, if the persistence context keeps track of them.
+	 *
+	 * @see PersistenceContext#getEntitiesToFlush()
+	 */
+	private static Map.Entry<Object,EntityEntry>[] entityEntriesToFlush(PersistenceContext persistenceContext) {
+		final Object[] entities = persistenceContext.getEntitiesToFlush();
+		if ( entities == null ) {
+			return persistenceContext.reentrantSafeEntityEntries();
+		}
+		else {
+			@SuppressWarnings("unchecked")
+			final Map.Entry<Object,EntityEntry>[] entityEntries = new Map.Entry[entities.length];
+			int count = 0;
+			for ( Object entity : entities ) {
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				if ( entry != null ) {
+					entityEntries[count++] = Map.entry( entity, entry );
+				}
+			}
+			return count == entityEntries.length ? entityEntries : Arrays.copyOf( entityEntries, count );
+		}
+	}
+
 	private static boolean flushable(EntityEntry entry) {
 		final Status status = entry.getStatus();
 		return status == Status.MANAGED
@@ -220,7 +248,7 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 		// collections that are changing roles. This might cause entities
 		// to be loaded.
 		// So this needs to be safe from concurrent modification problems.
-		final var entityEntries = persistenceContext.reentrantSafeEntityEntries();
+		final var entityEntries = entityEntriesToFlush( persistenceContext );
 		final int count = entityEntries.length;
 
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
@@ -405,6 +433,9 @@ protected void postFlush(SessionImplementor session) throws HibernateException {
 		// the batch fetching queues should also be cleared - especially the collection batch fetching one
 		persistenceContext.getBatchFetchQueue().clear();
 
+		// the entities which were found unmodified need not be visited by the next flush
+		persistenceContext.forgetUnmodifiedEntities();
+
 		persistenceContext.forEachCollectionEntry(
 				(persistentCollection, collectionEntry) -> {
 					collectionEntry.postFlush( persistentCollection );
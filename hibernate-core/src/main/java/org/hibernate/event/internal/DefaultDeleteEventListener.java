@@ -378,9 +378,10 @@ protected final void deleteEntity(
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		final Object version = entityEntry.getVersion();
 
-		final Object[] currentState = entityEntry.getLoadedState() == null
+		final Object[] loadedState = entityEntry.getLoadedStateForReading();
+		final Object[] currentState = loadedState == null
 				? persister.getValues(entity) //i.e. the entity came in from update()
-				: entityEntry.getLoadedState();
+				: loadedState;
 
 		final Object[] deletedState = createDeletedState( persister, entity, currentState, session );
 		entityEntry.setDeletedState( deletedState );
@@ -395,6 +396,7 @@ protected final void deleteEntity(
 
 		// before any callbacks, etc., so subdeletions see that this deletion happened first
 		persistenceContext.setEntryStatus( entityEntry, Status.DELETED );
+		persistenceContext.registerModifiedEntity( entity );
 		final EntityKey key = session.generateEntityKey( entityEntry.getId(), persister );
 
 		cascadeBeforeDelete( session, persister, entity, transientEntities );
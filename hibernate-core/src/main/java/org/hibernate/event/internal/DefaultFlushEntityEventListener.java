@@ -13,6 +13,7 @@
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.action.internal.EntityUpdateAction;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.engine.internal.EntityEntryImpl;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Nullability.NullabilityCheckType;
 import org.hibernate.engine.internal.Versioning;
@@ -131,7 +132,7 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, mightBeDirty );
 
 		event.setPropertyValues( values );
 
@@ -160,17 +161,24 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
 		if ( entry.getStatus() == Status.DELETED ) {
 			//grab its state saved at deletion
 			return entry.getDeletedState();
 		}
+		else if ( !mightBeDirty && entry instanceof EntityEntryImpl entryImpl && entryImpl.isLoadedStateLazy() ) {
+			// avoid expanding or taking the snapshot of an unmodified entity
+			return entry.getPersister().getValues( entity );
+		}
 		else {
-			final Object[] loadedState = entry.getLoadedState();
+			final Object[] loadedState = event.getLoadedState();
 			if ( !mightBeDirty && loadedState != null ) {
 				return loadedState;
 			}
 			else {
+				final EventSource session = event.getSession();
 				final EntityPersister persister = entry.getPersister();
 				checkId( entity, persister, entry, session );
 				// grab its current state
@@ -262,7 +270,7 @@ private boolean scheduleUpdate(final FlushEntityEvent event) {
 						event.hasDirtyCollection(),
 						status == Status.DELETED && !entry.isModifiableEntity()
 								? persister.getValues( entity )
-								: entry.getLoadedState(),
+								: event.getLoadedState(),
 						entry.getVersion(),
 						nextVersion,
 						entity,
@@ -335,7 +343,7 @@ protected boolean invokeInterceptor(FlushEntityEvent event) {
 
 		final boolean stateModified =
 				event.getSession().getInterceptor()
-						.onFlushDirty( entity, id, values, entry.getLoadedState(),
+						.onFlushDirty( entity, id, values, event.getLoadedState(),
 								persister.getPropertyNames(), persister.getPropertyTypes() );
 
 		return stateModified || isDirty;
@@ -476,7 +484,7 @@ private static int[] performDirtyCheck(FlushEntityEvent event) {
 			session.getEventListenerManager().dirtyCalculationStart();
 			// object loaded by update()
 			final Object[] values = event.getPropertyValues();
-			final Object[] loadedState = entry.getLoadedState();
+			final Object[] loadedState = event.getLoadedState();
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
@@ -548,7 +556,7 @@ private static int[] getDirtyPropertiesFromInterceptor(FlushEntityEvent event) {
 				event.getEntity(),
 				entry.getId(),
 				event.getPropertyValues(),
-				entry.getLoadedState(),
+				event.getLoadedState(),
 				persister.getPropertyNames(),
 				persister.getPropertyTypes()
 		);
@@ -587,7 +595,7 @@ private static int[] resolveDirtyAttributeIndex(
 			EntityEntry entry) {
 		return persister.resolveDirtyAttributeIndexes(
 				event.getPropertyValues(),
-				entry.getLoadedState(),
+				event.getLoadedState(),
 				tracker.$$_hibernate_getDirtyAttributes(),
 				event.getSession()
 		);
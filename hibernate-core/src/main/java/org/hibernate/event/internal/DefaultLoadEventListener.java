@@ -97,7 +97,7 @@ protected EntityPersister getPersister(final LoadEvent event) {
 
 	private void doOnLoad(EntityPersister persister, LoadEvent event, LoadType loadType) {
 		try {
-			final EntityKey keyToLoad = event.getSession().generateEntityKey( event.getEntityId(), persister );
+			final EntityKey keyToLoad = entityKey( event, persister );
 			if ( loadType.isNakedEntityReturned() ) {
 				//do not return a proxy!
 				//(this option indicates we are initializing a proxy)
@@ -117,6 +117,23 @@ private void doOnLoad(EntityPersister persister, LoadEvent event, LoadType loadT
 		}
 	}
 
+	/**
+	 * If the entity is already associated with the session, reuse its
+	 * {@link EntityKey}, so repeated loads do not instantiate a new one.
+	 */
+	private static EntityKey entityKey(LoadEvent event, EntityPersister persister) {
+		final EventSource session = event.getSession();
+		final Object id = event.getEntityId();
+		final EntityHolder holder = session.getPersistenceContextInternal().getEntityHolder( persister, id );
+		if ( holder != null ) {
+			final EntityKey key = holder.getEntityKey();
+			if ( key.getPersister() == persister ) {
+				return key;
+			}
+		}
+		return session.generateEntityKey( id, persister );
+	}
+
 	//TODO: this method is completely unreadable, clean it up:
 	private boolean handleIdType(EntityPersister persister, LoadEvent event, LoadType loadType, Class<?> idClass) {
 		// we may have the jpa requirement of allowing find-by-id where id is the "simple pk value" of a
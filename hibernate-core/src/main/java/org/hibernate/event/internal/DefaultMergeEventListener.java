@@ -16,6 +16,7 @@
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
+import org.hibernate.engine.internal.EntityEntryImpl;
 import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionEntry;
@@ -470,10 +471,12 @@ protected void entityIsDetached(MergeEvent event, Object copiedId, Object origin
 					target,
 					copyCache
 			);
+			takeDeferredSnapshot( session, target );
 			persister.setValues( target, targetValues );
 			interceptor.postMerge( entity, target, id, targetValues, originalValues, propertyNames, propertyTypes );
 			//copyValues works by reflection, so explicitly mark the entity instance dirty
 			markInterceptorDirty( entity, target );
+			session.getPersistenceContextInternal().registerModifiedEntity( target );
 			event.setResult( result );
 		}
 	}
@@ -557,6 +560,14 @@ private static Object unproxyManagedForDetachedMerging(
 		return managed;
 	}
 
+	private static void takeDeferredSnapshot(EventSource session, Object target) {
+		// copyValues works by reflection, and so the target is not able
+		// to notify the session before its loaded state is overwritten
+		if ( session.getPersistenceContextInternal().getEntry( target ) instanceof EntityEntryImpl entry ) {
+			entry.takeDeferredSnapshot( target );
+		}
+	}
+
 	private static void markInterceptorDirty(final Object entity, final Object target) {
 		// for enhanced entities, copy over the dirty attributes
 		if ( isSelfDirtinessTracker( entity ) && isSelfDirtinessTracker( target ) ) {
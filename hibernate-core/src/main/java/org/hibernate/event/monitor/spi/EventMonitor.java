@@ -79,6 +79,19 @@ void completeJdbcBatchExecutionEvent(
 			DiagnosticEvent jdbcBatchExecutionEvent,
 			String statementSql);
 
+	/**
+	 * Complete the event of a batch execution, reporting the size of the batch,
+	 * that is, the maximum number of rows of the batch.
+	 *
+	 * @since 7.1
+	 */
+	default void completeJdbcBatchExecutionEvent(
+			DiagnosticEvent jdbcBatchExecutionEvent,
+			String statementSql,
+			int batchSize) {
+		completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, statementSql );
+	}
+
 	DiagnosticEvent beginCachePutEvent();
 
 	void completeCachePutEvent(
@@ -13,6 +13,7 @@ public class FlushEntityEvent extends AbstractEvent {
 
 	private Object entity;
 	private Object[] propertyValues;
+	private Object[] loadedState;
 	private Object[] databaseSnapshot;
 	private int[] dirtyProperties;
 	private boolean hasDirtyCollection;
@@ -31,6 +32,19 @@ public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
 	public EntityEntry getEntityEntry() {
 		return entityEntry;
 	}
+	/**
+	 * The {@linkplain EntityEntry#getLoadedStateForReading() loaded state}
+	 * of the entity, obtained once for the whole event, since it might be
+	 * expanded from a compact snapshot each time it is read from the entry.
+	 *
+	 * @since 7.1
+	 */
+	public Object[] getLoadedState() {
+		if ( loadedState == null ) {
+			loadedState = entityEntry.getLoadedStateForReading();
+		}
+		return loadedState;
+	}
 	public Object[] getDatabaseSnapshot() {
 		return databaseSnapshot;
 	}
@@ -95,6 +109,7 @@ public void resetAndReuseEventInstance(Object entity, EntityEntry entry) {
 		this.allowedToReuse = false;
 		//and reset other fields to the default:
 		this.propertyValues = null;
+		this.loadedState = null;
 		this.databaseSnapshot = null;
 		this.dirtyProperties = null;
 		this.hasDirtyCollection = false;
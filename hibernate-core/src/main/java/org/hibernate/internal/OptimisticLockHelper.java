@@ -72,7 +72,7 @@ private static Object updateCacheItem(Object entity, Object previousVersion, Obj
 		}
 		else if ( session.getCacheMode().isPutEnabled() ) {
 			//TODO: inefficient if that cache is just going to ignore the updated state!
-			final CacheEntry ce = persister.buildCacheEntry( entity, entry.getLoadedState(), nextVersion, session );
+			final CacheEntry ce = persister.buildCacheEntry( entity, entry.getLoadedStateForReading(), nextVersion, session );
 			final Object cacheEntry = persister.getCacheEntryStructure().structure( ce );
 			final boolean put = updateCache( persister, cacheEntry, previousVersion, nextVersion, ck, session );
 
@@ -41,6 +41,7 @@
 import org.hibernate.StatelessSession;
 import org.hibernate.StatelessSessionBuilder;
 import org.hibernate.UnknownFilterException;
+import org.hibernate.action.internal.InsertActionSorter;
 import org.hibernate.binder.internal.TenantIdBinder;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.boot.model.relational.internal.SqlStringGenerationContextImpl;
@@ -222,6 +223,8 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 	final transient EntityCopyObserverFactory entityCopyObserverFactory;
 	final transient ParameterMarkerStrategy parameterMarkerStrategy;
 	final transient JdbcValuesMappingProducerProvider jdbcValuesMappingProducerProvider;
+	// built lazily, since the persisters must be fully initialized
+	private transient volatile InsertActionSorter insertActionSorter;
 
 	public SessionFactoryImpl(
 			final MetadataImplementor bootMetamodel,
@@ -411,6 +414,15 @@ public EntityCopyObserverFactory getEntityCopyObserver() {
 		return entityCopyObserverFactory;
 	}
 
+	@Override
+	public InsertActionSorter getInsertActionSorter() {
+		InsertActionSorter sorter = insertActionSorter;
+		if ( sorter == null ) {
+			insertActionSorter = sorter = new InsertActionSorter( getMappingMetamodel() );
+		}
+		return sorter;
+	}
+
 	@Override
 	public ClassLoaderService getClassLoaderService() {
 		return classLoaderService;
@@ -5,7 +5,9 @@
 package org.hibernate.internal;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -181,6 +183,90 @@ public void insertMultiple(List<?> entities) {
 		}
 	}
 
+	@Override
+	public void bulkInsert(List<?> entities) {
+		checkOpen();
+		// group the entities by type, in the order of first occurrence
+		final Map<EntityPersister, List<Object>> entitiesByPersister = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			entitiesByPersister.computeIfAbsent( getEntityPersister( null, entity ), persister -> new ArrayList<>() )
+					.add( entity );
+		}
+		entitiesByPersister.forEach( (persister, entitiesOfType) -> {
+			if ( persister.getInsertCoordinator().supportsBulkInsert() ) {
+				// the rows of the previous types must be inserted first
+				getJdbcCoordinator().executeBatch();
+				bulkInsert( persister, entitiesOfType );
+			}
+			else {
+				insertMultiple( entitiesOfType );
+			}
+		} );
+	}
+
+	private void bulkInsert(EntityPersister persister, List<Object> entities) {
+		final Generator generator = persister.getGenerator();
+		final List<Object> insertedEntities = new ArrayList<>( entities.size() );
+		final List<Object> ids = new ArrayList<>( entities.size() );
+		final List<Object[]> states = new ArrayList<>( entities.size() );
+		for ( Object entity : entities ) {
+			final Object[] state = persister.getValues( entity );
+			if ( persister.isVersioned() ) {
+				if ( seedVersion( entity, state, persister, this ) ) {
+					persister.setValues( entity, state );
+				}
+			}
+			final Object id;
+			// the identifier is never generated on execution
+			if ( generator.generatedBeforeExecution( entity, this ) ) {
+				if ( !generator.generatesOnInsert() ) {
+					throw new IdentifierGenerationException( "Identifier generator must generate on insert" );
+				}
+				final Object currentValue = generator.allowAssignedIdentifiers() ? persister.getIdentifier( entity ) : null;
+				id = ( (BeforeExecutionGenerator) generator ).generate( this, entity, currentValue, INSERT );
+				persister.setIdentifier( entity, id, this );
+			}
+			else { // assigned identifier
+				id = persister.getIdentifier( entity, this );
+				if ( id == null ) {
+					throw new IdentifierGenerationException( "Identifier of entity '" + persister.getEntityName() + "' must be manually assigned before calling 'bulkInsert()'" );
+				}
+			}
+			if ( !firePreInsert( entity, id, state, persister ) ) {
+				getInterceptor().onInsert( entity, id, state, persister.getPropertyNames(), persister.getPropertyTypes() );
+				insertedEntities.add( entity );
+				ids.add( id );
+				states.add( state );
+			}
+		}
+
+		if ( !insertedEntities.isEmpty() ) {
+			final EventMonitor eventMonitor = getEventMonitor();
+			final List<DiagnosticEvent> events = new ArrayList<>( insertedEntities.size() );
+			for ( int i = 0; i < insertedEntities.size(); i++ ) {
+				events.add( eventMonitor.beginEntityInsertEvent() );
+			}
+			boolean success = false;
+			try {
+				persister.getInsertCoordinator().bulkInsert( insertedEntities, ids, states, this );
+				success = true;
+			}
+			finally {
+				for ( int i = 0; i < events.size(); i++ ) {
+					eventMonitor.completeEntityInsertEvent( events.get( i ), ids.get( i ), persister.getEntityName(), success, this );
+				}
+			}
+			final StatisticsImplementor statistics = getFactory().getStatistics();
+			for ( int i = 0; i < insertedEntities.size(); i++ ) {
+				recreateCollections( insertedEntities.get( i ), ids.get( i ), persister );
+				firePostInsert( insertedEntities.get( i ), ids.get( i ), states.get( i ), persister );
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.insertEntity( persister.getEntityName() );
+				}
+			}
+		}
+	}
+
 	@Override
 	public Object insert(String entityName, Object entity) {
 		checkOpen();
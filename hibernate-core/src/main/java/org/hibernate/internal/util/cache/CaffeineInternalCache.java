@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * An implementation of {@link InternalCache} wrapping a Caffeine {@link Cache}.
+ *
+ * @see CaffeineInternalCacheFactory
+ */
+final class CaffeineInternalCache<K, V> implements InternalCache<K, V> {
+
+	private final Cache<K, V> cache;
+
+	CaffeineInternalCache(Cache<K, V> cache) {
+		this.cache = cache;
+	}
+
+	@Override
+	public int heldElementsEstimate() {
+		return (int) cache.estimatedSize();
+	}
+
+	@Override
+	public V get(K key) {
+		return cache.getIfPresent( key );
+	}
+
+	@Override
+	public void put(K key, V value) {
+		cache.put( key, value );
+	}
+
+	@Override
+	public void clear() {
+		cache.invalidateAll();
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		return cache.get( key, mappingFunction );
+	}
+
+	@Override
+	public void forEachKey(Consumer<? super K> action) {
+		cache.asMap().keySet().forEach( action );
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * An {@link InternalCacheFactory} producing caches backed by
+ * <a href="https://github.com/ben-manes/caffeine">Caffeine</a>.
+ * <p>
+ * Compared to the {@linkplain InternalCacheFactoryImpl legacy implementation}, reads
+ * never lock, and the W-TinyLFU admission policy keeps frequently used entries from
+ * being flushed out by a scan over many entries which are only used once.
+ */
+final class CaffeineInternalCacheFactory implements InternalCacheFactory {
+
+	static final String SHORT_NAME = "caffeine";
+
+	@Override
+	public <K, V> InternalCache<K, V> createInternalCache(int intendedApproximateSize) {
+		final Cache<K, V> cache = Caffeine.newBuilder()
+				.maximumSize( intendedApproximateSize )
+				// maintenance work is cheap: do it on the calling thread rather
+				// than in the common pool
+				.executor( Runnable::run )
+				.build();
+		return new CaffeineInternalCache<>( cache );
+	}
+
+	@Override
+	public <K, V> InternalCache<K, V> createInternalCache(
+			int intendedApproximateSize,
+			BiConsumer<? super K, ? super V> evictionListener) {
+		final Cache<K, V> cache = Caffeine.newBuilder()
+				.maximumSize( intendedApproximateSize )
+				.executor( Runnable::run )
+				.<K, V>evictionListener( (key, value, cause) -> evictionListener.accept( key, value ) )
+				.build();
+		return new CaffeineInternalCache<>( cache );
+	}
+
+	@Override
+	public boolean supportsWeightedInternalCaches() {
+		return true;
+	}
+
+	@Override
+	public <K, V> InternalCache<K, V> createWeightedInternalCache(
+			long maximumWeight,
+			ToIntBiFunction<? super K, ? super V> weigher,
+			BiConsumer<? super K, ? super V> evictionListener) {
+		final Cache<K, V> cache = Caffeine.newBuilder()
+				.maximumWeight( maximumWeight )
+				.executor( Runnable::run )
+				.<K, V>weigher( weigher::applyAsInt )
+				.evictionListener( (key, value, cause) -> evictionListener.accept( key, value ) )
+				.build();
+		return new CaffeineInternalCache<>( cache );
+	}
+}
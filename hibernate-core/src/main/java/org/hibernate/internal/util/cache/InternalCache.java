@@ -4,6 +4,7 @@
  */
 package org.hibernate.internal.util.cache;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -61,4 +62,14 @@
 	 * @return Either the existing value, or the return from the provided function.
 	 */
 	V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+	/**
+	 * Performs the given action for the key of each entry currently held by the cache.
+	 * As with {@link #heldElementsEstimate()}, the result is only a best effort view:
+	 * entries might be added or evicted concurrently.
+	 * Implementations which are not able to list their keys may do nothing at all.
+	 * @param action The action to perform with each key
+	 */
+	default void forEachKey(Consumer<? super K> action) {
+	}
 }
@@ -4,6 +4,9 @@
  */
 package org.hibernate.internal.util.cache;
 
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
 import org.hibernate.service.Service;
 
 /**
@@ -15,4 +18,44 @@ public interface InternalCacheFactory extends Service {
 
 	<K,V> InternalCache<K,V> createInternalCache(int intendedApproximateSize);
 
+	/**
+	 * Create a cache which notifies the given listener of every entry it evicts
+	 * to honor its bounds.
+	 * <p>
+	 * Implementations which are not able to report evictions may ignore the listener.
+	 *
+	 * @param evictionListener Notified with the key and value of each evicted entry
+	 */
+	default <K,V> InternalCache<K,V> createInternalCache(
+			int intendedApproximateSize,
+			BiConsumer<? super K, ? super V> evictionListener) {
+		return createInternalCache( intendedApproximateSize );
+	}
+
+	/**
+	 * Whether this factory is able to {@linkplain #createWeightedInternalCache create caches}
+	 * bounded by the total weight of their entries, rather than by their number.
+	 */
+	default boolean supportsWeightedInternalCaches() {
+		return false;
+	}
+
+	/**
+	 * Create a cache bounded by the total weight of its entries, as computed by
+	 * the given weigher when an entry is stored.
+	 *
+	 * @param maximumWeight The maximum total weight of the entries held by the cache
+	 * @param weigher Computes the weight of an entry
+	 * @param evictionListener Notified with the key and value of each evicted entry
+	 *
+	 * @throws UnsupportedOperationException if {@link #supportsWeightedInternalCaches()}
+	 * returns {@code false}
+	 */
+	default <K,V> InternalCache<K,V> createWeightedInternalCache(
+			long maximumWeight,
+			ToIntBiFunction<? super K, ? super V> weigher,
+			BiConsumer<? super K, ? super V> evictionListener) {
+		throw new UnsupportedOperationException( getClass().getName() + " does not support weighted caches" );
+	}
+
 }
@@ -5,10 +5,14 @@
 package org.hibernate.internal.util.cache;
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 import java.util.Map;
 
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_FACTORY;
+
 public class InternalCacheFactoryInitiator implements StandardServiceInitiator<InternalCacheFactory> {
 
 	/**
@@ -16,11 +20,56 @@ public class InternalCacheFactoryInitiator implements StandardServiceInitiator<I
 	 */
 	public static final InternalCacheFactoryInitiator INSTANCE = new InternalCacheFactoryInitiator();
 
+	private static final String LEGACY = "legacy";
+
 	private InternalCacheFactoryInitiator() {}
 
 	@Override
 	public InternalCacheFactory initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
-		return new InternalCacheFactoryImpl();
+		final Object factory = configurationValues.get( QUERY_PLAN_CACHE_FACTORY );
+
+		if ( factory == null ) {
+			return new InternalCacheFactoryImpl();
+		}
+
+		if ( factory instanceof InternalCacheFactory internalCacheFactory ) {
+			return internalCacheFactory;
+		}
+
+		final String factoryName = factory instanceof Class<?> factoryClass
+				? factoryClass.getName()
+				: factory.toString().trim();
+		if ( LEGACY.equalsIgnoreCase( factoryName ) ) {
+			return new InternalCacheFactoryImpl();
+		}
+		else if ( CaffeineInternalCacheFactory.SHORT_NAME.equalsIgnoreCase( factoryName ) ) {
+			return createCaffeineFactory();
+		}
+
+		try {
+			return (InternalCacheFactory) registry.requireService( ClassLoaderService.class )
+					.classForName( factoryName )
+					.getConstructor()
+					.newInstance();
+		}
+		catch (Exception e) {
+			throw new ServiceException( "Could not build explicit InternalCacheFactory [" + factoryName + "]", e );
+		}
+	}
+
+	private static InternalCacheFactory createCaffeineFactory() {
+		try {
+			//N.B. like JacksonIntegration, expect Caffeine to be reachable from the ORM classloader
+			InternalCacheFactoryInitiator.class.getClassLoader()
+					.loadClass( "com.github.benmanes.caffeine.cache.Caffeine" );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			throw new ServiceException(
+					"Could not build Caffeine InternalCacheFactory: Caffeine is not on the classpath",
+					e
+			);
+		}
+		return new CaffeineInternalCacheFactory();
 	}
 
 	@Override
@@ -7,6 +7,7 @@
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 
 import java.io.Serializable;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -48,4 +49,9 @@ public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction
 		return map.computeIfAbsent( key, mappingFunction );
 	}
 
+	@Override
+	public void forEachKey(Consumer<? super K> action) {
+		map.keySet().forEach( action );
+	}
+
 }
@@ -7,7 +7,6 @@
 import org.hibernate.Hibernate;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
-import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.EntityBatchLoader;
@@ -91,8 +90,7 @@ private T load(
 
 		initializeEntities( ids, id, entityInstance, lockOptions, readOnly, session );
 
-		final EntityKey entityKey = session.generateEntityKey( id, getLoadable().getEntityPersister() );
 		//noinspection unchecked
-		return (T) session.getPersistenceContext().getEntity( entityKey );
+		return (T) session.getPersistenceContext().getEntity( getLoadable().getEntityPersister(), id );
 	}
 }
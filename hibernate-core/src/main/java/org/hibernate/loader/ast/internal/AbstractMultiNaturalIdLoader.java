@@ -7,7 +7,6 @@
 
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.EntityEntry;
-import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
@@ -134,7 +133,7 @@ private <K> Object entityForNaturalId(PersistenceContext context, K naturalId) {
 		final EntityMappingType descriptor = getEntityDescriptor();
 		final Object id = context.getNaturalIdResolutions().findCachedIdByNaturalId( naturalId, descriptor );
 		// id can be null if a non-existent natural id is requested, or a mutable natural id was changed and then deleted
-		return id == null ? null : context.getEntity( new EntityKey( id, descriptor.getEntityPersister() ) );
+		return id == null ? null : context.getEntity( descriptor.getEntityPersister(), id );
 	}
 
 	private <K> Object[] checkPersistenceContextForCachedResults(
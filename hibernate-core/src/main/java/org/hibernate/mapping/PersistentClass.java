@@ -90,6 +90,7 @@
 	private final List<Table> subclassTables = new ArrayList<>();
 	private boolean dynamicInsert;
 	private boolean dynamicUpdate;
+	private boolean compactSnapshot;
 	private int batchSize = -1;
 	private boolean selectBeforeUpdate;
 	private java.util.Map<String, MetaAttribute> metaAttributes;
@@ -212,6 +213,23 @@ public void setDynamicUpdate(boolean dynamicUpdate) {
 		this.dynamicUpdate = dynamicUpdate;
 	}
 
+	/**
+	 * Whether the snapshot of the loaded state of this entity, or of one of
+	 * its superclasses, is stored in a compact format.
+	 *
+	 * @see org.hibernate.annotations.CompactSnapshot
+	 *
+	 * @since 7.1
+	 */
+	public boolean useCompactSnapshot() {
+		return compactSnapshot
+			|| getSuperclass() != null && getSuperclass().useCompactSnapshot();
+	}
+
+	public void setCompactSnapshot(boolean compactSnapshot) {
+		this.compactSnapshot = compactSnapshot;
+	}
+
 
 	public String getDiscriminatorValue() {
 		return discriminatorValue;
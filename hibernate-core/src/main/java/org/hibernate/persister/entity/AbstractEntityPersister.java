@@ -22,6 +22,7 @@
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.bytecode.enhance.internal.tracker.ChangeNotifier;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
@@ -30,6 +31,8 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
@@ -45,6 +48,7 @@
 import org.hibernate.engine.FetchTiming;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.internal.CompactLoadedState;
 import org.hibernate.engine.internal.ImmutableEntityEntryFactory;
 import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -280,6 +284,7 @@
 import static org.hibernate.boot.model.internal.SoftDeleteHelper.resolveSoftDeleteMapping;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTrackerType;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfPersistentAttributeInterceptable;
 import static org.hibernate.generator.EventType.INSERT;
 import static org.hibernate.generator.EventType.UPDATE;
@@ -441,6 +446,9 @@
 	private BeforeExecutionGenerator versionGenerator;
 
 	protected ReflectionOptimizer.AccessOptimizer accessOptimizer;
+	private final @Nullable DirtyCheckOptimizer dirtyCheckOptimizer;
+	private final CompactLoadedState.@Nullable Layout compactLoadedStateLayout;
+	private final boolean snapshotDeferrable;
 
 	protected final String[] fullDiscriminatorSQLValues;
 	private final Object[] fullDiscriminatorValues;
@@ -656,6 +664,13 @@ public AbstractEntityPersister(
 		lazyPropertyNumbers = toIntArray( lazyNumbers );
 		lazyPropertyTypes = toTypeArray( lazyTypes );
 
+		dirtyCheckOptimizer = dirtyCheckOptimizer( creationContext );
+		compactLoadedStateLayout =
+				persistentClass.useCompactSnapshot() || sessionFactoryOptions.isCompactSnapshotsEnabled()
+						? CompactLoadedState.Layout.forProperties( getPropertyTypes(), getPropertyLaziness() )
+						: null;
+		snapshotDeferrable = sessionFactoryOptions.isDeferSnapshotsEnabled() && computeSnapshotDeferrable();
+
 		// SUBCLASS PROPERTY CLOSURE
 		final ArrayList<String> aliases = new ArrayList<>();
 		final ArrayList<String> formulaAliases = new ArrayList<>();
@@ -3604,13 +3619,22 @@ public boolean isAffectedByEnabledFilters(
 	@Override
 	public int[] findDirty(Object[] currentState, Object[] previousState, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
-		int[] props = DirtyHelper.findDirty(
-				entityMetamodel.getDirtyCheckablePropertyTypes(),
-				currentState,
-				previousState,
-				propertyColumnUpdateable,
-				session
-		);
+		int[] props = dirtyCheckOptimizer == null
+				? DirtyHelper.findDirty(
+						entityMetamodel.getDirtyCheckablePropertyTypes(),
+						currentState,
+						previousState,
+						propertyColumnUpdateable,
+						session
+				)
+				: DirtyHelper.findDirty(
+						entityMetamodel.getDirtyCheckablePropertyTypes(),
+						dirtyCheckOptimizer,
+						currentState,
+						previousState,
+						propertyColumnUpdateable,
+						session
+				);
 		if ( props == null ) {
 			return null;
 		}
@@ -3862,8 +3886,7 @@ public Boolean isTransient(Object entity, SharedSessionContractImplementor sessi
 									&& !persistenceContext.getLoadContexts().isLoadingFinished() ) {
 						// check if we're currently loading this entity instance, the version
 						// will be null but the entity cannot be considered transient
-						final EntityHolder holder =
-								persistenceContext.getEntityHolder( new EntityKey( id, this ) );
+						final EntityHolder holder = persistenceContext.getEntityHolder( this, id );
 						if ( holder != null && holder.isEventuallyInitialized() && holder.getEntity() == entity ) {
 							return false;
 						}
@@ -4090,6 +4113,23 @@ public boolean[] getPropertyLaziness() {
 		return entityMetamodel.getPropertyLaziness();
 	}
 
+	/**
+	 * The layout of the compact snapshots of the loaded state of this entity,
+	 * or {@code null} if the loaded state is not stored in a compact format.
+	 *
+	 * @see org.hibernate.annotations.CompactSnapshot
+	 *
+	 * @since 7.1
+	 */
+	public CompactLoadedState.@Nullable Layout getCompactLoadedStateLayout() {
+		return compactLoadedStateLayout;
+	}
+
+	@Override
+	public boolean isSnapshotDeferrable() {
+		return snapshotDeferrable;
+	}
+
 	@Override
 	public boolean[] getPropertyUpdateability() {
 		return entityMetamodel.getPropertyUpdateability();
@@ -4710,6 +4750,37 @@ private static ReflectionOptimizer.AccessOptimizer accessOptimizer(EntityReprese
 		return reflectionOptimizer == null ? null : reflectionOptimizer.getAccessOptimizer();
 	}
 
+	private boolean computeSnapshotDeferrable() {
+		if ( representationStrategy.getMode() != POJO ) {
+			return false;
+		}
+		// the current state of an instance is its loaded state until the
+		// instance notifies the session that it is about to be modified,
+		// which only holds if every change goes through the enhanced code
+		final Class<?> mappedClass = representationStrategy.getMappedJavaType().getJavaTypeClass();
+		return entityMetamodel.isMutable()
+			&& !entityMetamodel.hasCollections()
+			&& !entityMetamodel.hasMutableProperties()
+			&& !entityMetamodel.hasLazyProperties()
+			&& isSelfDirtinessTrackerType( mappedClass )
+			&& ChangeNotifier.isNotifying( mappedClass );
+	}
+
+	private @Nullable DirtyCheckOptimizer dirtyCheckOptimizer(RuntimeModelCreationContext creationContext) {
+		if ( representationStrategy.getMode() != POJO ) {
+			return null;
+		}
+		final Class<?>[] optimizableTypes = DirtyHelper.getOptimizableTypes(
+				entityMetamodel.getDirtyCheckablePropertyTypes(),
+				propertyColumnUpdateable
+		);
+		return optimizableTypes == null
+				? null
+				: creationContext.getBootstrapContext().getServiceRegistry()
+						.requireService( BytecodeProvider.class )
+						.getDirtyCheckOptimizer( representationStrategy.getMappedJavaType().getJavaTypeClass(), optimizableTypes );
+	}
+
 	private void prepareMappings(MappingModelCreationProcess creationProcess) {
 		final PersistentClass bootEntityDescriptor =
 				creationProcess.getCreationContext().getBootModel()
@@ -4,12 +4,26 @@
  */
 package org.hibernate.persister.entity;
 
+import java.util.Map;
+
 import org.hibernate.Internal;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.tuple.NonIdentifierAttribute;
+import org.hibernate.type.AbstractStandardBasicType;
 import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.BooleanJavaType;
+import org.hibernate.type.descriptor.java.ByteJavaType;
+import org.hibernate.type.descriptor.java.CharacterJavaType;
+import org.hibernate.type.descriptor.java.DoubleJavaType;
+import org.hibernate.type.descriptor.java.FloatJavaType;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+import org.hibernate.type.descriptor.java.StringJavaType;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -18,6 +32,19 @@
  */
 @Internal
 class DirtyHelper {
+	// the Java types whose values are compared with equals()
+	private static final Map<Class<?>, Class<?>> OPTIMIZABLE_JAVA_TYPES = Map.of(
+			BooleanJavaType.class, Boolean.class,
+			ByteJavaType.class, Byte.class,
+			CharacterJavaType.class, Character.class,
+			ShortJavaType.class, Short.class,
+			IntegerJavaType.class, Integer.class,
+			LongJavaType.class, Long.class,
+			FloatJavaType.class, Float.class,
+			DoubleJavaType.class, Double.class,
+			StringJavaType.class, String.class
+	);
+
 	/**
 	 * Determine if any of the given field values are dirty, returning an array containing
 	 * indices of the dirty fields.
@@ -129,6 +156,78 @@ else if ( previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 		}
 	}
 
+	/**
+	 * Determine if any of the given field values are dirty, returning an array containing
+	 * indices of the dirty fields, like {@link #findDirty(Type[], Object[], Object[], boolean[][], SharedSessionContractImplementor)},
+	 * but comparing the properties handled by the given {@link DirtyCheckOptimizer} in generated code.
+	 *
+	 * @param propertyTypes The property types that are dirty checkable. null entry for non-dirty checkable properties
+	 * @param optimizer The optimizer for the properties identified by {@link #getOptimizableTypes}
+	 * @param currentState The current state of the entity
+	 * @param previousState The baseline state of the entity
+	 * @param includeColumns Columns to be included in the dirty checking, per property
+	 * @param session The session from which the dirty check request originated.
+	 *
+	 * @return Array containing indices of the dirty properties, or null if no properties considered dirty.
+	 */
+	public static int[] findDirty(
+			@Nullable Type[] propertyTypes,
+			final DirtyCheckOptimizer optimizer,
+			final Object[] currentState,
+			final Object[] previousState,
+			final boolean[][] includeColumns,
+			final SharedSessionContractImplementor session) {
+		int span = propertyTypes.length;
+		final byte[] optimized = new byte[span];
+		optimizer.findDirty( currentState, previousState, optimized );
+
+		int[] results = null;
+		int count = 0;
+		for ( int i = 0; i < span; i++ ) {
+			final boolean dirty = switch ( optimized[i] ) {
+				case DirtyCheckOptimizer.DIRTY -> true;
+				case DirtyCheckOptimizer.CLEAN -> false;
+				default -> isDirty( propertyTypes, currentState, previousState, includeColumns, session, i );
+			};
+			if ( dirty ) {
+				if ( results == null ) {
+					results = new int[span];
+				}
+				results[count++] = i;
+			}
+		}
+
+		return count == 0 ? null : ArrayHelper.trim( results, count );
+	}
+
+	/**
+	 * Determine the class of the values of each property which may be dirty checked
+	 * by a {@link DirtyCheckOptimizer}, that is, of each dirty checkable property
+	 * mapped to a single updatable column, whose basic type compares its values
+	 * using {@code equals()}.
+	 *
+	 * @param propertyTypes The property types that are dirty checkable. null entry for non-dirty checkable properties
+	 * @param includeColumns Columns to be included in the dirty checking, per property
+	 *
+	 * @return The class of the values of each property, with a null entry for properties which may not be optimized,
+	 * or null if no property may be optimized.
+	 */
+	public static @Nullable Class<?>[] getOptimizableTypes(
+			@Nullable Type[] propertyTypes,
+			final boolean[][] includeColumns) {
+		final Class<?>[] optimizableTypes = new Class<?>[propertyTypes.length];
+		boolean optimizable = false;
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			if ( propertyTypes[i] instanceof AbstractStandardBasicType<?> basicType
+					&& includeColumns[i].length == 1 && includeColumns[i][0]
+					&& basicType.getJavaTypeDescriptor().getMutabilityPlan() != MutableMutabilityPlan.INSTANCE ) {
+				optimizableTypes[i] = OPTIMIZABLE_JAVA_TYPES.get( basicType.getJavaTypeDescriptor().getClass() );
+				optimizable = optimizable || optimizableTypes[i] != null;
+			}
+		}
+		return optimizable ? optimizableTypes : null;
+	}
+
 	/**
 	 * Determine if any of the given field values are modified, returning an array containing
 	 * indices of the modified fields.
@@ -319,6 +319,19 @@ default void visitQuerySpaces(Consumer<String> querySpaceConsumer) {
 	 */
 	boolean hasMutableProperties();
 
+	/**
+	 * Whether the snapshot of the loaded state of this entity may be taken
+	 * when the entity is first modified, instead of when it is loaded.
+	 *
+	 * @see org.hibernate.cfg.BytecodeSettings#DEFER_SNAPSHOTS
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean isSnapshotDeferrable() {
+		return false;
+	}
+
 	/**
 	 * Determine whether this entity contains references to persistent collections
 	 * which are fetchable by subselect?
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.persister.entity.mutation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.dialect.bulk.BulkInsertTable;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.ast.ColumnValueParameter;
+import org.hibernate.sql.model.jdbc.MultiRowInsertSql;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The static insert into one table of an entity, described as a
+ * {@link BulkInsertTable}.
+ *
+ * @see InsertCoordinator#bulkInsert
+ *
+ * @since 7.1
+ */
+final class BulkInsertOperation {
+	private final EntityTableMapping tableMapping;
+	private final Expectation expectation;
+	private final BulkInsertTable table;
+	private final Map<String, Integer> columnIndexes;
+
+	private BulkInsertOperation(
+			EntityTableMapping tableMapping,
+			Expectation expectation,
+			BulkInsertTable table,
+			Map<String, Integer> columnIndexes) {
+		this.tableMapping = tableMapping;
+		this.expectation = expectation;
+		this.table = table;
+		this.columnIndexes = columnIndexes;
+	}
+
+	/**
+	 * @return the operation, or {@code null} if the given operation is not an
+	 * insert of form {@code insert into table (c1,...) values (?,...)}, with
+	 * the standard parameter markers and row count expectation
+	 */
+	static @Nullable BulkInsertOperation create(MutationOperation operation) {
+		if ( !( operation instanceof PreparableMutationOperation preparableOperation )
+				|| preparableOperation.isCallable()
+				|| !( operation.getTableDetails() instanceof EntityTableMapping tableMapping )
+				|| tableMapping.getInsertDetails().getCustomSql() != null ) {
+			return null;
+		}
+
+		final Expectation expectation = preparableOperation.getExpectation();
+		if ( expectation.getClass() != Expectation.RowCount.class
+				&& expectation.getClass() != Expectation.None.class ) {
+			return null;
+		}
+
+		final MultiRowInsertSql insertSql = MultiRowInsertSql.from( preparableOperation.getSqlString() );
+		final List<JdbcParameterBinder> parameterBinders = preparableOperation.getParameterBinders();
+		if ( insertSql == null || insertSql.getParametersPerRow() != parameterBinders.size() ) {
+			return null;
+		}
+
+		final String[] columnNames = new String[parameterBinders.size()];
+		final JdbcMapping[] columnTypes = new JdbcMapping[parameterBinders.size()];
+		final Map<String, Integer> columnIndexes = new HashMap<>();
+		for ( int i = 0; i < parameterBinders.size(); i++ ) {
+			if ( !( parameterBinders.get( i ) instanceof ColumnValueParameter parameter ) ) {
+				return null;
+			}
+			columnNames[i] = parameter.getColumnReference().getColumnExpression();
+			columnTypes[i] = parameter.getJdbcMapping();
+			columnIndexes.put( columnNames[i], i );
+		}
+		return new BulkInsertOperation(
+				tableMapping,
+				expectation,
+				new BulkInsertTable( tableMapping.getTableName(), columnNames, columnTypes, insertSql ),
+				columnIndexes
+		);
+	}
+
+	EntityTableMapping getTableMapping() {
+		return tableMapping;
+	}
+
+	Expectation getExpectation() {
+		return expectation;
+	}
+
+	BulkInsertTable getTable() {
+		return table;
+	}
+
+	RowBindings createRowBindings() {
+		return new RowBindings();
+	}
+
+	/**
+	 * Records the values bound for the table of the operation as a row
+	 * of the {@link BulkInsertTable}, ignoring the values bound for the
+	 * other tables of the entity.
+	 */
+	final class RowBindings implements JdbcValueBindings {
+		private final Object[] row = new Object[table.getColumnCount()];
+
+		Object[] getRow() {
+			return row;
+		}
+
+		void clear() {
+			Arrays.fill( row, null );
+		}
+
+		@Override
+		public BindingGroup getBindingGroup(String tableName) {
+			return null;
+		}
+
+		@Override
+		public void bindValue(Object value, String tableName, String columnName, ParameterUsage usage) {
+			if ( tableName.equals( tableMapping.getTableName() ) ) {
+				final Integer index = columnIndexes.get( columnName );
+				if ( index != null ) {
+					row[index] = value;
+				}
+			}
+		}
+
+		@Override
+		public void beforeStatement(PreparedStatementDetails statementDetails) {
+		}
+
+		@Override
+		public void afterStatement(TableMapping mutatingTable) {
+		}
+	}
+}
@@ -4,6 +4,9 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.util.List;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.values.GeneratedValues;
 
@@ -34,4 +37,36 @@ public interface InsertCoordinator extends MutationCoordinator {
 			Object id,
 			Object[] values,
 			SharedSessionContractImplementor session);
+
+	/**
+	 * Whether instances of the entity may be inserted by {@link #bulkInsert}.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean supportsBulkInsert() {
+		return false;
+	}
+
+	/**
+	 * Persist entity instances with known identifiers, loading the rows of each
+	 * table using the {@linkplain org.hibernate.dialect.Dialect#getBulkInsertSupport
+	 * bulk insert support} of the dialect.
+	 *
+	 * @param entities The entity instances
+	 * @param ids The identifiers of the instances
+	 * @param values The extracted attribute values of the instances
+	 *
+	 * @throws UnsupportedOperationException if bulk inserts are not {@linkplain #supportsBulkInsert supported}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void bulkInsert(
+			List<?> entities,
+			List<?> ids,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Bulk insert is not supported" );
+	}
 }
@@ -9,7 +9,9 @@
 import java.util.List;
 
 import org.hibernate.Internal;
+import org.hibernate.StaleStateException;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
@@ -24,6 +26,7 @@
 import org.hibernate.generator.OnExecutionGenerator;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.generator.values.GeneratedValuesMutationDelegate;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
@@ -43,6 +46,7 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static org.hibernate.generator.EventType.INSERT;
+import static org.hibernate.sql.ast.internal.ParameterMarkerStrategyStandard.isStandardRenderer;
 
 /**
  * Coordinates the insertion of an entity.
@@ -53,9 +57,14 @@
  */
 @Internal
 public class InsertCoordinatorStandard extends AbstractMutationCoordinator implements InsertCoordinator {
+	private static final BulkInsertOperation[] NO_BULK_INSERT = new BulkInsertOperation[0];
+
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
 
+	private volatile BulkInsertOperation @Nullable [] bulkInsertOperations;
+	private volatile @Nullable BulkInsertSupport bulkInsertSupport;
+
 	public InsertCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
@@ -130,6 +139,139 @@ public GeneratedValues coordinateInsert(
 		}
 	}
 
+	@Override
+	public boolean supportsBulkInsert() {
+		return getBulkInsertOperations().length > 0;
+	}
+
+	/**
+	 * Insert the given instances, one table at a time. Any instance which
+	 * needs a dynamic insert, due to its in-memory value generation, is
+	 * inserted on its own.
+	 */
+	@Override
+	public void bulkInsert(
+			List<?> entities,
+			List<?> ids,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		final BulkInsertOperation[] operations = getBulkInsertOperations();
+		if ( operations.length == 0 ) {
+			throw new UnsupportedOperationException( "Bulk insert is not supported for entity '"
+					+ entityPersister().getEntityName() + "'" );
+		}
+
+		// apply any pre-insert in-memory value generation
+		final int[] staticIndexes = new int[entities.size()];
+		int staticCount = 0;
+		for ( int i = 0; i < entities.size(); i++ ) {
+			if ( preInsertInMemoryValueGeneration( values.get( i ), entities.get( i ), session ) ) {
+				doDynamicInserts( ids.get( i ), values.get( i ), entities.get( i ), session, false );
+			}
+			else {
+				staticIndexes[staticCount++] = i;
+			}
+		}
+		final int rowCount = staticCount;
+
+		final BulkInsertSupport bulkInsertSupport = getBulkInsertSupport();
+		final boolean[] insertability = entityPersister().getPropertyInsertability();
+		// the operations are in the order in which their rows must be inserted
+		for ( BulkInsertOperation operation : operations ) {
+			final EntityTableMapping tableMapping = operation.getTableMapping();
+			final TableInclusionChecker tableInclusionChecker = table -> table == tableMapping;
+			final BulkInsertOperation.RowBindings rowBindings = operation.createRowBindings();
+			int expectedRowCount = 0;
+			for ( int k = 0; k < rowCount; k++ ) {
+				if ( includesRow( tableMapping, values.get( staticIndexes[k] ) ) ) {
+					expectedRowCount++;
+				}
+			}
+			if ( expectedRowCount > 0 ) {
+				final long insertedRowCount = bulkInsertSupport.insertRows(
+						operation.getTable(),
+						consumer -> {
+							for ( int k = 0; k < rowCount; k++ ) {
+								final int index = staticIndexes[k];
+								if ( includesRow( tableMapping, values.get( index ) ) ) {
+									rowBindings.clear();
+									decomposeForInsert(
+											rowBindings,
+											ids.get( index ),
+											values.get( index ),
+											staticInsertGroup,
+											insertability,
+											tableInclusionChecker,
+											session
+									);
+									consumer.accept( rowBindings.getRow() );
+								}
+							}
+						},
+						session
+				);
+				if ( operation.getExpectation() instanceof Expectation.RowCount
+						&& insertedRowCount != expectedRowCount ) {
+					throw new StaleStateException(
+							"Bulk insert returned unexpected row count (expected row count " + expectedRowCount
+									+ " but was " + insertedRowCount + ") [" + tableMapping.getTableName() + "]"
+					);
+				}
+			}
+		}
+	}
+
+	private static boolean includesRow(EntityTableMapping tableMapping, Object[] values) {
+		if ( !tableMapping.isOptional() ) {
+			return true;
+		}
+		final int[] attributeIndexes = tableMapping.getAttributeIndexes();
+		for ( int i = 0; i < attributeIndexes.length; i++ ) {
+			if ( values[attributeIndexes[i]] != null ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private BulkInsertOperation[] getBulkInsertOperations() {
+		BulkInsertOperation[] operations = bulkInsertOperations;
+		if ( operations == null ) {
+			operations = createBulkInsertOperations();
+			bulkInsertOperations = operations;
+		}
+		return operations;
+	}
+
+	private BulkInsertOperation[] createBulkInsertOperations() {
+		// the same restrictions as for batching apply, and the
+		// identifier must be known before the rows are inserted
+		if ( staticInsertGroup == null
+				|| batchKey == null
+				|| entityPersister().getGenerator().generatedOnExecution()
+				|| !isStandardRenderer( factory().getJdbcServices().getParameterMarkerStrategy() ) ) {
+			return NO_BULK_INSERT;
+		}
+		final BulkInsertOperation[] operations = new BulkInsertOperation[staticInsertGroup.getNumberOfOperations()];
+		for ( int position = 0; position < operations.length; position++ ) {
+			final BulkInsertOperation operation = BulkInsertOperation.create( staticInsertGroup.getOperation( position ) );
+			if ( operation == null ) {
+				return NO_BULK_INSERT;
+			}
+			operations[position] = operation;
+		}
+		return operations;
+	}
+
+	private BulkInsertSupport getBulkInsertSupport() {
+		BulkInsertSupport support = bulkInsertSupport;
+		if ( support == null ) {
+			support = dialect().getBulkInsertSupport( factory().getServiceRegistry() );
+			bulkInsertSupport = support;
+		}
+		return support;
+	}
+
 	protected boolean preInsertInMemoryValueGeneration(Object[] values, Object entity, SharedSessionContractImplementor session) {
 		final EntityPersister persister = entityPersister();
 		final EntityMetamodel entityMetamodel = persister.getEntityMetamodel();
@@ -209,7 +351,25 @@ protected void decomposeForInsert(
 			boolean[] propertyInclusions,
 			TableInclusionChecker tableInclusionChecker,
 			SharedSessionContractImplementor session) {
-		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
+		decomposeForInsert(
+				mutationExecutor.getJdbcValueBindings(),
+				id,
+				values,
+				mutationGroup,
+				propertyInclusions,
+				tableInclusionChecker,
+				session
+		);
+	}
+
+	protected void decomposeForInsert(
+			JdbcValueBindings jdbcValueBindings,
+			Object id,
+			Object[] values,
+			MutationOperationGroup mutationGroup,
+			boolean[] propertyInclusions,
+			TableInclusionChecker tableInclusionChecker,
+			SharedSessionContractImplementor session) {
 		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
 
 		for ( int position = 0; position < mutationGroup.getNumberOfOperations(); position++ ) {
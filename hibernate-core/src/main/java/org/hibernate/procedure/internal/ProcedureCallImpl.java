@@ -1212,6 +1212,11 @@ public Stream<R> stream() {
 		return getResultStream();
 	}
 
+	@Override
+	public Stream<R> stream(int chunkSize) {
+		return getResultStream();
+	}
+
 	public ResultSetMapping getResultSetMapping() {
 		return resultSetMapping;
 	}
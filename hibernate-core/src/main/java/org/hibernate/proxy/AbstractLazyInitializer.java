@@ -266,8 +266,9 @@ else if ( session.isOpenOrWaitingForAutoClose() && session.isConnected() ) {
 	public final void initializeWithoutLoadIfPossible() {
 		if ( !initialized && session != null && session.isOpenOrWaitingForAutoClose() ) {
 			final EntityPersister entityDescriptor = getMappingMetamodel().getEntityDescriptor( getEntityName() );
-			final EntityKey key = session.generateEntityKey( getInternalIdentifier(), entityDescriptor );
-			final Object entity = session.getPersistenceContextInternal().getEntity( key );
+			final Object entity =
+					session.getPersistenceContextInternal()
+							.getEntity( entityDescriptor, getInternalIdentifier() );
 			if ( entity != null ) {
 				setImplementation( entity );
 			}
@@ -33,7 +33,9 @@
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 /**
@@ -199,6 +201,80 @@ default Stream<R> stream() {
 		return list().stream();
 	}
 
+	/**
+	 * Execute the query and return the query results as a {@link Stream},
+	 * reading the results in chunks of the given size, and evicting the
+	 * entities loaded while reading a chunk from the persistence context
+	 * when the next chunk is read. The memory used by a session streaming
+	 * a very large number of results thus does not grow with the number of
+	 * results.
+	 * <p>
+	 * Unless a {@linkplain #setFetchSize fetch size} was specified for the
+	 * query, the chunk size is used as the JDBC fetch size of the results.
+	 * <p>
+	 * Entities already managed by the session when the query is executed
+	 * are not evicted. Modifications made to a streamed entity must be
+	 * {@linkplain org.hibernate.Session#flush flushed} before the end of
+	 * its chunk, or they are lost.
+	 * <p>
+	 * The client should call {@link Stream#close()} after processing the
+	 * stream so that resources are freed as soon as possible.
+	 *
+	 * @param chunkSize The number of results after which the entities they
+	 *                  loaded are evicted
+	 * @return The results as a {@link Stream}
+	 *
+	 * @implNote The default implementation defined here simply returns
+	 *           {@link #stream()}. Overriding implementations evict the
+	 *           processed entities.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default Stream<R> stream(int chunkSize) {
+		return stream();
+	}
+
+	/**
+	 * Execute the query as a number of partitions, each returning the
+	 * entities with identifiers in a certain range, and return the query
+	 * results as a {@link Stream}. Each partition is read on the given
+	 * {@link Executor} by a new {@linkplain org.hibernate.StatelessSession
+	 * stateless session}, with its own connection and transaction, and so
+	 * the returned entities are detached, and changes which have not yet
+	 * been committed are not visible.
+	 * <p>
+	 * The ranges of identifiers are obtained by dividing the interval
+	 * between the least and greatest identifiers of the entities satisfying
+	 * the restriction of the query. Since the partitions are read
+	 * concurrently, the results are not returned in any particular order.
+	 * A query which does not return a single entity with an identifier of
+	 * integral type, or which has an {@code order by} clause, a limit, or
+	 * an offset, is not partitioned, and its results are read by this
+	 * session instead.
+	 * <p>
+	 * The executor must execute the partitions in threads other than the
+	 * thread which consumes the stream, which blocks while it waits for
+	 * the partitions. So a shared pool such as the common fork/join pool
+	 * is not a suitable executor. The client should call
+	 * {@link Stream#close()} after processing the stream so that the
+	 * partitions still being read are abandoned.
+	 *
+	 * @param partitions The maximum number of partitions
+	 * @param executor The executor which reads the partitions
+	 * @return The results as a {@link Stream}
+	 *
+	 * @implNote The default implementation defined here simply returns
+	 *           {@link #stream()}. Overriding implementations partition
+	 *           the query.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default Stream<R> parallelStream(int partitions, Executor executor) {
+		return stream();
+	}
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * or {@code null} if the query returns no results.
@@ -273,6 +349,46 @@ default Stream<R> stream() {
 	@Incubating
 	KeyedResultList<R> getKeyedResultList(KeyedPage<R> page);
 
+	/**
+	 * Execute the query and return the results of the given
+	 * {@linkplain KeyedPage page} and of every following page as a
+	 * {@link Stream}, using key-based pagination. Each page is read
+	 * by a separate execution of the query when the results of the
+	 * previous page have been consumed, so that no cursor is held
+	 * open while the results are processed, and the cost of reading
+	 * a page does not depend on its position.
+	 * <p>
+	 * The entities loaded while reading a page are evicted from the
+	 * persistence context when the following page is read. Entities
+	 * already managed by the session when the query is executed are
+	 * not evicted. Modifications made to a streamed entity must be
+	 * {@linkplain org.hibernate.Session#flush flushed} before the
+	 * end of its page, or they are lost.
+	 *
+	 * @param page the key-based specification of the first page
+	 *        as an instance of {@link KeyedPage}
+	 *
+	 * @return the results of the page and of the following pages
+	 *         as a {@link Stream}
+	 *
+	 * @implNote The default implementation defined here simply
+	 *           concatenates the results of successive calls to
+	 *           {@link #getKeyedResultList(KeyedPage)}. Overriding
+	 *           implementations evict the processed entities.
+	 *
+	 * @since 7.1
+	 *
+	 * @see #getKeyedResultList(KeyedPage)
+	 */
+	@Incubating
+	default Stream<R> getKeyedResultStream(KeyedPage<R> page) {
+		return Stream.iterate(
+				getKeyedResultList( page ),
+				Objects::nonNull,
+				results -> results.isLastPage() ? null : getKeyedResultList( results.getNextPage() )
+		).flatMap( results -> results.getResultList().stream() );
+	}
+
 	@Override
 	SelectionQuery<R> setHint(String hintName, Object value);
 
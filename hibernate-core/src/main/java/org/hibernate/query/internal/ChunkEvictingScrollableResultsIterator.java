@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.spi.CloseableIterator;
+
+import static org.hibernate.engine.spi.Status.MANAGED;
+import static org.hibernate.engine.spi.Status.READ_ONLY;
+
+/**
+ * Iterates the results of a query, evicting the entities and proxies added
+ * to the persistence context while reading a chunk of results when the next
+ * chunk is read, so that the persistence context does not grow with the
+ * number of results.
+ * <p>
+ * The entities and proxies which were already held by the persistence context
+ * when the query was executed, and the entities which are not in the
+ * {@code MANAGED} or {@code READ_ONLY} state, are never evicted.
+ *
+ * @see org.hibernate.query.SelectionQuery#stream(int)
+ *
+ * @since 7.1
+ */
+public class ChunkEvictingScrollableResultsIterator<T> implements CloseableIterator<T> {
+	private final ScrollableResults<T> scrollableResults;
+	private final SessionImplementor session;
+	private final int chunkSize;
+	private final Set<EntityKey> retainedEntityKeys;
+
+	private int rowsInChunk;
+
+	public ChunkEvictingScrollableResultsIterator(
+			ScrollableResults<T> scrollableResults,
+			SessionImplementor session,
+			Set<EntityKey> retainedEntityKeys,
+			int chunkSize) {
+		this.scrollableResults = scrollableResults;
+		this.session = session;
+		this.retainedEntityKeys = retainedEntityKeys;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * The keys of the entities and proxies held by the given persistence
+	 * context, which are to be retained when a chunk is evicted.
+	 */
+	public static Set<EntityKey> managedEntityKeys(PersistenceContext persistenceContext) {
+		final Map<EntityKey, EntityHolder> entityHolders = persistenceContext.getEntityHoldersByKey();
+		return entityHolders == null ? new HashSet<>() : new HashSet<>( entityHolders.keySet() );
+	}
+
+	@Override
+	public void close() {
+		scrollableResults.close();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( scrollableResults.isClosed() ) {
+			return false;
+		}
+		if ( rowsInChunk >= chunkSize ) {
+			evictEntities( session, retainedEntityKeys );
+			rowsInChunk = 0;
+		}
+		return scrollableResults.next();
+	}
+
+	@Override
+	public T next() {
+		rowsInChunk++;
+		return scrollableResults.get();
+	}
+
+	/**
+	 * Evict the entities in the {@code MANAGED} or {@code READ_ONLY} state,
+	 * and the proxies, whose keys are not among the given retained keys, and
+	 * remove these keys from the {@link BatchFetchQueue}.
+	 */
+	public static void evictEntities(SessionImplementor session, Set<EntityKey> retainedEntityKeys) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<EntityKey, EntityHolder> entityHolders = persistenceContext.getEntityHoldersByKey();
+		if ( entityHolders == null ) {
+			return;
+		}
+		final List<EntityHolder> evictedHolders = new ArrayList<>();
+		for ( EntityHolder holder : entityHolders.values() ) {
+			if ( !retainedEntityKeys.contains( holder.getEntityKey() )
+					// still being initialized
+					&& holder.getEntityInitializer() == null ) {
+				evictedHolders.add( holder );
+			}
+		}
+		final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+		for ( EntityHolder holder : evictedHolders ) {
+			final EntityKey key = holder.getEntityKey();
+			// evicting an entity may have cascaded to this one
+			if ( persistenceContext.getEntityHolder( key ) == holder ) {
+				final Object entity = holder.getEntity();
+				if ( entity == null ) {
+					final Object proxy = holder.getProxy();
+					if ( proxy != null ) {
+						// an uninitialized proxy, typically the target of a lazy association
+						session.evict( proxy );
+					}
+					else {
+						persistenceContext.removeEntityHolder( key );
+					}
+				}
+				else {
+					final EntityEntry entityEntry = persistenceContext.getEntry( entity );
+					if ( entityEntry == null
+							|| entityEntry.getStatus() != MANAGED && entityEntry.getStatus() != READ_ONLY ) {
+						continue;
+					}
+					// evicting the proxy also detaches it from the session
+					final Object proxy = holder.getProxy();
+					session.evict( proxy == null ? entity : proxy );
+				}
+				batchFetchQueue.removeBatchLoadableEntityKey( key );
+				batchFetchQueue.removeSubselect( key );
+			}
+		}
+	}
+}
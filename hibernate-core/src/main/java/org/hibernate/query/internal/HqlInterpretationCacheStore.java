@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.model.domain.ManagedDomainType;
+import org.hibernate.query.QueryLogging;
+
+import org.jboss.logging.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Saves the query strings of the HQL interpretations held by the
+ * {@linkplain org.hibernate.query.spi.QueryInterpretationCache interpretation cache}
+ * to a file, so that they may be interpreted again eagerly after a restart.
+ * <p>
+ * The interpretations themselves are not saved: SQM trees are bound to the
+ * metamodel of the {@code SessionFactory} which created them.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_STORE_DIRECTORY
+ */
+public class HqlInterpretationCacheStore {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private static final int MAGIC = 0x48514C31; // HQL1
+
+	private final Path file;
+	private final String fingerprint;
+
+	public HqlInterpretationCacheStore(Path file, String fingerprint) {
+		this.file = file;
+		this.fingerprint = fingerprint;
+	}
+
+	/**
+	 * Read the saved query strings, or return an empty list if there are none,
+	 * if they were saved for a different fingerprint, or if the file is corrupt.
+	 */
+	public List<String> load() {
+		try ( DataInputStream input = new DataInputStream( new BufferedInputStream( Files.newInputStream( file ) ) ) ) {
+			if ( input.readInt() != MAGIC ) {
+				return unknownFormat();
+			}
+			if ( !fingerprint.equals( input.readUTF() ) ) {
+				log.debugf( "Ignoring saved HQL queries in [%s]: the domain model changed", file );
+				return List.of();
+			}
+			long remaining = Files.size( file )
+					- Integer.BYTES - Short.BYTES - fingerprint.getBytes( UTF_8 ).length - Integer.BYTES;
+			final int count = input.readInt();
+			// every query string is preceded by its length
+			if ( count < 0 || count > remaining / Integer.BYTES ) {
+				return unknownFormat();
+			}
+			remaining -= (long) count * Integer.BYTES;
+			final List<String> queryStrings = new ArrayList<>( count );
+			for ( int i = 0; i < count; i++ ) {
+				final int length = input.readInt();
+				if ( length < 0 || length > remaining ) {
+					return unknownFormat();
+				}
+				remaining -= length;
+				final byte[] bytes = new byte[length];
+				input.readFully( bytes );
+				queryStrings.add( new String( bytes, UTF_8 ) );
+			}
+			log.debugf( "Read %s saved HQL queries from [%s]", count, file );
+			return queryStrings;
+		}
+		catch (NoSuchFileException e) {
+			return List.of();
+		}
+		catch (IOException | RuntimeException e) {
+			log.warnf( e, "Unable to read saved HQL queries from [%s]", file );
+			return List.of();
+		}
+	}
+
+	private List<String> unknownFormat() {
+		log.debugf( "Ignoring saved HQL queries in [%s]: unknown format", file );
+		return List.of();
+	}
+
+	/**
+	 * Save the given query strings, replacing any previously saved.
+	 */
+	public void save(Collection<String> queryStrings) {
+		try {
+			Files.createDirectories( file.getParent() );
+			final Path temporary = Files.createTempFile( file.getParent(), file.getFileName().toString(), ".tmp" );
+			try ( DataOutputStream output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporary ) ) ) ) {
+				output.writeInt( MAGIC );
+				output.writeUTF( fingerprint );
+				output.writeInt( queryStrings.size() );
+				for ( String queryString : queryStrings ) {
+					final byte[] bytes = queryString.getBytes( UTF_8 );
+					output.writeInt( bytes.length );
+					output.write( bytes );
+				}
+			}
+			try {
+				Files.move( temporary, file, REPLACE_EXISTING, ATOMIC_MOVE );
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move( temporary, file, REPLACE_EXISTING );
+			}
+			log.debugf( "Saved %s HQL queries to [%s]", queryStrings.size(), file );
+		}
+		catch (IOException e) {
+			log.warnf( e, "Unable to save HQL queries to [%s]", file );
+		}
+	}
+
+	/**
+	 * A digest of everything which affects the interpretation of HQL: the
+	 * version of Hibernate, the dialect, and the managed types of the domain
+	 * model with their attributes.
+	 */
+	public static String fingerprint(SessionFactoryImplementor sessionFactory) {
+		final StringBuilder description = new StringBuilder()
+				.append( Version.getVersionString() )
+				.append( '\n' )
+				.append( sessionFactory.getJdbcServices().getDialect().getClass().getName() );
+		sessionFactory.getJpaMetamodel().getManagedTypes().stream()
+				.map( HqlInterpretationCacheStore::describe )
+				.sorted()
+				.forEach( type -> description.append( '\n' ).append( type ) );
+		try {
+			final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			return HexFormat.of().formatHex( digest.digest( description.toString().getBytes( UTF_8 ) ) );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to compute the domain model fingerprint", e );
+		}
+	}
+
+	private static String describe(ManagedType<?> managedType) {
+		final String typeName = managedType instanceof ManagedDomainType<?> managedDomainType
+				? managedDomainType.getTypeName()
+				: managedType.getJavaType().getName();
+		return managedType.getAttributes().stream()
+				.map( HqlInterpretationCacheStore::describe )
+				.sorted()
+				.collect( Collectors.joining( ",", typeName + "(", ")" ) );
+	}
+
+	private static String describe(Attribute<?, ?> attribute) {
+		final Class<?> javaType = attribute.getJavaType();
+		return attribute.getName() + ':' + ( javaType == null ? "?" : javaType.getName() );
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.Arrays;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.MathHelper;
+import org.hibernate.query.spi.InClauseParameterPaddingStrategy;
+
+/**
+ * The built-in {@linkplain InClauseParameterPaddingStrategy padding strategies}.
+ *
+ * @since 7.1
+ */
+public final class InClauseParameterPaddingStrategies {
+
+	/**
+	 * Pad to the next Fibonacci number: 2, 3, 5, 8, 13, 21, 34, ...
+	 * This produces more distinct sizes than {@link InClauseParameterPaddingStrategy#POWER_OF_TWO},
+	 * but binds fewer left-over parameters for large lists.
+	 */
+	public static final InClauseParameterPaddingStrategy FIBONACCI = bindValueCount -> {
+		int previous = 1;
+		int current = 1;
+		while ( current < bindValueCount ) {
+			final int next = previous + current;
+			if ( next < 0 ) {
+				// overflow
+				return bindValueCount;
+			}
+			previous = current;
+			current = next;
+		}
+		return current;
+	};
+
+	private InClauseParameterPaddingStrategies() {
+	}
+
+	/**
+	 * Pad to the smallest of the given sizes which can accommodate the list.
+	 * Lists longer than the largest size are padded to a multiple of the
+	 * largest size.
+	 *
+	 * @param sizes the sizes, in any order
+	 */
+	public static InClauseParameterPaddingStrategy fixedBuckets(int... sizes) {
+		if ( sizes.length == 0 ) {
+			throw new IllegalArgumentException( "At least one bucket size must be given" );
+		}
+		final int[] buckets = sizes.clone();
+		Arrays.sort( buckets );
+		if ( buckets[0] <= 0 ) {
+			throw new IllegalArgumentException( "Bucket sizes must be positive" );
+		}
+		final int largest = buckets[buckets.length - 1];
+		return bindValueCount -> {
+			if ( bindValueCount > largest ) {
+				return MathHelper.divideRoundingUp( bindValueCount, largest ) * largest;
+			}
+			else {
+				final int index = Arrays.binarySearch( buckets, bindValueCount );
+				return index >= 0 ? buckets[index] : buckets[-index - 1];
+			}
+		};
+	}
+
+	/**
+	 * Interpret the setting specified via
+	 * {@value AvailableSettings#IN_CLAUSE_PARAMETER_PADDING_STRATEGY}.
+	 * <p>
+	 * Valid values are an instance of {@link InClauseParameterPaddingStrategy},
+	 * its class or class name, {@code power_of_two}, {@code fibonacci}, or a
+	 * comma-separated list of bucket sizes.
+	 *
+	 * @param setting the configuration setting.
+	 */
+	public static InClauseParameterPaddingStrategy interpret(Object setting, StrategySelector strategySelector) {
+		if ( setting == null ) {
+			return InClauseParameterPaddingStrategy.POWER_OF_TWO;
+		}
+		else if ( setting instanceof String string ) {
+			final String name = string.trim();
+			if ( name.isEmpty() || "power_of_two".equalsIgnoreCase( name ) ) {
+				return InClauseParameterPaddingStrategy.POWER_OF_TWO;
+			}
+			else if ( "fibonacci".equalsIgnoreCase( name ) ) {
+				return FIBONACCI;
+			}
+			else if ( Character.isDigit( name.charAt( 0 ) ) ) {
+				try {
+					return fixedBuckets( Arrays.stream( name.split( "," ) )
+							.map( String::trim )
+							.mapToInt( Integer::parseInt )
+							.toArray() );
+				}
+				catch ( IllegalArgumentException e ) {
+					throw new HibernateException( "Invalid bucket sizes '" + setting
+							+ "' specified via '" + AvailableSettings.IN_CLAUSE_PARAMETER_PADDING_STRATEGY
+							+ "' (should be a comma-separated list of positive integers)", e );
+				}
+			}
+		}
+		return strategySelector.resolveStrategy( InClauseParameterPaddingStrategy.class, setting );
+	}
+}
@@ -4,8 +4,14 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Consumer;
 
 import jakarta.persistence.PersistenceException;
@@ -297,7 +303,12 @@ public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetam
 
 	@Override
 	public void validateNamedQueries(QueryEngine queryEngine) {
-		final Map<String, HibernateException> errors = checkNamedQueries( queryEngine );
+		validateNamedQueries( queryEngine, 1 );
+	}
+
+	@Override
+	public void validateNamedQueries(QueryEngine queryEngine, int parallelism) {
+		final Map<String, HibernateException> errors = checkNamedQueries( queryEngine, parallelism );
 		if ( !errors.isEmpty() ) {
 			int i = 0;
 			final StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
@@ -316,31 +327,26 @@ public void validateNamedQueries(QueryEngine queryEngine) {
 
 	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
+		return checkNamedQueries( queryEngine, 1 );
+	}
 
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+	@Override
+	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine, int parallelism) {
+		// errors are sorted by query name, so that they are reported in
+		// the same order no matter how many threads were used to check them
+		final Map<String,HibernateException> errors = new TreeMap<>();
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
-		for ( NamedSqmQueryMemento<?> hqlMemento : sqmMementoMap.values() ) {
-			final String queryString = hqlMemento.getHqlString();
-			final String registrationName = hqlMemento.getRegistrationName();
-			try {
-				log.debugf( "Checking named HQL query: %s", registrationName );
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						null,
-						queryEngine.getHqlTranslator()
-				);
-			}
-			catch ( QueryException e ) {
-				errors.put( registrationName, e );
-			}
-			catch ( PathElementException | TerminalPathException e ) {
-				errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
-			}
-			catch ( EntityTypeException e ) {
-				errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+		if ( parallelism > 1 && sqmMementoMap.size() > 1 ) {
+			checkNamedHqlQueriesInParallel( queryEngine, parallelism, errors );
+		}
+		else {
+			for ( NamedSqmQueryMemento<?> hqlMemento : sqmMementoMap.values() ) {
+				final HibernateException error = checkNamedHqlQuery( hqlMemento, queryEngine );
+				if ( error != null ) {
+					errors.put( hqlMemento.getRegistrationName(), error );
+				}
 			}
 		}
 
@@ -382,6 +388,74 @@ public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine
 		return errors;
 	}
 
+	private void checkNamedHqlQueriesInParallel(
+			QueryEngine queryEngine,
+			int parallelism,
+			Map<String, HibernateException> errors) {
+		final int threads = Math.min( parallelism, sqmMementoMap.size() );
+		log.debugf( "Checking named HQL queries using %s threads", threads );
+		// the worker threads resolve classes named by the queries,
+		// and so they need the class loader of the bootstrap thread
+		final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		final ForkJoinPool pool = new ForkJoinPool(
+				threads,
+				forkJoinPool -> {
+					final ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+					thread.setName( "hibernate-named-query-check-" + thread.getPoolIndex() );
+					thread.setContextClassLoader( classLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+		try {
+			final List<NamedSqmQueryMemento<?>> mementos = new ArrayList<>( sqmMementoMap.values() );
+			final List<ForkJoinTask<HibernateException>> tasks = new ArrayList<>( mementos.size() );
+			for ( NamedSqmQueryMemento<?> hqlMemento : mementos ) {
+				tasks.add( pool.submit( () -> checkNamedHqlQuery( hqlMemento, queryEngine ) ) );
+			}
+			for ( int i = 0; i < mementos.size(); i++ ) {
+				final HibernateException error = tasks.get( i ).join();
+				if ( error != null ) {
+					errors.put( mementos.get( i ).getRegistrationName(), error );
+				}
+			}
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Interpret the given named HQL query, adding the interpretation
+	 * to the {@link QueryInterpretationCache}.
+	 *
+	 * @return the problem with the query, or {@code null} if it is valid
+	 */
+	private static HibernateException checkNamedHqlQuery(NamedSqmQueryMemento<?> hqlMemento, QueryEngine queryEngine) {
+		final String queryString = hqlMemento.getHqlString();
+		final String registrationName = hqlMemento.getRegistrationName();
+		try {
+			log.debugf( "Checking named HQL query: %s", registrationName );
+			queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					queryString,
+					null,
+					queryEngine.getHqlTranslator()
+			);
+			return null;
+		}
+		catch ( QueryException e ) {
+			return e;
+		}
+		catch ( PathElementException | TerminalPathException e ) {
+			return new UnknownPathException( e.getMessage(), queryString, e );
+		}
+		catch ( EntityTypeException e ) {
+			return new UnknownEntityException( e.getMessage(), e.getReference(), e );
+		}
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
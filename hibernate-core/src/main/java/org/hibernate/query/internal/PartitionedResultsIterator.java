@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.spi.CloseableIterator;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Iterates the results of a number of partitions of a query, each of
+ * which is read on an {@link Executor} by its own
+ * {@linkplain StatelessSession stateless session}.
+ * <p>
+ * The results of the partitions are handed over to the iterating thread
+ * through a bounded queue, and so they are interleaved in no particular
+ * order. A partition which is read faster than its results are consumed
+ * waits for the queue to be drained.
+ * <p>
+ * A failure to read a partition, including the interruption of the thread
+ * reading it, is reported by the iterator once the other results of the
+ * partition were consumed.
+ *
+ * @see org.hibernate.query.SelectionQuery#parallelStream(int, Executor)
+ *
+ * @since 7.1
+ */
+public class PartitionedResultsIterator<T> implements CloseableIterator<T> {
+	private static final int QUEUE_CAPACITY = 1_000;
+	private static final long POLL_MILLIS = 100;
+	private static final Object END_OF_PARTITION = new Object();
+
+	private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>( QUEUE_CAPACITY );
+	private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+	private volatile boolean closed;
+
+	private int remainingPartitions;
+	private T next;
+
+	/**
+	 * @param partitions the queries reading the partitions, created by the
+	 *                   given stateless session
+	 * @param sessionSupplier opens a new stateless session for each partition
+	 * @param executor the executor which reads the partitions
+	 */
+	public PartitionedResultsIterator(
+			List<Function<StatelessSession, SelectionQuery<T>>> partitions,
+			Supplier<StatelessSession> sessionSupplier,
+			Executor executor) {
+		for ( Function<StatelessSession, SelectionQuery<T>> partition : partitions ) {
+			try {
+				executor.execute( () -> read( partition, sessionSupplier ) );
+			}
+			catch (RejectedExecutionException e) {
+				close();
+				throw e;
+			}
+			remainingPartitions++;
+		}
+	}
+
+	private void read(
+			Function<StatelessSession, SelectionQuery<T>> partition,
+			Supplier<StatelessSession> sessionSupplier) {
+		try {
+			if ( !closed ) {
+				try ( StatelessSession session = sessionSupplier.get() ) {
+					session.inTransaction( transaction -> {
+						try ( Stream<T> results = partition.apply( session ).stream() ) {
+							final Iterator<T> iterator = results.iterator();
+							while ( !closed && iterator.hasNext() ) {
+								put( iterator.next() );
+							}
+						}
+					} );
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			if ( !failure.compareAndSet( null, e ) ) {
+				failure.get().addSuppressed( e );
+			}
+		}
+		finally {
+			endPartition();
+		}
+	}
+
+	/**
+	 * Hand the given result over to the iterating thread, unless the
+	 * results are no longer needed.
+	 */
+	private void put(T result) {
+		try {
+			while ( !queue.offer( result, POLL_MILLIS, MILLISECONDS ) ) {
+				if ( closed ) {
+					return;
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			// reported to the iterating thread at the end of the partition
+			throw new HibernateException( "Interrupted while handing over the results of a partitioned query", e );
+		}
+	}
+
+	/**
+	 * Tell the iterating thread that the partition was read, even when
+	 * the thread reading the partition was interrupted, unless the results
+	 * are no longer needed.
+	 */
+	private void endPartition() {
+		boolean interrupted = Thread.interrupted();
+		try {
+			while ( !closed ) {
+				try {
+					if ( queue.offer( END_OF_PARTITION, POLL_MILLIS, MILLISECONDS ) ) {
+						return;
+					}
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( next != null ) {
+			return true;
+		}
+		while ( remainingPartitions > 0 && !closed ) {
+			final Object element = take();
+			if ( element == END_OF_PARTITION ) {
+				remainingPartitions--;
+				checkFailure();
+			}
+			else {
+				//noinspection unchecked
+				next = (T) element;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public T next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		final T result = next;
+		next = null;
+		return result;
+	}
+
+	private Object take() {
+		try {
+			return queue.take();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new HibernateException( "Interrupted while waiting for the results of a partitioned query", e );
+		}
+	}
+
+	private void checkFailure() {
+		final RuntimeException exception = failure.get();
+		if ( exception != null ) {
+			close();
+			throw exception;
+		}
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		// let any partition waiting for the queue to be drained
+		// notice that the results are no longer needed
+		queue.clear();
+	}
+}
@@ -64,6 +64,7 @@ public class QueryEngineImpl implements QueryEngine {
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final SqmFunctionRegistry sqmFunctionRegistry;
 	private final Dialect dialect;
+	private final int namedQueryCheckParallelism;
 
 	public QueryEngineImpl(
 			MetadataImplementor metadata,
@@ -86,6 +87,16 @@ public QueryEngineImpl(
 		// and that's only because we're using the NodeBuilder as the SqmCreationContext
 		this.nodeBuilder = createCriteriaBuilder( context, this, options, options.getUuid(), name );
 		this.hqlTranslator = resolveHqlTranslator( options, dialect, nodeBuilder );
+		this.namedQueryCheckParallelism = resolveNamedQueryCheckParallelism( properties );
+	}
+
+	private static int resolveNamedQueryCheckParallelism(Map<String, Object> properties) {
+		final int parallelism = ConfigurationHelper.getInt(
+				AvailableSettings.QUERY_STARTUP_CHECK_PARALLELISM,
+				properties,
+				1
+		);
+		return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
 	}
 
 	private static SqmCriteriaNodeBuilder createCriteriaBuilder(
@@ -186,7 +197,13 @@ private static QueryInterpretationCache buildInterpretationCache(
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			final long maxMemory = ConfigurationHelper.getLong(
+					AvailableSettings.QUERY_PLAN_CACHE_MAX_MEMORY,
+					properties,
+					0
+			);
+
+			return new QueryInterpretationCacheStandardImpl( size, maxMemory, serviceRegistry );
 		}
 		else {
 			// disabled
@@ -196,7 +213,7 @@ private static QueryInterpretationCache buildInterpretationCache(
 
 	@Override
 	public void validateNamedQueries() {
-		namedObjectRepository.validateNamedQueries( this );
+		namedObjectRepository.validateNamedQueries( this, namedQueryCheckParallelism );
 	}
 
 	@Override
@@ -4,7 +4,10 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -27,6 +30,8 @@
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_MAX_MEMORY;
+
 /**
  * Standard QueryInterpretationCache implementation
  *
@@ -39,6 +44,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	 * the cache of the actual plans...
 	 */
 	private final InternalCache<Key, QueryPlan> queryPlanCache;
+	private final boolean weighQueryPlans;
 
 	private final ServiceRegistry serviceRegistry;
 	private final InternalCache<Object, HqlInterpretation<?>> hqlInterpretationCache;
@@ -46,13 +52,100 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 
 	private StatisticsImplementor statistics;
 
+	// Rough figures: what matters is that large queries weigh proportionally more than small ones
+	private static final int PLAN_BASE_SIZE = 2_048;
+	private static final int PLAN_SIZE_PER_CHARACTER = 160;
+	private static final int INTERPRETATION_BASE_SIZE = 1_024;
+	private static final int INTERPRETATION_SIZE_PER_CHARACTER = 64;
+	private static final int INTERPRETATION_SIZE_PER_PARAMETER = 256;
+
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
-		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
+		this( maxQueryPlanCount, 0, serviceRegistry );
+	}
+
+	/**
+	 * @param maxQueryPlanCount The maximum number of entries in each cache
+	 * @param maxQueryPlanMemory The maximum estimated size, in bytes, of the entries
+	 * in each of the query plan and HQL interpretation caches, or {@code 0} to bound
+	 * them by {@code maxQueryPlanCount}
+	 */
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			long maxQueryPlanMemory,
+			ServiceRegistry serviceRegistry) {
+		log.debugf( "Starting QueryInterpretationCache(%s, %s)", maxQueryPlanCount, maxQueryPlanMemory );
+		this.serviceRegistry = serviceRegistry;
 		final InternalCacheFactory cacheFactory = serviceRegistry.requireService( InternalCacheFactory.class );
-		this.queryPlanCache = cacheFactory.createInternalCache( maxQueryPlanCount );
-		this.hqlInterpretationCache = cacheFactory.createInternalCache( maxQueryPlanCount );
+		final BiConsumer<Key, QueryPlan> queryPlanEvictionListener =
+				(key, plan) -> evicted( key.getQueryString() );
+		final BiConsumer<Object, HqlInterpretation<?>> hqlInterpretationEvictionListener =
+				(key, interpretation) -> evicted( queryString( key ) );
+		this.weighQueryPlans = maxQueryPlanMemory > 0 && cacheFactory.supportsWeightedInternalCaches();
+		if ( weighQueryPlans ) {
+			this.queryPlanCache = cacheFactory.createWeightedInternalCache(
+					maxQueryPlanMemory,
+					this::estimatePlanSize,
+					queryPlanEvictionListener
+			);
+			this.hqlInterpretationCache = cacheFactory.createWeightedInternalCache(
+					maxQueryPlanMemory,
+					this::estimateInterpretationSize,
+					hqlInterpretationEvictionListener
+			);
+		}
+		else {
+			if ( maxQueryPlanMemory > 0 ) {
+				log.warnf(
+						"InternalCacheFactory [%s] does not support weighted caches, ignoring setting '%s'",
+						cacheFactory.getClass().getName(),
+						QUERY_PLAN_CACHE_MAX_MEMORY
+				);
+			}
+			this.queryPlanCache = cacheFactory.createInternalCache( maxQueryPlanCount, queryPlanEvictionListener );
+			this.hqlInterpretationCache =
+					cacheFactory.createInternalCache( maxQueryPlanCount, hqlInterpretationEvictionListener );
+		}
 		this.nativeQueryParamCache = cacheFactory.createInternalCache( maxQueryPlanCount );
-		this.serviceRegistry = serviceRegistry;
+	}
+
+	/**
+	 * Estimate the memory retained by a cached {@link QueryPlan}, when the cache
+	 * is {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_MAX_MEMORY
+	 * bounded by memory}.
+	 * <p>
+	 * The estimate is {@linkplain QueryPlan#estimateRetainedSize() provided by the
+	 * plan}, and grows as the plan caches translations of the query. The cached plan
+	 * is weighed again each time it {@linkplain QueryPlan#onRetainedSizeChange caches
+	 * a new translation}. For a plan which provides no estimate, it grows with the
+	 * length of the query string.
+	 *
+	 * @return The estimated size in bytes
+	 */
+	protected int estimatePlanSize(Key key, QueryPlan plan) {
+		final int size = plan.estimateRetainedSize();
+		return size > 0 ? size : estimate( PLAN_BASE_SIZE, PLAN_SIZE_PER_CHARACTER, key.getQueryString() );
+	}
+
+	/**
+	 * Estimate the memory retained by a cached {@link HqlInterpretation}, when the
+	 * cache is {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_MAX_MEMORY
+	 * bounded by memory}.
+	 *
+	 * @return The estimated size in bytes
+	 * @see #estimatePlanSize(Key, QueryPlan)
+	 */
+	protected int estimateInterpretationSize(Object cacheKey, HqlInterpretation<?> interpretation) {
+		final String queryString = queryString( cacheKey );
+		final int parameterCount = interpretation.getSqmStatement().getSqmParameters().size();
+		return estimate(
+				INTERPRETATION_BASE_SIZE + parameterCount * INTERPRETATION_SIZE_PER_PARAMETER,
+				INTERPRETATION_SIZE_PER_CHARACTER,
+				queryString
+		);
+	}
+
+	private static int estimate(long baseSize, long sizePerCharacter, String queryString) {
+		return (int) Math.min( Integer.MAX_VALUE, baseSize + sizePerCharacter * queryString.length() );
 	}
 
 	@Override
@@ -72,6 +165,14 @@ private StatisticsImplementor getStatistics() {
 		return statistics;
 	}
 
+	private void evicted(String queryString) {
+		log.tracef( "QueryPlan#evicted( `%s` )", queryString );
+		final StatisticsImplementor statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction( queryString );
+		}
+	}
+
 	@Override
 	public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
 			Key key,
@@ -80,23 +181,35 @@ public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
 		final StatisticsImplementor statistics = getStatistics();
 		final boolean stats = statistics.isStatisticsEnabled();
 
-		@SuppressWarnings("unchecked")
-		final SelectQueryPlan<R> cached = (SelectQueryPlan<R>) queryPlanCache.get( key );
+		final QueryPlan cached = queryPlanCache.get( key );
 		if ( cached != null ) {
 			if ( stats ) {
 				statistics.queryPlanCacheHit( key.getQueryString() );
 			}
-			return cached;
+			//noinspection unchecked
+			return (SelectQueryPlan<R>) cached;
 		}
 
 		final SelectQueryPlan<R> plan = creator.get();
-		queryPlanCache.put( key.prepareForStore(), plan );
+		final Key storedKey = key.prepareForStore();
+		if ( weighQueryPlans ) {
+			// the plan grows as it caches translations of the query
+			plan.onRetainedSizeChange( () -> reweigh( storedKey, plan ) );
+		}
+		queryPlanCache.put( storedKey, plan );
 		if ( stats ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
 		}
 		return plan;
 	}
 
+	private void reweigh(Key key, QueryPlan plan) {
+		// storing the plan again weighs it again, unless it was evicted meanwhile
+		if ( queryPlanCache.get( key ) == plan ) {
+			queryPlanCache.put( key, plan );
+		}
+	}
+
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
@@ -150,6 +263,13 @@ public <R> void cacheHqlInterpretation(Object cacheKey, HqlInterpretation<R> hql
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
 	}
 
+	@Override
+	public Set<String> getCachedHqlQueryStrings() {
+		final Set<String> queryStrings = new HashSet<>();
+		hqlInterpretationCache.forEachKey( key -> queryStrings.add( queryString( key ) ) );
+		return queryStrings;
+	}
+
 	protected static <R> HqlInterpretation<R> createHqlInterpretation(
 			String queryString,
 			Class<R> expectedResultType,
@@ -208,6 +328,12 @@ public void close() {
 		queryPlanCache.clear();
 	}
 
+	private static String queryString(Object hqlInterpretationCacheKey) {
+		return hqlInterpretationCacheKey instanceof HqlInterpretationCacheKey hqlKey
+				? hqlKey.queryString()
+				: hqlInterpretationCacheKey.toString();
+	}
+
 	/**
 	 * Interpretation-cache key used for HQL interpretations
 	 */
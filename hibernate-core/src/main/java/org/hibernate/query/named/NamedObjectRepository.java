@@ -84,6 +84,32 @@ public interface NamedObjectRepository {
 	 */
 	void validateNamedQueries(QueryEngine queryEngine);
 
+	/**
+	 * Perform a validity check on all named queries, interpreting the
+	 * named HQL queries on up to the given number of threads.
+	 *
+	 * @param parallelism the maximum number of threads to use
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine, int parallelism) {
+		return checkNamedQueries( queryEngine );
+	}
+
+	/**
+	 * Validate the named queries on up to the given number of threads,
+	 * and throw an exception if any are broken
+	 *
+	 * @param parallelism the maximum number of threads to use
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void validateNamedQueries(QueryEngine queryEngine, int parallelism) {
+		validateNamedQueries( queryEngine );
+	}
+
 	/**
 	 * Resolve the named query with the given name.
 	 */
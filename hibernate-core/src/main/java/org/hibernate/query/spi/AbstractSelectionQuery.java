@@ -9,9 +9,11 @@
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -30,6 +32,7 @@
 import org.hibernate.NonUniqueResultException;
 import org.hibernate.ScrollMode;
 import org.hibernate.UnknownProfileException;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.AppliedGraph;
@@ -39,6 +42,7 @@
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.internal.ChunkEvictingScrollableResultsIterator;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.sql.exec.internal.CallbackImpl;
@@ -66,6 +70,7 @@
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+import static org.hibernate.query.internal.ChunkEvictingScrollableResultsIterator.managedEntityKeys;
 
 /**
  * Base implementation of {@link SelectionQuery}.
@@ -271,6 +276,33 @@ public Stream<R> stream() {
 		return StreamSupport.stream( spliterator, false ).onClose( results::close );
 	}
 
+	@Override
+	public Stream<R> stream(int chunkSize) {
+		if ( chunkSize <= 0 ) {
+			throw new IllegalArgumentException( "Chunk size must be positive" );
+		}
+		final SharedSessionContractImplementor session = getSession();
+		final Set<EntityKey> retainedEntityKeys =
+				session.isStatelessSession()
+						? null
+						: managedEntityKeys( session.getPersistenceContextInternal() );
+		final ScrollableResults<R> results = scroll( ScrollMode.FORWARD_ONLY );
+		if ( getQueryOptions().getFetchSize() == null ) {
+			results.setFetchSize( chunkSize );
+		}
+		// a stateless session does not keep the entities it loads
+		final Iterator<R> iterator = retainedEntityKeys == null
+				? new ScrollableResultsIterator<>( results )
+				: new ChunkEvictingScrollableResultsIterator<>(
+						results,
+						session.asSessionImplementor(),
+						retainedEntityKeys,
+						chunkSize
+				);
+		final Spliterator<R> spliterator = spliteratorUnknownSize( iterator, Spliterator.NONNULL );
+		return StreamSupport.stream( spliterator, false ).onClose( results::close );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
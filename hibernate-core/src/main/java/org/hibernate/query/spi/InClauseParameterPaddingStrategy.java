@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * Determines the number of bind parameters rendered for a list of values
+ * in a SQL {@code IN} predicate, when {@linkplain
+ * org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING padding}
+ * is enabled. Every list with the same padded size results in the same SQL
+ * string, and so the fewer distinct padded sizes, the better the chance of
+ * hitting the statement and execution plan caches of the JDBC driver and
+ * the database.
+ * <p>
+ * The left-over parameters are bound to the last value of the list.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING_STRATEGY
+ * @see org.hibernate.query.internal.InClauseParameterPaddingStrategies
+ *
+ * @since 7.1
+ */
+@Incubating
+@FunctionalInterface
+public interface InClauseParameterPaddingStrategy {
+	/**
+	 * Pad to the next power of two: 4, 8, 16, 32, 64, ...
+	 * This is the default strategy.
+	 */
+	InClauseParameterPaddingStrategy POWER_OF_TWO = MathHelper::ceilingPowerOfTwo;
+
+	/**
+	 * The number of bind parameters to render for a list of the given size.
+	 *
+	 * @param bindValueCount the number of values in the list, always positive
+	 *
+	 * @return a number greater than or equal to {@code bindValueCount}
+	 */
+	int determinePaddedSize(int bindValueCount);
+}
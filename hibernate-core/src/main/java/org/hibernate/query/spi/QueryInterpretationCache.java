@@ -4,6 +4,7 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -44,6 +45,15 @@ static Key createInterpretationsKey(InterpretationsKeySource keySource) {
 	<R> HqlInterpretation<R> resolveHqlInterpretation(String queryString, Class<R> expectedResultType, HqlTranslator translator);
 	<R> void cacheHqlInterpretation(Object cacheKey, HqlInterpretation<R> hqlInterpretation);
 
+	/**
+	 * The query strings of the HQL interpretations currently held by the cache.
+	 *
+	 * @since 7.1
+	 */
+	default Set<String> getCachedHqlQueryStrings() {
+		return Set.of();
+	}
+
 	<R> SelectQueryPlan<R> resolveSelectQueryPlan(Key key, Supplier<SelectQueryPlan<R>> creator);
 
 	NonSelectQueryPlan getNonSelectQueryPlan(Key key);
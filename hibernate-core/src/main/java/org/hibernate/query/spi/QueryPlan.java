@@ -13,4 +13,27 @@
  */
 @Incubating
 public interface QueryPlan {
+	/**
+	 * An estimate of the memory retained by this plan, in bytes, or {@code 0}
+	 * if the plan does not provide an estimate. The estimate may grow as the
+	 * plan caches translations of the query.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_MAX_MEMORY
+	 *
+	 * @since 7.1
+	 */
+	default int estimateRetainedSize() {
+		return 0;
+	}
+
+	/**
+	 * Register an action to run whenever the {@linkplain #estimateRetainedSize()
+	 * estimated size} of this plan may have changed, that is, when it caches a
+	 * new translation of the query. A plan which provides no estimate may ignore
+	 * the action.
+	 *
+	 * @since 7.1
+	 */
+	default void onRetainedSizeChange(Runnable action) {
+	}
 }
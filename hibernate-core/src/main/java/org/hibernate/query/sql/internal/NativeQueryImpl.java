@@ -47,7 +47,6 @@
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
-import org.hibernate.internal.util.MathHelper;
 import org.hibernate.jpa.spi.NativeQueryTupleTransformer;
 import org.hibernate.metamodel.model.domain.BasicDomainType;
 import org.hibernate.query.KeyedPage;
@@ -77,6 +76,7 @@
 import org.hibernate.query.results.internal.implicit.ImplicitResultClassBuilder;
 import org.hibernate.query.spi.AbstractQuery;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.InClauseParameterPaddingStrategy;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
@@ -878,6 +878,8 @@ protected String expandParameterLists() {
 		final SessionFactoryImplementor factory = getSessionFactory();
 		final Dialect dialect = factory.getJdbcServices().getDialect();
 		final boolean paddingEnabled = factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled();
+		final InClauseParameterPaddingStrategy paddingStrategy =
+				factory.getSessionFactoryOptions().getInClauseParameterPaddingStrategy();
 		final int inExprLimit = dialect.getInExpressionCountLimit();
 
 		StringBuilder sql = null;
@@ -903,7 +905,7 @@ protected String expandParameterLists() {
 							sql.append( sqlString );
 						}
 						final int bindValueMaxCount =
-								determineBindValueMaxCount( paddingEnabled, inExprLimit, bindValueCount );
+								determineBindValueMaxCount( paddingEnabled, paddingStrategy, inExprLimit, bindValueCount );
 						final String expansionListAsString =
 								expandList( bindValueMaxCount, isEnclosedInParens );
 						final int start = sourcePosition + offset;
@@ -986,12 +988,25 @@ private boolean isEnclosedInParens(int sourcePosition) {
 	}
 
 	public static int determineBindValueMaxCount(boolean paddingEnabled, int inExprLimit, int bindValueCount) {
+		return determineBindValueMaxCount(
+				paddingEnabled,
+				InClauseParameterPaddingStrategy.POWER_OF_TWO,
+				inExprLimit,
+				bindValueCount
+		);
+	}
+
+	public static int determineBindValueMaxCount(
+			boolean paddingEnabled,
+			InClauseParameterPaddingStrategy paddingStrategy,
+			int inExprLimit,
+			int bindValueCount) {
 		int bindValueMaxCount = bindValueCount;
 
 		final boolean inClauseParameterPaddingEnabled = paddingEnabled && bindValueCount > 2;
 
 		if ( inClauseParameterPaddingEnabled ) {
-			int bindValuePaddingCount = MathHelper.ceilingPowerOfTwo( bindValueCount );
+			int bindValuePaddingCount = paddingStrategy.determinePaddedSize( bindValueCount );
 
 			if ( inExprLimit > 0 && bindValuePaddingCount > inExprLimit ) {
 				bindValuePaddingCount = inExprLimit;
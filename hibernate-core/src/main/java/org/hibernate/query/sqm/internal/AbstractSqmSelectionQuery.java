@@ -5,9 +5,16 @@
 package org.hibernate.query.sqm.internal;
 
 import jakarta.persistence.TemporalType;
+import org.hibernate.CacheMode;
+import org.hibernate.Filter;
 import org.hibernate.HibernateException;
+import org.hibernate.LockOptions;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.internal.FilterImpl;
 import org.hibernate.type.BindableType;
 import org.hibernate.query.IllegalSelectQueryException;
 import org.hibernate.query.KeyedPage;
@@ -16,6 +23,7 @@
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.hql.internal.QuerySplitter;
+import org.hibernate.query.internal.PartitionedResultsIterator;
 import org.hibernate.query.spi.AbstractSelectionQuery;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.MutableQueryOptions;
@@ -25,23 +33,44 @@
 import org.hibernate.query.spi.QueryParameterBinding;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
 import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.type.BasicTypeRegistry;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.persistence.TupleElement;
 import jakarta.persistence.criteria.CompoundSelection;
 
 import static org.hibernate.cfg.QuerySettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
+import static java.util.Spliterators.spliteratorUnknownSize;
 import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE;
+import static org.hibernate.query.internal.ChunkEvictingScrollableResultsIterator.evictEntities;
+import static org.hibernate.query.internal.ChunkEvictingScrollableResultsIterator.managedEntityKeys;
+import static org.hibernate.query.sqm.internal.KeyBasedPagination.hasPartitionKey;
+import static org.hibernate.query.sqm.internal.KeyBasedPagination.partition;
+import static org.hibernate.query.sqm.internal.KeyBasedPagination.partitionBounds;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectKeys;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectResults;
 import static org.hibernate.query.sqm.internal.SqmUtil.isHqlTuple;
@@ -194,6 +223,37 @@ public KeyedResultList<R> getKeyedResultList(KeyedPage<R> keyedPage) {
 		);
 	}
 
+	@Override
+	public Stream<R> getKeyedResultStream(KeyedPage<R> keyedPage) {
+		if ( keyedPage == null ) {
+			throw new IllegalArgumentException( "KeyedPage was null" );
+		}
+		if ( keyedPage.getKeyInterpretation() == KEY_OF_FIRST_ON_NEXT_PAGE ) {
+			throw new IllegalArgumentException( "KeyedPage must not specify a previous page" );
+		}
+		final SharedSessionContractImplementor session = getSession();
+		// a stateless session does not keep the entities it loads
+		final Set<EntityKey> retainedEntityKeys =
+				session.isStatelessSession()
+						? null
+						: managedEntityKeys( session.getPersistenceContextInternal() );
+		return Stream.iterate(
+				getKeyedResultList( keyedPage ),
+				Objects::nonNull,
+				results -> {
+					if ( results.isLastPage() ) {
+						return null;
+					}
+					else {
+						if ( retainedEntityKeys != null ) {
+							evictEntities( session.asSessionImplementor(), retainedEntityKeys );
+						}
+						return getKeyedResultList( results.getNextPage() );
+					}
+				}
+		).flatMap( results -> results.getResultList().stream() );
+	}
+
 	private static <R> KeyedPage<R> nextPage(KeyedPage<R> keyedPage, List<KeyedResult<R>> results) {
 		if ( keyedPage.getKeyInterpretation() == KEY_OF_FIRST_ON_NEXT_PAGE ) {
 			// the results come in reverse order
@@ -224,6 +284,152 @@ private static <R> KeyedPage<R> previousPage(KeyedPage<R> keyedPage, List<KeyedR
 		}
 	}
 
+	@Override
+	public Stream<R> parallelStream(int partitions, Executor executor) {
+		if ( partitions <= 0 ) {
+			throw new IllegalArgumentException( "Number of partitions must be positive" );
+		}
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "Executor was null" );
+		}
+		final SqmSelectStatement<R> statement = getSqmSelectStatement();
+		if ( partitions == 1 || !isPartitionable( statement ) ) {
+			return stream();
+		}
+		final NodeBuilder builder = statement.nodeBuilder();
+		final Object[] bounds =
+				partitionQuery( partitionBounds( statement, builder ), getSession() )
+						.getSingleResult();
+		if ( bounds[0] == null ) {
+			// the query has no results
+			return Stream.empty();
+		}
+		final long lowerBound = ( (Number) bounds[0] ).longValue();
+		final long upperBound = ( (Number) bounds[1] ).longValue();
+		final BigInteger range =
+				BigInteger.valueOf( upperBound ).subtract( BigInteger.valueOf( lowerBound ) ).add( BigInteger.ONE );
+		final int count = range.min( BigInteger.valueOf( partitions ) ).intValue();
+		// the partitions are read as if by this session
+		final boolean readOnly = isReadOnly();
+		final CacheMode cacheMode = getCacheMode() == null ? getSession().getCacheMode() : getCacheMode();
+		final LockOptions lockOptions = getLockOptions().makeCopy();
+		final List<Function<StatelessSession, SelectionQuery<R>>> partitionQueries = new ArrayList<>( count );
+		long lowerKey = lowerBound;
+		for ( int i = 1; i <= count; i++ ) {
+			final boolean last = i == count;
+			final long upperKey = last
+					? upperBound
+					: BigInteger.valueOf( lowerBound )
+							.add( range.multiply( BigInteger.valueOf( i ) ).divide( BigInteger.valueOf( count ) ) )
+							.longValue();
+			final SqmSelectStatement<R> partition = partition( statement, lowerKey, upperKey, last, builder );
+			partitionQueries.add( session -> {
+				final SqmSelectionQueryImpl<R> query =
+						partitionQuery( partition, (SharedSessionContractImplementor) session );
+				applyFetchOptions( query );
+				query.setReadOnly( readOnly );
+				query.setCacheMode( cacheMode );
+				LockOptions.copy( lockOptions, query.getLockOptions() );
+				return query;
+			} );
+			lowerKey = upperKey;
+		}
+		final SessionFactoryImplementor factory = getSessionFactory();
+		final Object tenantIdentifier = getSession().getTenantIdentifierValue();
+		final Map<String, Map<String, ?>> filterArguments = enabledFilterArguments( getSession() );
+		final Supplier<StatelessSession> sessionSupplier = () -> {
+			final StatelessSession session =
+					factory.withStatelessOptions().tenantIdentifier( tenantIdentifier ).openStatelessSession();
+			try {
+				enableFilters( session, filterArguments );
+			}
+			catch (RuntimeException e) {
+				session.close();
+				throw e;
+			}
+			return session;
+		};
+		final PartitionedResultsIterator<R> iterator =
+				new PartitionedResultsIterator<>( partitionQueries, sessionSupplier, executor );
+		final Spliterator<R> spliterator = spliteratorUnknownSize( iterator, Spliterator.NONNULL );
+		return StreamSupport.stream( spliterator, false ).onClose( iterator::close );
+	}
+
+	/**
+	 * The arguments of the filters enabled in the given session, by filter name,
+	 * as of now, since the filters may be changed while the partitions are read.
+	 */
+	private static Map<String, Map<String, ?>> enabledFilterArguments(SharedSessionContractImplementor session) {
+		final Map<String, Filter> enabledFilters = session.getLoadQueryInfluencers().getEnabledFilters();
+		final Map<String, Map<String, ?>> filterArguments = new HashMap<>( enabledFilters.size() );
+		for ( Filter filter : enabledFilters.values() ) {
+			filterArguments.put( filter.getName(), new HashMap<>( ( (FilterImpl) filter ).getParameters() ) );
+		}
+		return filterArguments;
+	}
+
+	/**
+	 * Enable exactly the given filters in the session reading a partition,
+	 * which might have other filters enabled by default.
+	 */
+	private static void enableFilters(StatelessSession session, Map<String, Map<String, ?>> filterArguments) {
+		final Set<String> enabledFilterNames =
+				( (SharedSessionContractImplementor) session ).getLoadQueryInfluencers().getEnabledFilterNames();
+		for ( String filterName : List.copyOf( enabledFilterNames ) ) {
+			if ( !filterArguments.containsKey( filterName ) ) {
+				session.disableFilter( filterName );
+			}
+		}
+		filterArguments.forEach( (filterName, arguments) -> {
+			final Filter filter = session.enableFilter( filterName );
+			arguments.forEach( (parameterName, argument) -> {
+				if ( argument instanceof Collection<?> values ) {
+					filter.setParameterList( parameterName, values );
+				}
+				else {
+					filter.setParameter( parameterName, argument );
+				}
+			} );
+		} );
+	}
+
+	private boolean isPartitionable(SqmSelectStatement<R> statement) {
+		// the results of an ordered or limited query may
+		// not be read concurrently by multiple sessions,
+		// and only entities are partitioned by identifier
+		return getQueryOptions().getLimit().isEmpty()
+			&& statement.getQueryPart() instanceof SqmQuerySpec<R> querySpec
+			&& querySpec.getFetch() == null
+			&& querySpec.getOffset() == null
+			&& querySpec.getSortSpecifications().isEmpty()
+			&& querySpec.getGroupingExpressions().isEmpty()
+			&& hasPartitionKey( statement );
+	}
+
+	private <T> SqmSelectionQueryImpl<T> partitionQuery(
+			SqmSelectStatement<T> statement,
+			SharedSessionContractImplementor session) {
+		final SqmSelectionQueryImpl<T> query =
+				new SqmSelectionQueryImpl<>( statement, statement.getResultType(), session );
+		query.copyParameterBindings( getQueryParameterBindings() );
+		final QueryOptions options = getQueryOptions();
+		if ( options.getTimeout() != null ) {
+			query.setTimeout( options.getTimeout() );
+		}
+		return query;
+	}
+
+	private void applyFetchOptions(SqmSelectionQueryImpl<R> query) {
+		final QueryOptions options = getQueryOptions();
+		if ( options.getFetchSize() != null ) {
+			query.setFetchSize( options.getFetchSize() );
+		}
+		final AppliedGraph appliedGraph = options.getAppliedGraph();
+		if ( appliedGraph != null && appliedGraph.getGraph() != null && appliedGraph.getSemantic() != null ) {
+			query.applyGraph( appliedGraph.getGraph(), appliedGraph.getSemantic() );
+		}
+	}
+
 	public abstract Class<R> getExpectedResultType();
 
 	protected SelectQueryPlan<R> buildSelectQueryPlan() {
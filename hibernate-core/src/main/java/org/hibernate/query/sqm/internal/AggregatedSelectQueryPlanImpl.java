@@ -26,6 +26,15 @@ public AggregatedSelectQueryPlanImpl(SelectQueryPlan<R>[] aggregatedQueryPlans)
 		this.aggregatedQueryPlans = aggregatedQueryPlans;
 	}
 
+	@Override
+	public int estimateRetainedSize() {
+		long size = 0;
+		for ( SelectQueryPlan<R> aggregatedQueryPlan : aggregatedQueryPlans ) {
+			size += aggregatedQueryPlan.estimateRetainedSize();
+		}
+		return (int) Math.min( Integer.MAX_VALUE, size );
+	}
+
 	@Override
 	public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
 		throw new UnsupportedOperationException();
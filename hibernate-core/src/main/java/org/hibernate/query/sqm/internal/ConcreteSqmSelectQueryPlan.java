@@ -7,6 +7,9 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 
@@ -22,6 +25,7 @@
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
@@ -56,6 +60,7 @@
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static java.util.Collections.emptyList;
 import static org.hibernate.internal.util.ReflectHelper.isClass;
@@ -79,7 +84,20 @@
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final String hql;
+
+	private final AtomicReferenceArray<CacheableSqmInterpretation> cacheableSqmInterpretations =
+			new AtomicReferenceArray<>( 4 );
+	private final Lock translationLock = new ReentrantLock();
+	private volatile Runnable retainedSizeChangeAction;
+
+	// Rough figures: what matters is that large plans weigh proportionally more than small ones
+	private static final int BASE_SIZE = 2_048;
+	private static final int SIZE_PER_PARAMETER = 256;
+	private static final int SIZE_PER_SELECTION = 512;
+	private static final int TRANSLATION_BASE_SIZE = 4_096;
+	private static final int TRANSLATION_SIZE_PER_CHARACTER = 48;
+	private static final int TRANSLATION_SIZE_PER_JDBC_PARAMETER = 128;
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -89,6 +107,7 @@ public ConcreteSqmSelectQueryPlan(
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		final ListResultsConsumer.UniqueSemantic uniqueSemantic =
@@ -228,6 +247,34 @@ else if ( expression instanceof SqmParameterInterpretation parameterInterpretati
 		}
 	}
 
+	/**
+	 * Estimates the memory retained by the SQM tree from the number of its
+	 * parameters and selections, and the memory retained by each cached
+	 * translation from the length of its SQL, which grows with the size of
+	 * its SQL AST, and from the number of its JDBC parameters.
+	 */
+	@Override
+	public int estimateRetainedSize() {
+		long size = BASE_SIZE
+				+ (long) SIZE_PER_PARAMETER * domainParameterXref.getSqmParameterCount()
+				+ (long) SIZE_PER_SELECTION * selections( sqm ).size();
+		for ( int i = 0; i < cacheableSqmInterpretations.length(); i++ ) {
+			final CacheableSqmInterpretation interpretation = cacheableSqmInterpretations.get( i );
+			if ( interpretation != null ) {
+				final JdbcOperationQuerySelect jdbcSelect = interpretation.getJdbcSelect();
+				size += TRANSLATION_BASE_SIZE
+						+ (long) TRANSLATION_SIZE_PER_CHARACTER * jdbcSelect.getSqlString().length()
+						+ (long) TRANSLATION_SIZE_PER_JDBC_PARAMETER * jdbcSelect.getParameterBinders().size();
+			}
+		}
+		return (int) Math.min( Integer.MAX_VALUE, size );
+	}
+
+	@Override
+	public void onRetainedSizeChange(Runnable action) {
+		retainedSizeChangeAction = action;
+	}
+
 	private static List<SqmSelection<?>> selections(SqmSelectStatement<?> sqm) {
 		return sqm.getQueryPart().getFirstQuerySpec().getSelectClause().getSelections();
 	}
@@ -397,42 +444,36 @@ public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, Doma
 
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		//		We use a lock instead of the monitor lock to avoid pinning when using
+		//		virtual threads, since the translation may take a while
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
+		// We keep one translation per shape of the limit, so that a query which is executed
+		// both with and without pagination does not keep replacing its own translation
+		final int shape = translationShape( executionContext.getQueryOptions() );
+		CacheableSqmInterpretation localCopy = cacheableSqmInterpretations.get( shape );
 		JdbcParameterBindings jdbcParameterBindings = null;
+		boolean translated = false;
 
 		executionContext.getSession().autoPreFlush();
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
+			translationLock.lock();
+			try {
+				localCopy = cacheableSqmInterpretations.get( shape );
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
 					jdbcParameterBindings = localCopy.firstParameterBindings;
 					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
-				}
-				else {
-					// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-					// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-					if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-						jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-					}
-					// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-					// We could avoid this by putting the lock options into the cache key
-					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-						localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
-						jdbcParameterBindings = localCopy.firstParameterBindings;
-						localCopy.firstParameterBindings = null;
-						cacheableSqmInterpretation = localCopy;
-					}
+					cacheableSqmInterpretations.set( shape, localCopy );
+					translated = true;
 				}
 			}
+			finally {
+				translationLock.unlock();
+			}
 		}
-		else {
+
+		if ( !translated ) {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
 			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
@@ -444,7 +485,17 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 				localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+				cacheableSqmInterpretations.set( shape, localCopy );
+				translated = true;
+			}
+		}
+
+		reportTranslation( executionContext, localCopy, translated );
+
+		if ( translated ) {
+			final Runnable action = retainedSizeChangeAction;
+			if ( action != null ) {
+				action.run();
 			}
 		}
 
@@ -455,6 +506,39 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	/**
+	 * The index of the cached translation to use for the given options,
+	 * depending on whether a first row and a maximum number of rows are
+	 * requested. The translation is still checked for
+	 * {@linkplain JdbcOperationQuerySelect#isCompatibleWith compatibility}
+	 * before it is used.
+	 */
+	private static int translationShape(QueryOptions queryOptions) {
+		final Limit limit = queryOptions.getLimit();
+		if ( limit == null ) {
+			return 0;
+		}
+		else {
+			return ( limit.getFirstRow() == null ? 0 : 1 )
+				| ( limit.getMaxRows() == null ? 0 : 2 );
+		}
+	}
+
+	private void reportTranslation(
+			DomainQueryExecutionContext executionContext,
+			CacheableSqmInterpretation sqmInterpretation,
+			boolean translated) {
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() && !CRITERIA_HQL_STRING.equals( hql ) ) {
+			if ( translated ) {
+				statistics.queryTranslationCacheMiss( hql, sqmInterpretation.jdbcSelect.getSqlString() );
+			}
+			else {
+				statistics.queryTranslationCacheHit( hql );
+			}
+		}
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
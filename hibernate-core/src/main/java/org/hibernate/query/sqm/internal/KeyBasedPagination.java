@@ -11,9 +11,12 @@
 import org.hibernate.query.SortDirection;
 import org.hibernate.query.criteria.JpaCompoundSelection;
 import org.hibernate.query.criteria.JpaSelection;
+import org.hibernate.metamodel.model.domain.SingularPersistentAttribute;
 import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.SqmQuerySource;
 import org.hibernate.query.sqm.tree.domain.SqmPath;
 import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
 import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
 import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
@@ -23,10 +26,13 @@
 
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
+import static org.hibernate.query.sqm.tree.SqmCopyContext.noParamCopyContext;
 import static org.hibernate.query.sqm.internal.SqmUtil.sortSpecification;
 
 /**
- * Manipulation of SQM query tree for key-based pagination.
+ * Manipulation of SQM query tree for key-based pagination, and for
+ * partitioning a query by ranges of the identifier of the returned
+ * entity.
  *
  * @author Gavin King
  */
@@ -132,4 +138,113 @@ private static <C extends Comparable<? super C>> SqmPredicate keyPredicate(
 		return predicate;
 	}
 
+	/**
+	 * Whether the given query returns a single entity with an identifier
+	 * of integral type, by which the query may be partitioned.
+	 */
+	static boolean hasPartitionKey(SqmSelectStatement<?> statement) {
+		final List<? extends JpaSelection<?>> items =
+				statement.getQuerySpec().getSelectClause().getSelectionItems();
+		if ( items.size() == 1 && items.get(0) instanceof SqmRoot<?> root ) {
+			final SingularPersistentAttribute<?, ?> idAttribute = root.getModel().findIdAttribute();
+			return idAttribute != null && isIntegral( idAttribute.getJavaType() );
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * The identifier attribute of the entity returned by the given query,
+	 * by which the query may be partitioned.
+	 */
+	static SingularPersistentAttribute<?, ?> partitionKey(SqmSelectStatement<?> statement) {
+		final SqmRoot<?> root = selectedRoot( statement );
+		final SingularPersistentAttribute<?, ?> idAttribute = root.getModel().findIdAttribute();
+		if ( idAttribute == null || !isIntegral( idAttribute.getJavaType() ) ) {
+			throw new IllegalQueryOperationException("Entity identifier was not of integral type");
+		}
+		return idAttribute;
+	}
+
+	/**
+	 * A query for the least and greatest identifiers of the entities
+	 * returned by the given query.
+	 */
+	static SqmSelectStatement<Object[]> partitionBounds(SqmSelectStatement<?> statement, NodeBuilder builder) {
+		// Change the query source to CRITERIA, because we will change the query and introduce parameters
+		final SqmSelectStatement<Object[]> bounds =
+				statement.createCopy( noParamCopyContext( SqmQuerySource.CRITERIA ), Object[].class );
+		final SqmRoot<?> root = selectedRoot( bounds );
+		final SqmPath<Number> id = root.get( partitionKey( bounds ).getName() );
+		// the fetched associations are not selected
+		for ( SqmRoot<?> queryRoot : bounds.getQuerySpec().getRootList() ) {
+			queryRoot.removeLeftFetchJoins();
+		}
+		bounds.getQuerySpec().setOrderByClause( null );
+		bounds.select( builder.array( builder.min( id ), builder.max( id ) ) );
+		return bounds;
+	}
+
+	/**
+	 * A copy of the given query restricted to the entities with identifiers
+	 * in the given range.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	static <R> SqmSelectStatement<R> partition(
+			SqmSelectStatement<R> statement,
+			long lowerKey, long upperKey, boolean lastPartition,
+			NodeBuilder builder) {
+		// Change the query source to CRITERIA, because we will change the query and introduce parameters
+		final SqmSelectStatement<R> partition = statement.copy( noParamCopyContext( SqmQuerySource.CRITERIA ) );
+		final SingularPersistentAttribute<?, ?> idAttribute = partitionKey( partition );
+		final Class<?> keyType = idAttribute.getJavaType();
+		final SqmPath id = selectedRoot( partition ).get( idAttribute.getName() );
+		final SqmPredicate restriction = builder.and(
+				builder.greaterThanOrEqualTo( id, (Comparable) keyValue( lowerKey, keyType ) ),
+				lastPartition
+						? builder.lessThanOrEqualTo( id, (Comparable) keyValue( upperKey, keyType ) )
+						: builder.lessThan( id, (Comparable) keyValue( upperKey, keyType ) )
+		);
+		final SqmPredicate queryWhere = partition.getQuerySpec().getRestriction();
+		partition.where( queryWhere == null ? restriction : builder.and( queryWhere, restriction ) );
+		return partition;
+	}
+
+	private static SqmRoot<?> selectedRoot(SqmSelectStatement<?> statement) {
+		final List<? extends JpaSelection<?>> items =
+				statement.getQuerySpec().getSelectClause().getSelectionItems();
+		if ( items.size() == 1 ) {
+			if ( items.get(0) instanceof SqmRoot<?> root ) {
+				return root;
+			}
+			else {
+				throw new IllegalQueryOperationException("Select item was not an entity type");
+			}
+		}
+		else {
+			throw new IllegalQueryOperationException("Query has multiple items in the select list");
+		}
+	}
+
+	private static boolean isIntegral(Class<?> type) {
+		return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class
+			|| type == long.class || type == int.class || type == short.class || type == byte.class;
+	}
+
+	private static Comparable<?> keyValue(long value, Class<?> type) {
+		if ( type == Integer.class || type == int.class ) {
+			return (int) value;
+		}
+		else if ( type == Short.class || type == short.class ) {
+			return (short) value;
+		}
+		else if ( type == Byte.class || type == byte.class ) {
+			return (byte) value;
+		}
+		else {
+			return value;
+		}
+	}
+
 }
@@ -265,9 +265,8 @@ <E> SqmSelectionQueryImpl(AbstractSqmSelectionQuery<?> original, KeyedPage<E> ke
 		tupleMetadata = null;
 
 		setMaxResults( page.getMaxResults() + 1 );
-		if ( key == null ) {
-			setFirstResult( page.getFirstResult() );
-		}
+		// a page located by its key has no offset
+		setFirstResult( key == null ? page.getFirstResult() : 0 );
 	}
 
 	private <T> void setBindValues(QueryParameter<?> parameter, QueryParameterBinding<T> binding) {
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -118,6 +119,11 @@ public KeyedResultList<R> getKeyedResultList(KeyedPage<R> page) {
 		return getDelegate().getKeyedResultList( page );
 	}
 
+	@Override
+	public Stream<R> getKeyedResultStream(KeyedPage<R> page) {
+		return getDelegate().getKeyedResultStream( page );
+	}
+
 	@Override
 	public ScrollableResults<R> scroll() {
 		return getDelegate().scroll();
@@ -138,6 +144,16 @@ public Stream<R> stream() {
 		return getDelegate().stream();
 	}
 
+	@Override
+	public Stream<R> stream(int chunkSize) {
+		return getDelegate().stream( chunkSize );
+	}
+
+	@Override
+	public Stream<R> parallelStream(int partitions, Executor executor) {
+		return getDelegate().parallelStream( partitions, executor );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return getDelegate().uniqueResult();
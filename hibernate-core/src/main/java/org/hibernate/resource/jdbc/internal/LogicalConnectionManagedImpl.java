@@ -289,6 +289,11 @@ public void begin() {
 		super.begin();
 	}
 
+	@Override
+	public void enableAutoCommitOnCompletion() {
+		initiallyAutoCommit = true;
+	}
+
 	@Override
 	protected void afterCompletion() {
 		resetConnection( initiallyAutoCommit );
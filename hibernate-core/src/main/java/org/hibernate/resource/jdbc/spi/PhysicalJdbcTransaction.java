@@ -4,6 +4,7 @@
  */
 package org.hibernate.resource.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
 
 /**
@@ -12,4 +13,14 @@
  * @author Steve Ebersole
  */
 public interface PhysicalJdbcTransaction extends JdbcResourceTransaction {
+	/**
+	 * Re-enable auto-commit on the JDBC connection when the current transaction
+	 * completes, even though auto-commit was already disabled when it began,
+	 * because it was only disabled temporarily.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void enableAutoCommitOnCompletion() {
+	}
 }
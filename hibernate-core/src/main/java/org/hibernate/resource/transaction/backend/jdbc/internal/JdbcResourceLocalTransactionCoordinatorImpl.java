@@ -280,6 +280,7 @@ private void commitRollbackOnly() {
 		public void rollback() {
 			try {
 				if ( rollbackOnly || jdbcResourceTransaction.getStatus() == TransactionStatus.ACTIVE ) {
+					transactionCoordinatorOwner.beforeTransactionRollback();
 					jdbcResourceTransaction.rollback();
 					afterCompletionCallback( false );
 				}
@@ -46,6 +46,15 @@ default void startTransactionBoundary() {
 	 */
 	void beforeTransactionCompletion();
 
+	/**
+	 * A callback from a resource-local coordinator to its owner, just
+	 * before the transaction is rolled back.
+	 *
+	 * @since 7.1
+	 */
+	default void beforeTransactionRollback() {
+	}
+
 	/**
 	 * An after-completion callback from the coordinator to its owner.
 	 *
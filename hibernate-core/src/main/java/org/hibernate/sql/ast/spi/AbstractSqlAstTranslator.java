@@ -27,6 +27,7 @@
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.QueryException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.DmlTargetColumnQualifierSupport;
 import org.hibernate.dialect.RowLockStrategy;
@@ -41,6 +42,7 @@
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.BasicValuedMapping;
 import org.hibernate.metamodel.mapping.CollectionPart;
@@ -63,6 +65,7 @@
 import org.hibernate.query.common.TemporalUnit;
 import org.hibernate.query.sqm.tuple.internal.AnonymousTupleTableGroupProducer;
 import org.hibernate.query.internal.NullPrecedenceHelper;
+import org.hibernate.query.spi.InClauseParameterPaddingStrategy;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.BinaryArithmeticOperator;
@@ -189,6 +192,7 @@
 import org.hibernate.sql.ast.tree.update.UpdateStatement;
 import org.hibernate.sql.exec.ExecutionException;
 import org.hibernate.sql.exec.internal.AbstractJdbcParameter;
+import org.hibernate.sql.exec.internal.InListArrayJdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcOperationQueryInsertImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParametersImpl;
@@ -7734,6 +7738,17 @@ public void visitInListPredicate(InListPredicate inListPredicate) {
 			return;
 		}
 
+		if ( !inListPredicate.isNegated()
+				&& getParameterRenderingMode() == SqlAstNodeRenderingMode.DEFAULT
+				&& supportsInArrayParameter()
+				&& getSessionFactory().getSessionFactoryOptions().isInClauseArrayParameterEnabled() ) {
+			final InArrayPredicate inArrayPredicate = createInArrayPredicate( inListPredicate );
+			if ( inArrayPredicate != null ) {
+				visitInArrayPredicate( inArrayPredicate );
+				return;
+			}
+		}
+
 		Function<Expression, Expression> itemAccessor = Function.identity();
 		final SqlTuple lhsTuple;
 		if ( ( lhsTuple = getSqlTuple( inListPredicate.getTestExpression() ) ) != null ) {
@@ -7790,8 +7805,13 @@ else if ( !dialect.supportsRowValueConstructorSyntaxInInList() ) {
 
 		int inExprLimit = dialect.getInExpressionCountLimit();
 
-		if ( getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
-			bindValueCountWithPadding = addPadding( bindValueCount, inExprLimit );
+		final SessionFactoryOptions sessionFactoryOptions = getSessionFactory().getSessionFactoryOptions();
+		if ( sessionFactoryOptions.inClauseParameterPaddingEnabled() ) {
+			bindValueCountWithPadding = addPadding(
+					bindValueCount,
+					inExprLimit,
+					sessionFactoryOptions.getInClauseParameterPaddingStrategy()
+			);
 		}
 
 		final boolean parenthesis = !inListPredicate.isNegated()
@@ -7842,6 +7862,63 @@ else if ( !dialect.supportsRowValueConstructorSyntaxInInList() ) {
 		}
 	}
 
+	/**
+	 * Whether an {@code IN} list of parameters may be bound as a single array,
+	 * that is, whether this translator renders an {@link InArrayPredicate}
+	 * which the database understands.
+	 *
+	 * @see #visitInArrayPredicate(InArrayPredicate)
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER
+	 */
+	protected boolean supportsInArrayParameter() {
+		return false;
+	}
+
+	/**
+	 * Replace an {@code IN} list of parameters of the same basic type with an
+	 * {@link InArrayPredicate} binding all the values as a single array.
+	 *
+	 * @return the replacement, or {@code null} if the list can't be replaced
+	 */
+	private InArrayPredicate createInArrayPredicate(InListPredicate inListPredicate) {
+		if ( getSqlTuple( inListPredicate.getTestExpression() ) != null ) {
+			return null;
+		}
+		final List<Expression> listExpressions = inListPredicate.getListExpressions();
+		final List<JdbcParameter> elementParameters = new ArrayList<>( listExpressions.size() );
+		JdbcMapping elementJdbcMapping = null;
+		for ( Expression listExpression : listExpressions ) {
+			final Expression expression =
+					listExpression instanceof SqmParameterInterpretation parameterInterpretation
+							? parameterInterpretation.getResolvedExpression()
+							: listExpression;
+			if ( !( expression instanceof JdbcParameter jdbcParameter ) ) {
+				return null;
+			}
+			final JdbcMapping jdbcMapping = jdbcParameter.getExpressionType().getSingleJdbcMapping();
+			if ( elementJdbcMapping == null ) {
+				elementJdbcMapping = jdbcMapping;
+			}
+			else if ( elementJdbcMapping != jdbcMapping ) {
+				return null;
+			}
+			elementParameters.add( jdbcParameter );
+		}
+		if ( !( elementJdbcMapping instanceof BasicType<?> ) || elementJdbcMapping.getValueConverter() != null ) {
+			return null;
+		}
+		final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+				elementJdbcMapping,
+				elementJdbcMapping.getJdbcJavaType().getJavaTypeClass(),
+				getSessionFactory()
+		);
+		return new InArrayPredicate(
+				inListPredicate.getTestExpression(),
+				new InListArrayJdbcParameter( arrayJdbcMapping, elementParameters ),
+				inListPredicate.getExpressionType()
+		);
+	}
+
 	private void appendInClauseSeparator(InListPredicate inListPredicate) {
 		appendSql( CLOSE_PARENTHESIS );
 		appendSql( inListPredicate.isNegated() ? " and " : " or " );
@@ -7853,10 +7930,10 @@ private void appendInClauseSeparator(InListPredicate inListPredicate) {
 		appendSql( OPEN_PARENTHESIS );
 	}
 
-	private static int addPadding(int bindValueCount, int inExprLimit) {
-		final int ceilingPowerOfTwo = MathHelper.ceilingPowerOfTwo( bindValueCount );
-		if ( inExprLimit <= 0 || ceilingPowerOfTwo <= inExprLimit ) {
-			return ceilingPowerOfTwo;
+	private static int addPadding(int bindValueCount, int inExprLimit, InClauseParameterPaddingStrategy paddingStrategy) {
+		final int paddedSize = paddingStrategy.determinePaddedSize( bindValueCount );
+		if ( inExprLimit <= 0 || paddedSize <= inExprLimit ) {
+			return paddedSize;
 		}
 		else {
 			int numberOfInClauses = MathHelper.divideRoundingUp( bindValueCount, inExprLimit );
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.exec.ExecutionException;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+/**
+ * A single array-typed parameter standing in for the parameters of a SQL
+ * {@code IN} list. The list parameters themselves are not rendered, but
+ * their bindings are collected into an array when the statement is bound.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_PARAMETER
+ *
+ * @since 7.1
+ */
+public class InListArrayJdbcParameter extends AbstractJdbcParameter {
+	private final List<JdbcParameter> elementParameters;
+	private final Class<?> elementClass;
+
+	public InListArrayJdbcParameter(JdbcMapping arrayJdbcMapping, List<JdbcParameter> elementParameters) {
+		super( arrayJdbcMapping );
+		this.elementParameters = elementParameters;
+		this.elementClass = arrayJdbcMapping.getJdbcJavaType().getJavaTypeClass().getComponentType();
+	}
+
+	public List<JdbcParameter> getElementParameters() {
+		return elementParameters;
+	}
+
+	@Override
+	public void bindParameterValue(
+			PreparedStatement statement,
+			int startPosition,
+			JdbcParameterBindings jdbcParamBindings,
+			ExecutionContext executionContext) throws SQLException {
+		final Object array = Array.newInstance( elementClass, elementParameters.size() );
+		for ( int i = 0; i < elementParameters.size(); i++ ) {
+			final JdbcParameterBinding binding = jdbcParamBindings.getBinding( elementParameters.get( i ) );
+			if ( binding == null ) {
+				throw new ExecutionException( "JDBC parameter value not bound - " + elementParameters.get( i ) );
+			}
+			Array.set( array, i, binding.getBindValue() );
+		}
+		bindParameterValue( getJdbcMapping(), statement, array, startPosition, executionContext );
+	}
+}
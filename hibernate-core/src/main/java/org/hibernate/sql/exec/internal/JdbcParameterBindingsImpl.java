@@ -14,6 +14,7 @@
 import org.hibernate.metamodel.mapping.BasicValuedMapping;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.type.BindableType;
+import org.hibernate.query.spi.InClauseParameterPaddingStrategy;
 import org.hibernate.query.spi.QueryParameterBinding;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
@@ -51,6 +52,8 @@ public JdbcParameterBindingsImpl(
 			bindingMap = new IdentityHashMap<>( parameterOccurrences.size() );
 
 			final boolean paddingEnabled = factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled();
+			final InClauseParameterPaddingStrategy paddingStrategy =
+					factory.getSessionFactoryOptions().getInClauseParameterPaddingStrategy();
 			final int inExprLimit = factory.getJdbcServices().getDialect().getParameterCountLimit();
 
 			for ( ParameterOccurrence occurrence : parameterOccurrences ) {
@@ -65,7 +68,7 @@ public JdbcParameterBindingsImpl(
 					final Collection<?> bindValues = binding.getBindValues();
 					final int bindValueCount = bindValues.size();
 					final int bindValueMaxCount =
-							determineBindValueMaxCount( paddingEnabled, inExprLimit, bindValueCount );
+							determineBindValueMaxCount( paddingEnabled, paddingStrategy, inExprLimit, bindValueCount );
 					Object lastBindValue = null;
 					if ( valueConverter != null ) {
 						for ( Object bindValue : bindValues ) {
@@ -43,6 +43,7 @@
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.sql.results.spi.ScrollableResultsConsumer;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -136,7 +137,8 @@ private <T, R> T doExecuteQuery(
 				jdbcParameterBindings,
 				executionContext,
 				statementCreator,
-				resultCountEstimate
+				resultCountEstimate,
+				resultsConsumer instanceof ScrollableResultsConsumer
 		);
 		final JdbcValues jdbcValues = resolveJdbcValuesSource(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
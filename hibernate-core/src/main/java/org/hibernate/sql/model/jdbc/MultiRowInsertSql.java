@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.model.jdbc;
+
+import org.hibernate.Internal;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.engine.jdbc.batch.internal.BatchSqlHelper.countParameters;
+
+/**
+ * Renders a single-row insert statement of form
+ * {@code insert into table (c1,...) values (?,...)} as a multi-row statement
+ * of form {@code insert into table (c1,...) values (?,...),(?,...)}.
+ * <p>
+ * The parameters of a row are all rendered within its {@code values} tuple,
+ * so the JDBC position of a parameter of the row {@code n} (counting from zero)
+ * is its position in the single-row statement, plus {@code n} times the
+ * {@linkplain #getParametersPerRow() number of parameters per row}.
+ *
+ * @since 7.1
+ */
+@Internal
+public final class MultiRowInsertSql {
+	private static final String VALUES = ") values ";
+
+	private final String sqlPrefix;
+	private final String rowSql;
+	private final int parametersPerRow;
+	private final boolean onlyParameters;
+
+	private MultiRowInsertSql(String sqlPrefix, String rowSql, int parametersPerRow, boolean onlyParameters) {
+		this.sqlPrefix = sqlPrefix;
+		this.rowSql = rowSql;
+		this.parametersPerRow = parametersPerRow;
+		this.onlyParameters = onlyParameters;
+	}
+
+	/**
+	 * Split the given single-row insert statement, as rendered for a
+	 * {@link org.hibernate.sql.model.internal.TableInsertStandard}.
+	 *
+	 * @return the multi-row form, or {@code null} if the statement is not of
+	 * the expected form, or has no parameter
+	 */
+	public static @Nullable MultiRowInsertSql from(String sql) {
+		final int valuesIndex = sql.lastIndexOf( VALUES + "(" );
+		if ( valuesIndex < 0 || sql.charAt( sql.length() - 1 ) != ')' ) {
+			return null;
+		}
+		final int rowIndex = valuesIndex + VALUES.length();
+		final String sqlPrefix = sql.substring( 0, rowIndex );
+		final String rowSql = sql.substring( rowIndex );
+		final int parametersPerRow = countParameters( rowSql );
+		if ( parametersPerRow == 0 || sqlPrefix.indexOf( '?' ) >= 0 ) {
+			return null;
+		}
+		return new MultiRowInsertSql(
+				sqlPrefix,
+				rowSql,
+				parametersPerRow,
+				rowSql.length() == 2 * parametersPerRow + 1
+		);
+	}
+
+	public int getParametersPerRow() {
+		return parametersPerRow;
+	}
+
+	/**
+	 * Whether the value of every column is a plain parameter, that is,
+	 * whether the {@code values} tuple is of form {@code (?,?,...)}, so
+	 * that the columns correspond to the parameters, in order.
+	 */
+	public boolean hasOnlyParameters() {
+		return onlyParameters;
+	}
+
+	/**
+	 * Render the statement inserting the given number of rows.
+	 */
+	public String render(int rowCount) {
+		final StringBuilder sql =
+				new StringBuilder( sqlPrefix.length() + rowCount * ( rowSql.length() + 1 ) )
+						.append( sqlPrefix )
+						.append( rowSql );
+		for ( int i = 1; i < rowCount; i++ ) {
+			sql.append( ',' ).append( rowSql );
+		}
+		return sql.toString();
+	}
+}
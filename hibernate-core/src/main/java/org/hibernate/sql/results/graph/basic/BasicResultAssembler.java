@@ -101,4 +101,13 @@ public JavaType<J> getAssembledJavaType() {
 	public BasicValueConverter<J, ?> getValueConverter() {
 		return valueConverter;
 	}
+
+	/**
+	 * The position of the JDBC value which is {@linkplain #assemble assembled} as is,
+	 * or {@code -1} if the value is converted, or read from another row processing state.
+	 */
+	@Internal
+	public int getUnconvertedValuesArrayPosition() {
+		return valueConverter == null && !unwrapRowProcessingState ? valuesArrayPosition : -1;
+	}
 }
@@ -23,6 +23,7 @@
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.engine.internal.EntityEntryImpl;
 import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityHolder;
@@ -650,7 +651,11 @@ protected void resolveInstanceSubInitializers(EntityInitializerData data) {
 		final PersistenceContext persistenceContext = rowProcessingState.getSession()
 				.getPersistenceContextInternal();
 		assert entityEntry == persistenceContext.getEntry( data.entityInstanceForNotify );
-		final Object[] loadedState = entityEntry.getLoadedState();
+		final Object[] loadedState =
+				entityEntry instanceof EntityEntryImpl entryImpl && entryImpl.isLoadedStateDeferred()
+						// the entity is unmodified, so avoid taking the snapshot
+						? data.concreteDescriptor.getValues( data.entityInstanceForNotify )
+						: entityEntry.getLoadedState();
 		final Object[] state;
 		if ( loadedState == null ) {
 			if ( entityEntry.getStatus() == Status.READ_ONLY ) {
@@ -729,6 +734,22 @@ protected void resolveEntityKey(EntityInitializerData data, Object id) {
 		data.entityKey = new EntityKey( id, concreteDescriptor );
 	}
 
+	/**
+	 * Resolve the key and the holder of an entity instance which is expected to be
+	 * managed, reusing the key of the holder instead of instantiating a new one.
+	 */
+	@EnsuresNonNull( "data.entityKey" )
+	private void resolveManagedEntityKey(EntityInitializerData data, Object id, PersistenceContext persistenceContext) {
+		final EntityHolder holder = persistenceContext.getEntityHolder( data.concreteDescriptor, id );
+		if ( holder != null && holder.getEntityKey().getPersister() == data.concreteDescriptor ) {
+			data.entityKey = holder.getEntityKey();
+		}
+		else {
+			resolveEntityKey( data, id );
+		}
+		data.entityHolder = holder;
+	}
+
 	protected void setMissing(EntityInitializerData data) {
 		data.entityKey = null;
 		data.concreteDescriptor = null;
@@ -789,11 +810,11 @@ public void initializeInstanceFromParent(Object parentInstance, EntityInitialize
 			data.setInstance( instance );
 			final Object entityInstanceForNotify = data.entityInstanceForNotify = Hibernate.unproxy( instance );
 			data.concreteDescriptor = session.getEntityPersister( null, entityInstanceForNotify );
-			resolveEntityKey(
+			resolveManagedEntityKey(
 					data,
-					data.concreteDescriptor.getIdentifier( entityInstanceForNotify, session )
+					data.concreteDescriptor.getIdentifier( entityInstanceForNotify, session ),
+					session.getPersistenceContextInternal()
 			);
-			data.entityHolder = session.getPersistenceContextInternal().getEntityHolder( data.entityKey );
 			data.setState( State.INITIALIZED );
 			initializeSubInstancesFromParent( data );
 		}
@@ -932,8 +953,7 @@ public void resolveInstance(Object instance, EntityInitializerData data) {
 			// Entity is most probably initialized
 			data.entityInstanceForNotify = instance;
 			data.concreteDescriptor = session.getEntityPersister( null, instance );
-			resolveEntityKey( data, data.concreteDescriptor.getIdentifier( instance, session ) );
-			data.entityHolder = persistenceContext.getEntityHolder( data.entityKey );
+			resolveManagedEntityKey( data, data.concreteDescriptor.getIdentifier( instance, session ), persistenceContext );
 			if ( data.entityHolder == null ) {
 				// Entity was most probably removed in the same session without setting this association to null.
 				// Since this load request can happen through `find()` which doesn't auto-flush on association joins,
@@ -989,8 +1009,7 @@ else if ( lazyInitializer.isUninitialized() ) {
 		else {
 			data.entityInstanceForNotify = lazyInitializer.getImplementation();
 			data.concreteDescriptor = session.getEntityPersister( null, data.entityInstanceForNotify );
-			resolveEntityKey( data, lazyInitializer.getInternalIdentifier() );
-			data.entityHolder = persistenceContext.getEntityHolder( data.entityKey );
+			resolveManagedEntityKey( data, lazyInitializer.getInternalIdentifier(), persistenceContext );
 			// Even though the lazyInitializer reports it is initialized, check if the entity holder reports initialized,
 			// because in a nested initialization scenario, this nested initializer must initialize the entity
 			data.setState( data.entityHolder.isInitialized() ? State.INITIALIZED : State.RESOLVED );
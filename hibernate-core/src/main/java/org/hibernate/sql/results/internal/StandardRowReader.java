@@ -8,6 +8,7 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.internal.build.AllowReflection;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
@@ -37,6 +38,7 @@
 	private final boolean hasCollectionInitializers;
 	private final @Nullable RowTransformer<T> rowTransformer;
 	private final Class<T> domainResultJavaType;
+	private final @Nullable RowReaderOptimizer rowReaderOptimizer;
 
 	private final ComponentType componentType;
 	private final Class<?> resultElementClass;
@@ -52,7 +54,8 @@ public StandardRowReader(
 				jdbcValuesMappingResolution.getSortedForResolveInstance(),
 				jdbcValuesMappingResolution.hasCollectionInitializers(),
 				rowTransformer,
-				domainResultJavaType
+				domainResultJavaType,
+				jdbcValuesMappingResolution.getRowReaderOptimizer()
 		);
 	}
 
@@ -64,6 +67,27 @@ public StandardRowReader(
 			boolean hasCollectionInitializers,
 			RowTransformer<T> rowTransformer,
 			Class<T> domainResultJavaType) {
+		this(
+				resultAssemblers,
+				resultInitializers,
+				initializers,
+				sortedForResolveInitializers,
+				hasCollectionInitializers,
+				rowTransformer,
+				domainResultJavaType,
+				null
+		);
+	}
+
+	public StandardRowReader(
+			DomainResultAssembler<?>[] resultAssemblers,
+			Initializer<?>[] resultInitializers,
+			Initializer<?>[] initializers,
+			Initializer<?>[] sortedForResolveInitializers,
+			boolean hasCollectionInitializers,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType,
+			@Nullable RowReaderOptimizer rowReaderOptimizer) {
 		this.resultAssemblers = resultAssemblers;
 		this.resultInitializers = (Initializer<InitializerData>[]) resultInitializers;
 		this.resultInitializersData = new InitializerData[resultInitializers.length];
@@ -78,6 +102,7 @@ public StandardRowReader(
 				? null
 				: rowTransformer;
 		this.domainResultJavaType = domainResultJavaType;
+		this.rowReaderOptimizer = rowReaderOptimizer;
 		if ( domainResultJavaType == null
 				|| domainResultJavaType == Object[].class
 				|| domainResultJavaType == Object.class
@@ -146,8 +171,13 @@ public T readRow(RowProcessingState rowProcessingState) {
 			}
 			else {
 				final Object[] resultRow = (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length );
-				for ( int i = 0; i < resultAssemblers.length; i++ ) {
-					resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
+				if ( rowReaderOptimizer != null ) {
+					rowReaderOptimizer.assembleRow( rowProcessingState, resultAssemblers, resultRow );
+				}
+				else {
+					for ( int i = 0; i < resultAssemblers.length; i++ ) {
+						resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
+					}
 				}
 				//noinspection unchecked
 				result = rowTransformer == null
@@ -4,6 +4,7 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -54,9 +55,11 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 	private final LimitHandler limitHandler;
 	private final boolean usesFollowOnLocking;
 	private final int resultCountEstimate;
+	private final boolean scrolling;
 
 	private PreparedStatement preparedStatement;
 	private ResultSet resultSet;
+	private boolean autoCommitDisabled;
 
 	public DeferredResultSetAccess(
 			JdbcOperationQuerySelect jdbcSelect,
@@ -64,6 +67,23 @@ public DeferredResultSetAccess(
 			ExecutionContext executionContext,
 			JdbcSelectExecutor.StatementCreator statementCreator,
 			int resultCountEstimate) {
+		this( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator, resultCountEstimate, false );
+	}
+
+	/**
+	 * @param scrolling whether the results are read by a {@link org.hibernate.ScrollableResults},
+	 * in which case the {@linkplain Dialect#getStreamingFetchSize streaming fetch size} is applied
+	 * to a forward-only result set
+	 *
+	 * @since 7.1
+	 */
+	public DeferredResultSetAccess(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			JdbcSelectExecutor.StatementCreator statementCreator,
+			int resultCountEstimate,
+			boolean scrolling) {
 		super( executionContext.getSession() );
 		final JdbcServices jdbcServices = executionContext.getSession().getJdbcServices();
 
@@ -73,6 +93,7 @@ public DeferredResultSetAccess(
 		this.statementCreator = statementCreator;
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.resultCountEstimate = resultCountEstimate;
+		this.scrolling = scrolling;
 
 		final QueryOptions queryOptions = executionContext.getQueryOptions();
 		if ( queryOptions == null ) {
@@ -230,10 +251,35 @@ private void setQueryOptions(PreparedStatement preparedStatement) throws SQLExce
 			if ( queryOptions.getFetchSize() != null ) {
 				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
 			}
+			else if ( scrolling ) {
+				setStreamingFetchSize( preparedStatement );
+			}
 			if ( queryOptions.getTimeout() != null ) {
 				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
 		}
+		else if ( scrolling ) {
+			setStreamingFetchSize( preparedStatement );
+		}
+	}
+
+	private void setStreamingFetchSize(PreparedStatement preparedStatement) throws SQLException {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final Dialect dialect = session.getJdbcServices().getDialect();
+		final int streamingFetchSize = dialect.getStreamingFetchSize();
+		if ( streamingFetchSize != 0
+				&& context().getFetchSizeOrNull() == null
+				&& preparedStatement.getResultSetType() == ResultSet.TYPE_FORWARD_ONLY ) {
+			if ( dialect.requiresAutoCommitDisabledForStreaming() ) {
+				final Connection connection = preparedStatement.getConnection();
+				if ( connection.getAutoCommit() ) {
+					LOG.trace( "Disabling auto-commit to stream the results" );
+					connection.setAutoCommit( false );
+					autoCommitDisabled = true;
+				}
+			}
+			preparedStatement.setFetchSize( streamingFetchSize );
+		}
 	}
 
 	private void executeQuery() {
@@ -345,10 +391,34 @@ public void release() {
 		if ( preparedStatement != null ) {
 			logicalConnection.getResourceRegistry().release( preparedStatement );
 			preparedStatement = null;
+			if ( autoCommitDisabled ) {
+				restoreAutoCommit( logicalConnection );
+			}
 			jdbcCoordinator.afterStatementExecution();
 		}
 	}
 
+	private void restoreAutoCommit(LogicalConnectionImplementor logicalConnection) {
+		autoCommitDisabled = false;
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		if ( session.isTransactionInProgress() ) {
+			// a transaction was begun while the results were read, so re-enabling
+			// auto-commit now would commit it, and the transaction would not
+			// re-enable it, since auto-commit was disabled when it began
+			logicalConnection.getPhysicalJdbcTransaction().enableAutoCommitOnCompletion();
+		}
+		else {
+			try {
+				LOG.trace( "Re-enabling auto-commit after streaming the results" );
+				logicalConnection.getPhysicalConnection().setAutoCommit( true );
+			}
+			catch (SQLException exception) {
+				throw session.getJdbcServices().getSqlExceptionHelper()
+						.convert( exception, "Unable to re-enable auto-commit" );
+			}
+		}
+	}
+
 	@Override
 	public int getResultCountEstimate() {
 		if ( limit != null && limit.getMaxRows() != null ) {
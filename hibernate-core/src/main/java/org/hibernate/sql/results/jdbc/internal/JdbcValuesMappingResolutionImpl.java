@@ -6,34 +6,54 @@
 
 import java.util.LinkedHashSet;
 
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.internal.InitializersList;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 public class JdbcValuesMappingResolutionImpl implements JdbcValuesMappingResolution {
 
 	private final DomainResultAssembler<?>[] domainResultAssemblers;
 	private final Initializer<?>[] resultInitializers;
 	private final boolean hasCollectionInitializers;
 	private final InitializersList initializersList;
+	private final @Nullable RowReaderOptimizer rowReaderOptimizer;
 
 	public JdbcValuesMappingResolutionImpl(
 			DomainResultAssembler<?>[] domainResultAssemblers,
 			boolean hasCollectionInitializers,
 			InitializersList initializersList) {
-		this( domainResultAssemblers, getResultInitializers( domainResultAssemblers ), hasCollectionInitializers, initializersList );
+		this( domainResultAssemblers, hasCollectionInitializers, initializersList, null );
+	}
+
+	public JdbcValuesMappingResolutionImpl(
+			DomainResultAssembler<?>[] domainResultAssemblers,
+			boolean hasCollectionInitializers,
+			InitializersList initializersList,
+			@Nullable RowReaderOptimizer rowReaderOptimizer) {
+		this(
+				domainResultAssemblers,
+				getResultInitializers( domainResultAssemblers ),
+				hasCollectionInitializers,
+				initializersList,
+				rowReaderOptimizer
+		);
 	}
 
 	private JdbcValuesMappingResolutionImpl(
 			DomainResultAssembler<?>[] domainResultAssemblers,
 			Initializer<?>[] resultInitializers,
 			boolean hasCollectionInitializers,
-			InitializersList initializersList) {
+			InitializersList initializersList,
+			@Nullable RowReaderOptimizer rowReaderOptimizer) {
 		this.domainResultAssemblers = domainResultAssemblers;
 		this.resultInitializers = resultInitializers;
 		this.hasCollectionInitializers = hasCollectionInitializers;
 		this.initializersList = initializersList;
+		this.rowReaderOptimizer = rowReaderOptimizer;
 	}
 
 	private static Initializer<?>[] getResultInitializers(DomainResultAssembler<?>[] resultAssemblers) {
@@ -69,4 +89,9 @@ public Initializer<?>[] getSortedForResolveInstance() {
 		return initializersList.getSortedForResolveInstance();
 	}
 
+	@Override
+	public @Nullable RowReaderOptimizer getRowReaderOptimizer() {
+		return rowReaderOptimizer;
+	}
+
 }
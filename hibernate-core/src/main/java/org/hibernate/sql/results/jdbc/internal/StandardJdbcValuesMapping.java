@@ -9,6 +9,8 @@
 import java.util.function.Supplier;
 
 import org.hibernate.LockMode;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -24,6 +26,7 @@
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.InitializerParent;
 import org.hibernate.sql.results.graph.InitializerProducer;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.graph.collection.internal.AbstractImmediateCollectionInitializer;
 import org.hibernate.sql.results.graph.instantiation.DynamicInstantiationResult;
 import org.hibernate.sql.results.internal.InitializersList;
@@ -32,6 +35,8 @@
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * @author Steve Ebersole
  */
@@ -121,13 +126,40 @@ public JdbcValuesMappingResolution resolveAssemblers(SessionFactoryImplementor s
 		DomainResultAssembler<?>[] domainResultAssemblers =
 				resolveAssemblers( creationState ).toArray(new DomainResultAssembler[0]);
 		creationState.initializerMap.logInitializers();
+		final InitializersList initializersList = creationState.initializerListBuilder.build();
 		return this.resolution = new JdbcValuesMappingResolutionImpl(
 				domainResultAssemblers,
 				creationState.hasCollectionInitializers,
-				creationState.initializerListBuilder.build()
+				initializersList,
+				sessionFactory.getSessionFactoryOptions().isGeneratedRowReadersEnabled()
+						? resolveRowReaderOptimizer( domainResultAssemblers, initializersList, sessionFactory )
+						: null
 		);
 	}
 
+	/**
+	 * Generate the code assembling the rows of a result with no initializers,
+	 * which only holds scalar values, reading the JDBC values of the basic
+	 * results which need no conversion directly.
+	 */
+	private static @Nullable RowReaderOptimizer resolveRowReaderOptimizer(
+			DomainResultAssembler<?>[] domainResultAssemblers,
+			InitializersList initializersList,
+			SessionFactoryImplementor sessionFactory) {
+		if ( domainResultAssemblers.length < 2 || initializersList.size() != 0 ) {
+			return null;
+		}
+		final int[] jdbcValuePositions = new int[domainResultAssemblers.length];
+		for ( int i = 0; i < domainResultAssemblers.length; i++ ) {
+			final DomainResultAssembler<?> assembler = domainResultAssemblers[i];
+			jdbcValuePositions[i] = assembler.getClass() == BasicResultAssembler.class
+					? ( (BasicResultAssembler<?>) assembler ).getUnconvertedValuesArrayPosition()
+					: -1;
+		}
+		return sessionFactory.getServiceRegistry().requireService( BytecodeProvider.class )
+				.getRowReaderOptimizer( jdbcValuePositions );
+	}
+
 	private List<DomainResultAssembler<?>> resolveAssemblers(AssemblerCreationState creationState) {
 		final List<DomainResultAssembler<?>> assemblers = CollectionHelper.arrayList( domainResults.size() );
 
@@ -4,10 +4,14 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import org.hibernate.Incubating;
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * The "resolved" form of {@link JdbcValuesMapping} providing access
  * to resolved ({@link DomainResultAssembler}) descriptors and resolved
@@ -26,4 +30,16 @@ public interface JdbcValuesMappingResolution {
 	Initializer<?>[] getSortedForResolveInstance();
 
 	boolean hasCollectionInitializers();
+
+	/**
+	 * The generated code assembling the rows of this result, if any.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#GENERATED_ROW_READERS
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default @Nullable RowReaderOptimizer getRowReaderOptimizer() {
+		return null;
+	}
 }
@@ -95,6 +95,44 @@ default long getPlanCacheMissCount(){
 		return 0;
 	}
 
+	/**
+	 * The number of executions which reused the translation to SQL
+	 * of a cached query plan.
+	 *
+	 * @since 7.1
+	 */
+	default long getTranslationCacheHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of executions which had to translate the query to
+	 * SQL, because no compatible translation was cached.
+	 *
+	 * @since 7.1
+	 */
+	default long getTranslationCacheMissCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of distinct SQL statements this query was
+	 * translated to. A query with a list-valued parameter is
+	 * translated to a different statement for each distinct
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING
+	 * padded} size of the list.
+	 * <p>
+	 * Only the first thousand distinct statements are counted.
+	 *
+	 * @since 7.1
+	 */
+	default long getSqlVariantCount() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The overall time spent to compile the plan for this
 	 * particular query.
@@ -354,6 +354,17 @@ public interface Statistics {
 	 */
 	Map<String,Long> getSlowQueries();
 
+	/**
+	 * If {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_TARGET_LATENCY}
+	 * is enabled, a map from the batch key, for example, {@code Book#INSERT}, to the
+	 * size of the batches currently in use for the key.
+	 *
+	 * @since 7.1
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_TARGET_LATENCY
+	 */
+	Map<String,Integer> getJdbcBatchSizes();
+
 	/**
 	 * The names of all entities.
 	 */
@@ -406,4 +417,15 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans and HQL interpretations evicted from
+	 * cache to respect its bounds.
+	 * <p>
+	 * Evictions are only reported by caches which support it, see
+	 * {@link org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_FACTORY}.
+	 *
+	 * @since 7.1
+	 */
+	long getQueryPlanCacheEvictionCount();
 }
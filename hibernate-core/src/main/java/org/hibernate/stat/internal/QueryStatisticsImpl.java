@@ -4,6 +4,8 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
@@ -21,6 +23,12 @@
  * @author Alex Snaps
  */
 public class QueryStatisticsImpl implements QueryStatistics {
+	/**
+	 * A query with a list parameter may be translated to a great many
+	 * SQL strings, so we stop counting them at some point
+	 */
+	static final int MAX_SQL_VARIANTS = 1_000;
+
 	private final String query;
 
 	private final LongAdder cacheHitCount = new LongAdder();
@@ -34,6 +42,9 @@ public class QueryStatisticsImpl implements QueryStatistics {
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
+	private final LongAdder translationCacheHitCount = new LongAdder();
+	private final LongAdder translationCacheMissCount = new LongAdder();
+	private final Set<Long> sqlVariants = ConcurrentHashMap.newKeySet();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
 
@@ -145,6 +156,28 @@ public long getPlanCacheMissCount() {
 		return planCacheMissCount.sum();
 	}
 
+	/**
+	 * Translation to SQL reused by a cached query plan
+	 */
+	public long getTranslationCacheHitCount() {
+		return translationCacheHitCount.sum();
+	}
+
+	/**
+	 * Translation to SQL performed by a cached query plan
+	 */
+	public long getTranslationCacheMissCount() {
+		return translationCacheMissCount.sum();
+	}
+
+	/**
+	 * Distinct SQL strings this query was translated to,
+	 * up to {@value #MAX_SQL_VARIANTS}
+	 */
+	public long getSqlVariantCount() {
+		return sqlVariants.size();
+	}
+
 	/**
 	 * Query plan overall compiled total
 	 */
@@ -205,6 +238,31 @@ void incrementPlanCacheMissCount() {
 		planCacheMissCount.increment();
 	}
 
+	void incrementTranslationCacheHitCount() {
+		translationCacheHitCount.increment();
+	}
+
+	void translated(String sql) {
+		translationCacheMissCount.increment();
+		// the size check is racy, but it's only
+		// ever off by the number of threads
+		if ( sqlVariants.size() < MAX_SQL_VARIANTS ) {
+			// only a hash is kept, but a 64-bit one,
+			// so that collisions are very unlikely
+			sqlVariants.add( hash( sql ) );
+		}
+	}
+
+	private static long hash(String sql) {
+		// 64-bit FNV-1a
+		long hash = 0xcbf29ce484222325L;
+		for ( int i = 0; i < sql.length(); i++ ) {
+			hash ^= sql.charAt( i );
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
 	public String toString() {
 		return "QueryStatistics"
 				+ "[query=" + query
@@ -213,6 +271,9 @@ public String toString() {
 				+ ",cachePutCount=" + this.cachePutCount
 				+ ",planCacheHitCount=" + this.planCacheHitCount
 				+ ",planCacheMissCount=" + this.planCacheMissCount
+				+ ",translationCacheHitCount=" + this.translationCacheHitCount
+				+ ",translationCacheMissCount=" + this.translationCacheMissCount
+				+ ",sqlVariantCount=" + this.sqlVariants.size()
 				+ ",executionCount=" + this.executionCount
 				+ ",executionRowCount=" + this.executionRowCount
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
@@ -97,6 +97,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -125,6 +126,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 * Keyed by query SQL
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
+	private final Map<String, Integer> jdbcBatchSizes = new ConcurrentHashMap<>();
 
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
@@ -209,6 +211,7 @@ public void clear() {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		resetStart();
 	}
@@ -785,6 +788,11 @@ public long getQueryPlanCacheMissCount() {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -812,6 +820,25 @@ public void queryPlanCacheMiss(String query) {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction(String query) {
+		queryPlanCacheEvictionCount.increment();
+	}
+
+	@Override
+	public void queryTranslationCacheHit(String query) {
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementTranslationCacheHitCount();
+		}
+	}
+
+	@Override
+	public void queryTranslationCacheMiss(String query, String sql) {
+		if ( query != null ) {
+			getQueryStatistics( query ).translated( sql );
+		}
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -989,6 +1016,7 @@ public String toString() {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
 				']';
 	}
 
@@ -1054,4 +1082,14 @@ public Map<String, Long> getSlowQueries() {
 	public void slowQuery(String sql, long executionTime) {
 		slowQueries.merge( sql, executionTime, Math::max );
 	}
+
+	@Override
+	public Map<String, Integer> getJdbcBatchSizes() {
+		return jdbcBatchSizes;
+	}
+
+	@Override
+	public void jdbcBatchSize(String batchKey, int batchSize) {
+		jdbcBatchSizes.put( batchKey, batchSize );
+	}
 }
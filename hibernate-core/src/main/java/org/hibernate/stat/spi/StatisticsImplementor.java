@@ -283,6 +283,39 @@ default void queryPlanCacheMiss(String query) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that an entry was evicted from the query plan cache.
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanCacheEviction(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that a cached query plan reused its translation to SQL.
+	 *
+	 * @param query The query
+	 *
+	 * @since 7.1
+	 */
+	default void queryTranslationCacheHit(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that a cached query plan had to translate its query to SQL,
+	 * resulting in the given SQL string.
+	 *
+	 * @param query The query
+	 * @param sql The SQL produced by the translation
+	 *
+	 * @since 7.1
+	 */
+	default void queryTranslationCacheMiss(String query, String sql) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -305,4 +338,19 @@ default Map<String, Long> getSlowQueries() {
 		//For backward compatibility
 		return emptyMap();
 	}
+
+	/**
+	 * Register the size of the batches of the given batch key.
+	 *
+	 * @since 7.1
+	 */
+	default void jdbcBatchSize(String batchKey, int batchSize) {
+		//For backward compatibility
+	}
+
+	@Override
+	default Map<String, Integer> getJdbcBatchSizes() {
+		//For backward compatibility
+		return emptyMap();
+	}
 }
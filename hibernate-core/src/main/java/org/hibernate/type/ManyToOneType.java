@@ -10,7 +10,6 @@
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
-import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -124,10 +123,10 @@ private void scheduleBatchLoadIfNeeded(Object id, SharedSessionContractImplement
 		if ( uniqueKeyPropertyName == null && id != null ) {
 			final EntityPersister persister = getAssociatedEntityPersister( session.getFactory() );
 			if ( session.getLoadQueryInfluencers().effectivelyBatchLoadable( persister ) ) {
-				final EntityKey entityKey = session.generateEntityKey( id, persister );
 				final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-				if ( !persistenceContext.containsEntity( entityKey ) ) {
-					persistenceContext.getBatchFetchQueue().addBatchLoadableEntityKey( entityKey );
+				if ( persistenceContext.getEntity( persister, id ) == null ) {
+					persistenceContext.getBatchFetchQueue()
+							.addBatchLoadableEntityKey( session.generateEntityKey( id, persister ) );
 				}
 			}
 		}
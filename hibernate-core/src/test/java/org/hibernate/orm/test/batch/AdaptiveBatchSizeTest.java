@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchSizeTest.Person.class,
+		AdaptiveBatchSizeTest.Tag.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5"),
+		// far above the execution time of any batch
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_TARGET_LATENCY, value = "60000")
+})
+public class AdaptiveBatchSizeTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testBatchSizeGrows(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 100; i++ ) {
+				session.persist( new Person( i, "Person " + i ) );
+			}
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final Map<String, Integer> batchSizes = statistics.getJdbcBatchSizes();
+		// the size at most doubles after each full batch
+		assertThat( batchSizes.get( Person.class.getName() + "#INSERT" ) ).isGreaterThan( 5 ).isLessThanOrEqualTo( 80 );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Person", Long.class ).getSingleResult()
+		).isEqualTo( 100L ) );
+	}
+
+	@Test
+	public void testExplicitBatchSizeNotAdapted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setJdbcBatchSize( 3 );
+			for ( int i = 1; i <= 20; i++ ) {
+				session.persist( new Tag( i, "Tag " + i ) );
+			}
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getJdbcBatchSizes() ).doesNotContainKey( Tag.class.getName() + "#INSERT" );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.BootstrapServiceRegistry;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@BootstrapServiceRegistry(integrators = BatchPipelineTest.FailingInsertIntegrator.class)
+@DomainModel(annotatedClasses = BatchPipelineTest.Person.class)
+@SessionFactory(statementInspectorClass = BatchPipelineTest.ThreadRecordingStatementInspector.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_PIPELINING, value = "true"),
+		// so that the database rejects a null name
+		@Setting(name = AvailableSettings.CHECK_NULLABILITY, value = "false")
+})
+public class BatchPipelineTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		FailingInsertIntegrator.failingId = null;
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testInsertUpdateDelete(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 23; i++ ) {
+				session.persist( new Person( i, "Person " + i ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Person> people =
+					session.createSelectionQuery( "from Person order by id", Person.class ).getResultList();
+			assertThat( people ).hasSize( 23 );
+			people.forEach( person -> person.name = person.name.toUpperCase() );
+			// the query is executed after the batches flushed before it
+			assertThat( session.createSelectionQuery( "select count(*) from Person where name like 'PERSON%'", Long.class )
+					.getSingleResult() ).isEqualTo( 23L );
+			people.stream().filter( person -> person.id % 2 == 0 ).forEach( session::remove );
+		} );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select id from Person where mod(id, 2) = 0", Integer.class ).getResultList()
+		).isEmpty() );
+	}
+
+	@Test
+	public void testFailureReportedAtFlush(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 1; i <= 23; i++ ) {
+					session.persist( new Person( i, i == 2 ? null : "Person " + i ) );
+				}
+				assertThrows( PersistenceException.class, session::flush );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "from Person", Person.class ).getResultList()
+		).isEmpty() );
+	}
+
+	@Test
+	public void testListenerFailureDuringFlush(SessionFactoryScope scope) {
+		// thrown after two batches were handed to the pipeline
+		FailingInsertIntegrator.failingId = 13;
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 1; i <= 23; i++ ) {
+					session.persist( new Person( i, "Person " + i ) );
+				}
+				assertThrows( HibernateException.class, session::flush );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+		FailingInsertIntegrator.failingId = null;
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "from Person", Person.class ).getResultList()
+		).isEmpty() );
+	}
+
+	@Test
+	public void testRowCountCheckedAtFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 12; i++ ) {
+				session.persist( new Person( i, "Person " + i ) );
+			}
+		} );
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				final List<Person> people =
+						session.createSelectionQuery( "from Person order by id", Person.class ).getResultList();
+				scope.inTransaction( other -> other.find( Person.class, 3 ).name = "Changed" );
+				people.forEach( person -> person.name = "Renamed" );
+				assertThrows( PersistenceException.class, session::flush );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+	}
+
+	@Test
+	public void testStatementsPreparedBySession(SessionFactoryScope scope) {
+		ThreadRecordingStatementInspector.threads.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 23; i++ ) {
+				session.persist( new Person( i, "Person " + i ) );
+			}
+			session.flush();
+			session.createSelectionQuery( "from Person", Person.class )
+					.getResultList()
+					.forEach( person -> person.name = "Renamed" );
+		} );
+		// the pipeline only executes the statements
+		assertThat( ThreadRecordingStatementInspector.threads ).containsExactly( Thread.currentThread() );
+	}
+
+	public static class FailingInsertIntegrator implements Integrator {
+		static volatile Integer failingId;
+
+		@Override
+		public void integrate(
+				Metadata metadata,
+				BootstrapContext bootstrapContext,
+				SessionFactoryImplementor sessionFactory) {
+			sessionFactory.getEventListenerRegistry().appendListeners(
+					EventType.PRE_INSERT,
+					event -> {
+						if ( event.getId().equals( failingId ) ) {
+							throw new HibernateException( "Insert of Person " + failingId + " rejected" );
+						}
+						return false;
+					}
+			);
+		}
+	}
+
+	public static class ThreadRecordingStatementInspector implements StatementInspector {
+		static final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public String inspect(String sql) {
+			threads.add( Thread.currentThread() );
+			return sql;
+		}
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		@Column(nullable = false)
+		private String name;
+
+		@Version
+		private int version;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
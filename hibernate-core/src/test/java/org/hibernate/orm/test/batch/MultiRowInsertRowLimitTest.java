@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = MultiRowInsertRowLimitTest.Person.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(
+		settingProviders = @SettingProvider(provider = MultiRowInsertRowLimitTest.TestSettingProvider.class, settingName = AvailableSettings.DIALECT),
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_MULTI_ROW_INSERTS, value = "true")
+		}
+)
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertRowLimitTest {
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	public static class TestDialect extends H2Dialect {
+		@Override
+		public int getMaximumRowsPerMultiRowInsert() {
+			return 4;
+		}
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testRowLimit(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Person( i, "Person " + i ) );
+			}
+		} );
+
+		// a batch of ten rows, split into statements of at most four rows,
+		// where the statement of four rows is prepared once for two executions
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 2 );
+		assertThat( sqlQueries.get( 0 ) ).endsWith( "values (?,?),(?,?),(?,?),(?,?)" );
+		assertThat( sqlQueries.get( 1 ) ).endsWith( "values (?,?),(?,?)" );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Person", Long.class ).getSingleResult()
+		).isEqualTo( 10L ) );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		MultiRowInsertTest.Person.class,
+		MultiRowInsertTest.Vehicle.class,
+		MultiRowInsertTest.Car.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_MULTI_ROW_INSERTS, value = "true")
+})
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsMultiRowInsert.class)
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 11; i++ ) {
+				session.persist( new Person( i, "Person " + i ) );
+			}
+		} );
+
+		// the statement of five rows is prepared once and executed
+		// twice, then a statement of a single row is prepared
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 2 );
+		assertThat( sqlQueries.get( 0 ) ).endsWith( "values (?,?),(?,?),(?,?),(?,?),(?,?)" );
+		assertThat( sqlQueries.get( 1 ) ).endsWith( "values (?,?)" );
+
+		scope.inTransaction( session -> {
+			final List<Person> people =
+					session.createSelectionQuery( "from Person order by id", Person.class ).getResultList();
+			assertThat( people ).hasSize( 11 );
+			for ( int i = 0; i < people.size(); i++ ) {
+				assertThat( people.get( i ).id ).isEqualTo( i + 1 );
+				assertThat( people.get( i ).name ).isEqualTo( "Person " + ( i + 1 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertJoinedInheritance(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Car( i, "Car " + i, i + 1 ) );
+			}
+		} );
+
+		// one statement per table, the table of the superclass first
+		statementInspector.assertExecutedCount( 2 );
+		statementInspector.assertIsInsert( 0 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "Vehicle" );
+		assertThat( statementInspector.getSqlQueries().get( 1 ) ).containsIgnoringCase( "Car" );
+
+		scope.inTransaction( session -> {
+			final List<Car> cars =
+					session.createSelectionQuery( "from Car order by id", Car.class ).getResultList();
+			assertThat( cars ).extracting( car -> car.doors ).containsExactly( 2, 3, 4 );
+			assertThat( cars ).extracting( car -> car.name ).containsExactly( "Car 1", "Car 2", "Car 3" );
+		} );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		private int doors;
+
+		public Car() {
+		}
+
+		public Car(Integer id, String name, int doors) {
+			super( id, name );
+			this.doors = doors;
+		}
+	}
+}
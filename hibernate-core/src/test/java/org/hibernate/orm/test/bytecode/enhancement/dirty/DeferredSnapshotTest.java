@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.Date;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.cfg.BytecodeSettings;
+import org.hibernate.engine.internal.EntityEntryImpl;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		DeferredSnapshotTest.Document.class,
+		DeferredSnapshotTest.Reminder.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = BytecodeSettings.DEFER_SNAPSHOTS, value = "true"))
+@BytecodeEnhanced
+public class DeferredSnapshotTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Document( 1, "Draft", 10 ) );
+			session.persist( new Reminder( 1, new Date() ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testSnapshotTakenOnFirstWrite(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			final EntityEntryImpl entry = entry( session, document );
+			assertThat( entry.isLoadedStateDeferred() ).isTrue();
+			assertThat( entry.getLoadedValue( "title" ) ).isEqualTo( "Draft" );
+			session.flush();
+			assertThat( entry.isLoadedStateDeferred() ).isTrue();
+
+			document.setTitle( "Final" );
+			assertThat( entry.isLoadedStateDeferred() ).isFalse();
+			assertThat( entry.getLoadedValue( "title" ) ).isEqualTo( "Draft" );
+			assertThat( entry.getLoadedValue( "pages" ) ).isEqualTo( 10 );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.getTitle() ).isEqualTo( "Final" );
+			assertThat( document.getPages() ).isEqualTo( 10 );
+			assertThat( document.getVersion() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testUnmodifiedNotUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			// assigning an equal value does not make the entity dirty
+			document.setTitle( "Draft" );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isZero();
+	}
+
+	@Test
+	public void testMerge(SessionFactoryScope scope) {
+		final Document detached = scope.fromTransaction( session -> session.find( Document.class, 1 ) );
+		detached.setPages( 12 );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( entry( session, document ).isLoadedStateDeferred() ).isTrue();
+			session.merge( detached );
+			assertThat( entry( session, document ).getLoadedValue( "pages" ) ).isEqualTo( 10 );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.getPages() ).isEqualTo( 12 );
+			assertThat( document.getVersion() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testEntityWithMutablePropertyNotDeferred(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Reminder reminder = session.find( Reminder.class, 1 );
+			assertThat( entry( session, reminder ).isLoadedStateDeferred() ).isFalse();
+		} );
+	}
+
+	private static EntityEntryImpl entry(SessionImplementor session, Object entity) {
+		return (EntityEntryImpl) session.getPersistenceContextInternal().getEntry( entity );
+	}
+
+	@Entity(name = "Document")
+	@DynamicUpdate
+	public static class Document {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		private int pages;
+
+		@Version
+		private int version;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title, int pages) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public int getPages() {
+			return pages;
+		}
+
+		public void setPages(int pages) {
+			this.pages = pages;
+		}
+
+		public int getVersion() {
+			return version;
+		}
+	}
+
+	@Entity(name = "Reminder")
+	public static class Reminder {
+		@Id
+		private Integer id;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date due;
+
+		public Reminder() {
+		}
+
+		public Reminder(Integer id, Date due) {
+			this.id = id;
+			this.due = due;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.flush;
+
+import java.util.Date;
+import java.util.List;
+
+import org.hibernate.cfg.BytecodeSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		SkipUnmodifiedOnFlushTest.Item.class,
+		SkipUnmodifiedOnFlushTest.Reminder.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = BytecodeSettings.SKIP_UNMODIFIED_ON_FLUSH, value = "true"))
+@BytecodeEnhanced
+public class SkipUnmodifiedOnFlushTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 50; i++ ) {
+				session.persist( new Item( i, "Item " + i ) );
+			}
+			session.persist( new Reminder( 1, new Date() ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testOnlyModifiedEntitiesVisited(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			assertThat( items ).hasSize( 50 );
+			assertThat( persistenceContext.getEntitiesToFlush() ).isEmpty();
+
+			items.get( 3 ).setName( "changed" );
+			items.get( 7 ).setName( "changed" );
+			assertThat( persistenceContext.getEntitiesToFlush() ).containsExactlyInAnyOrder( items.get( 3 ), items.get( 7 ) );
+
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+			assertThat( persistenceContext.getEntitiesToFlush() ).isEmpty();
+
+			// modified again after the flush
+			items.get( 3 ).setName( "changed again" );
+			assertThat( persistenceContext.getEntitiesToFlush() ).containsExactly( items.get( 3 ) );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 3 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 4 ).getName() ).isEqualTo( "changed again" );
+			assertThat( session.find( Item.class, 8 ).getName() ).isEqualTo( "changed" );
+			assertThat( session.find( Item.class, 9 ).getName() ).isEqualTo( "Item 9" );
+		} );
+	}
+
+	@Test
+	public void testPersistAndRemove(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final Item item = new Item( 100, "New" );
+			session.persist( item );
+			assertThat( persistenceContext.getEntitiesToFlush() ).containsExactly( item );
+			session.flush();
+			assertThat( persistenceContext.getEntitiesToFlush() ).isEmpty();
+
+			final Item removed = session.find( Item.class, 1 );
+			session.remove( removed );
+			assertThat( persistenceContext.getEntitiesToFlush() ).containsExactly( removed );
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 100 ) ).isNotNull();
+			assertThat( session.find( Item.class, 1 ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testEntityWithMutablePropertyAlwaysVisited(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final Reminder reminder = session.find( Reminder.class, 1 );
+			assertThat( persistenceContext.getEntitiesToFlush() ).containsExactly( reminder );
+			// modified in place, without notifying the session
+			reminder.getDue().setTime( 0L );
+			session.flush();
+			assertThat( persistenceContext.getEntitiesToFlush() ).containsExactly( reminder );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Reminder")
+	public static class Reminder {
+		@Id
+		private Integer id;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date due;
+
+		public Reminder() {
+		}
+
+		public Reminder(Integer id, Date due) {
+			this.id = id;
+			this.due = due;
+		}
+
+		public Date getDue() {
+			return due;
+		}
+	}
+}
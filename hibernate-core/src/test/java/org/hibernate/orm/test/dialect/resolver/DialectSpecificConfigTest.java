@@ -22,6 +22,7 @@
 import static org.hibernate.cfg.DialectSpecificSettings.COCKROACH_VERSION_STRING;
 import static org.hibernate.cfg.DialectSpecificSettings.MYSQL_BYTES_PER_CHARACTER;
 import static org.hibernate.cfg.DialectSpecificSettings.MYSQL_NO_BACKSLASH_ESCAPES;
+import static org.hibernate.cfg.DialectSpecificSettings.MYSQL_STREAMING_FETCH_SIZE;
 import static org.hibernate.cfg.DialectSpecificSettings.ORACLE_AUTONOMOUS_DATABASE;
 import static org.hibernate.cfg.DialectSpecificSettings.ORACLE_EXTENDED_STRING_SIZE;
 import static org.hibernate.cfg.DialectSpecificSettings.SYBASE_ANSI_NULL;
@@ -88,6 +89,19 @@ public void testMySQLNoBackslashEscape() {
 		assertThat( ( (MySQLDialect) dialect ).isNoBackslashEscapesEnabled() ).isTrue();
 	}
 
+	@Test
+	public void testMySQLStreamingFetchSize() {
+		assertThat( resolveDialect( "MySQL", values -> {} ).getStreamingFetchSize() ).isZero();
+
+		final Dialect dialect = resolveDialect(
+				"MySQL",
+				values -> values.put( MYSQL_STREAMING_FETCH_SIZE, String.valueOf( Integer.MIN_VALUE ) )
+		);
+
+		assertThat( dialect ).isInstanceOf( MySQLDialect.class );
+		assertThat( dialect.getStreamingFetchSize() ).isEqualTo( Integer.MIN_VALUE );
+	}
+
 	@Test
 	public void testCockroachDBVersion() {
 		final Dialect dialect = resolveDialect( "PostgreSQL", values -> values.put(
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Interceptor;
+import org.hibernate.annotations.CompactSnapshot;
+import org.hibernate.engine.internal.CompactLoadedState;
+import org.hibernate.engine.internal.EntityEntryImpl;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		CompactSnapshotTest.Measurement.class,
+		CompactSnapshotTest.Label.class
+})
+@SessionFactory(generateStatistics = true)
+public class CompactSnapshotTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) {
+		final BasicTypeRegistry basicTypeRegistry =
+				scope.getSessionFactory().getTypeConfiguration().getBasicTypeRegistry();
+		final Type[] types = {
+				basicTypeRegistry.resolve( StandardBasicTypes.STRING ),
+				basicTypeRegistry.resolve( StandardBasicTypes.INTEGER ),
+				basicTypeRegistry.resolve( StandardBasicTypes.BOOLEAN ),
+				basicTypeRegistry.resolve( StandardBasicTypes.LONG ),
+				basicTypeRegistry.resolve( StandardBasicTypes.CHARACTER ),
+				basicTypeRegistry.resolve( StandardBasicTypes.DOUBLE ),
+				basicTypeRegistry.resolve( StandardBasicTypes.FLOAT ),
+				basicTypeRegistry.resolve( StandardBasicTypes.SHORT ),
+				basicTypeRegistry.resolve( StandardBasicTypes.BYTE ),
+				basicTypeRegistry.resolve( StandardBasicTypes.INTEGER )
+		};
+		final CompactLoadedState.Layout layout =
+				CompactLoadedState.Layout.forProperties( types, new boolean[types.length] );
+		assertThat( layout ).isNotNull();
+
+		final Object[] state = {
+				"text", -1, true, Long.MIN_VALUE, Character.MAX_VALUE, -0.0, Float.NaN, (short) -2, (byte) -3, null
+		};
+		final CompactLoadedState snapshot = CompactLoadedState.of( layout, state );
+		assertThat( snapshot ).isNotNull();
+		assertThat( snapshot.toArray() ).containsExactly( state );
+		assertThat( snapshot.get( 0 ) ).isSameAs( state[0] );
+
+		// a value of an unexpected type cannot be packed
+		state[1] = "not an integer";
+		assertThat( CompactLoadedState.of( layout, state ) ).isNull();
+
+		assertThat( CompactLoadedState.Layout.forProperties(
+				new Type[] { basicTypeRegistry.resolve( StandardBasicTypes.STRING ) },
+				new boolean[1]
+		) ).isNull();
+	}
+
+	@Test
+	public void testDirtyChecking(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Measurement( 1, "Temperature", 20, 21.5, true ) );
+			session.persist( new Label( 1, "Label" ) );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Measurement measurement = session.find( Measurement.class, 1 );
+			final EntityEntryImpl entry = (EntityEntryImpl) session.getPersistenceContextInternal().getEntry( measurement );
+			assertThat( entry.isLoadedStateCompact() ).isTrue();
+			assertThat( entry.getLoadedValue( "reading" ) ).isEqualTo( 21.5 );
+
+			final Label label = session.find( Label.class, 1 );
+			assertThat( ( (EntityEntryImpl) session.getPersistenceContextInternal().getEntry( label ) )
+					.isLoadedStateCompact() ).isFalse();
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isZero();
+
+		scope.inTransaction( session -> {
+			final Measurement measurement = session.find( Measurement.class, 1 );
+			measurement.samples = 21;
+			measurement.valid = null;
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final Measurement measurement = session.find( Measurement.class, 1 );
+			assertThat( measurement.name ).isEqualTo( "Temperature" );
+			assertThat( measurement.samples ).isEqualTo( 21 );
+			assertThat( measurement.reading ).isEqualTo( 21.5 );
+			assertThat( measurement.valid ).isNull();
+		} );
+	}
+
+	@Test
+	public void testSnapshotStaysCompactAfterFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Measurement( 1, "Temperature", 20, 21.5, true ) );
+			session.persist( new Measurement( 2, "Pressure", 10, 1.5, false ) );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Measurement unmodified = session.find( Measurement.class, 1 );
+			final Measurement modified = session.find( Measurement.class, 2 );
+			modified.samples = 11;
+			// the auto-flush before the query dirty-checks both entities
+			session.createSelectionQuery( "from Measurement", Measurement.class ).getResultList();
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+			assertThat( ( (EntityEntryImpl) session.getPersistenceContextInternal().getEntry( unmodified ) )
+					.isLoadedStateCompact() ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testSnapshotExpandedOncePerFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Measurement( 1, "Temperature", 20, 21.5, true ) ) );
+
+		final List<Object[]> previousStates = new ArrayList<>();
+		final Interceptor interceptor = new Interceptor() {
+			@Override
+			public int[] findDirty(
+					Object entity, Object id, Object[] currentState, Object[] previousState,
+					String[] propertyNames, Type[] types) {
+				previousStates.add( previousState );
+				return null;
+			}
+
+			@Override
+			public boolean onFlushDirty(
+					Object entity, Object id, Object[] currentState, Object[] previousState,
+					String[] propertyNames, Type[] types) {
+				previousStates.add( previousState );
+				return false;
+			}
+		};
+		try ( SessionImplementor session = (SessionImplementor)
+				scope.getSessionFactory().withOptions().interceptor( interceptor ).openSession() ) {
+			session.getTransaction().begin();
+			final Measurement measurement = session.find( Measurement.class, 1 );
+			final EntityEntryImpl entry = (EntityEntryImpl) session.getPersistenceContextInternal().getEntry( measurement );
+			for ( int i = 0; i < 3; i++ ) {
+				session.flush();
+			}
+			assertThat( previousStates ).hasSize( 3 );
+			assertThat( entry.isLoadedStateCompact() ).isTrue();
+
+			previousStates.clear();
+			measurement.samples = 21;
+			session.flush();
+			// the dirty check and the update see the same expansion of the snapshot
+			assertThat( previousStates ).hasSize( 2 );
+			assertThat( previousStates.get( 1 ) ).isSameAs( previousStates.get( 0 ) );
+			session.getTransaction().commit();
+		}
+	}
+
+	@Entity(name = "Measurement")
+	@CompactSnapshot
+	public static class Measurement {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private int samples;
+
+		private double reading;
+
+		private Boolean valid;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, String name, int samples, double reading, Boolean valid) {
+			this.id = id;
+			this.name = name;
+			this.samples = samples;
+			this.reading = reading;
+			this.valid = valid;
+		}
+	}
+
+	@Entity(name = "Label")
+	public static class Label {
+		@Id
+		private Integer id;
+
+		private String text;
+
+		public Label() {
+		}
+
+		public Label(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
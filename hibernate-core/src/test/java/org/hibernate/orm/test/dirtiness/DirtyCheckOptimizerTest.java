@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Converter;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = DirtyCheckOptimizerTest.Item.class)
+@SessionFactory(generateStatistics = true)
+public class DirtyCheckOptimizerTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testGeneratedComparisons() {
+		final DirtyCheckOptimizer optimizer = new BytecodeProviderImpl().getDirtyCheckOptimizer(
+				Item.class,
+				new Class<?>[] { Integer.class, Long.class, Double.class, Boolean.class, String.class, null, Character.class }
+		);
+		assertThat( optimizer ).isNotNull();
+
+		final byte[] result = new byte[7];
+		optimizer.findDirty(
+				new Object[] { 1, 2L, Double.NaN, true, "same", "other", LazyPropertyInitializer.UNFETCHED_PROPERTY },
+				new Object[] { 1, 3L, Double.NaN, false, new String( "same" ), "another", 'c' },
+				result
+		);
+		assertThat( result ).containsExactly(
+				DirtyCheckOptimizer.CLEAN,
+				DirtyCheckOptimizer.DIRTY,
+				DirtyCheckOptimizer.CLEAN,
+				DirtyCheckOptimizer.DIRTY,
+				DirtyCheckOptimizer.CLEAN,
+				// not handled by the optimizer
+				(byte) 0,
+				// not fetched
+				(byte) 0
+		);
+
+		final byte[] signedZeros = new byte[7];
+		optimizer.findDirty(
+				new Object[] { null, 2L, 0.0, true, null, null, 'c' },
+				new Object[] { 1, 2L, -0.0, true, null, null, 'd' },
+				signedZeros
+		);
+		assertThat( signedZeros ).containsExactly(
+				(byte) 0,
+				DirtyCheckOptimizer.CLEAN,
+				DirtyCheckOptimizer.DIRTY,
+				DirtyCheckOptimizer.CLEAN,
+				(byte) 0,
+				(byte) 0,
+				DirtyCheckOptimizer.DIRTY
+		);
+	}
+
+	@Test
+	public void testFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Item( 1, "Item", 10, 2.5, true, "code" ) ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1 );
+			// assigning equal values does not make the entity dirty
+			item.name = new String( "Item" );
+			item.quantity = 10;
+			item.code = "code";
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isZero();
+
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1 );
+			item.quantity = 11;
+			item.price = 3.0;
+			item.available = false;
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1 );
+			item.name = null;
+			item.code = "CODE";
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1 );
+			assertThat( item.name ).isNull();
+			assertThat( item.quantity ).isEqualTo( 11 );
+			assertThat( item.price ).isEqualTo( 3.0 );
+			assertThat( item.available ).isFalse();
+			// stored in upper case, read in lower case
+			assertThat( item.code ).isEqualTo( "code" );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private int quantity;
+
+		private double price;
+
+		private boolean available;
+
+		// compared by the converted type, not by the optimizer
+		@Convert(converter = UpperCaseConverter.class)
+		private String code;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, int quantity, double price, boolean available, String code) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+			this.price = price;
+			this.available = available;
+			this.code = code;
+		}
+	}
+
+	@Converter
+	public static class UpperCaseConverter implements AttributeConverter<String, String> {
+		@Override
+		public String convertToDatabaseColumn(String attribute) {
+			return attribute == null ? null : attribute.toUpperCase();
+		}
+
+		@Override
+		public String convertToEntityAttribute(String dbData) {
+			return dbData == null ? null : dbData.toLowerCase();
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.engine.internal.EntityKeyMap;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EntityKeyMapTest {
+
+	private EntityPersister persister;
+	private EntityPersister otherPersister;
+
+	@BeforeEach
+	public void setUp() {
+		persister = mockPersister( "Book" );
+		otherPersister = mockPersister( "Author" );
+	}
+
+	private static EntityPersister mockPersister(String entityName) {
+		final EntityPersister persister = mock( EntityPersister.class );
+		final Type identifierType = mock( Type.class );
+		when( persister.getEntityName() ).thenReturn( entityName );
+		when( persister.getRootEntityName() ).thenReturn( entityName );
+		when( persister.getIdentifierType() ).thenReturn( identifierType );
+		return persister;
+	}
+
+	@Test
+	public void testPutAndGet() {
+		final EntityKeyMap<String> map = new EntityKeyMap<>();
+		for ( long id = 0; id < 1000; id++ ) {
+			assertThat( map.put( new EntityKey( id, persister ), "book" + id ) ).isNull();
+			assertThat( map.put( new EntityKey( id, otherPersister ), "author" + id ) ).isNull();
+		}
+		assertThat( map ).hasSize( 2000 );
+		for ( long id = 0; id < 1000; id++ ) {
+			assertThat( map.get( new EntityKey( id, persister ) ) ).isEqualTo( "book" + id );
+			assertThat( map.get( persister, id ) ).isEqualTo( "book" + id );
+			assertThat( map.get( otherPersister, id ) ).isEqualTo( "author" + id );
+		}
+		assertThat( map.get( persister, 1000L ) ).isNull();
+		assertThat( map.putIfAbsent( new EntityKey( 5L, persister ), "other" ) ).isEqualTo( "book5" );
+		assertThat( map.put( new EntityKey( 5L, persister ), "other" ) ).isEqualTo( "book5" );
+		assertThat( map.get( persister, 5L ) ).isEqualTo( "other" );
+		assertThat( map ).hasSize( 2000 );
+	}
+
+	@Test
+	public void testNullValues() {
+		final EntityKeyMap<String> map = new EntityKeyMap<>();
+		final EntityKey key = new EntityKey( 1L, persister );
+		assertThat( map.put( key, null ) ).isNull();
+		assertThat( map ).hasSize( 1 );
+		assertThat( map.containsKey( key ) ).isTrue();
+		assertThat( map.get( key ) ).isNull();
+		assertThat( map.get( persister, 1L ) ).isNull();
+		assertThat( map.containsValue( null ) ).isTrue();
+		assertThat( map.values() ).containsExactly( (String) null );
+		assertThat( map ).isEqualTo( new HashMap<>( map ) );
+
+		assertThat( map.putIfAbsent( key, "book" ) ).isNull();
+		assertThat( map.get( key ) ).isEqualTo( "book" );
+		assertThat( map.put( key, null ) ).isEqualTo( "book" );
+		assertThat( map.remove( key ) ).isNull();
+		assertThat( map ).isEmpty();
+	}
+
+	@Test
+	public void testRemoveAgainstHashMap() {
+		final Random random = new Random( 42 );
+		final EntityKeyMap<Long> map = new EntityKeyMap<>();
+		final Map<EntityKey, Long> reference = new HashMap<>();
+		for ( int i = 0; i < 100_000; i++ ) {
+			final long id = random.nextInt( 2_000 );
+			final EntityKey key = new EntityKey( id, persister );
+			if ( random.nextBoolean() ) {
+				assertThat( map.put( key, id ) ).isEqualTo( reference.put( key, id ) );
+			}
+			else {
+				assertThat( map.remove( key ) ).isEqualTo( reference.remove( key ) );
+			}
+		}
+		assertThat( map ).hasSize( reference.size() );
+		for ( long id = 0; id < 2_000; id++ ) {
+			assertThat( map.get( persister, id ) ).isEqualTo( reference.get( new EntityKey( id, persister ) ) );
+		}
+		assertThat( map ).isEqualTo( reference );
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		final EntityKeyMap<Long> map = new EntityKeyMap<>();
+		for ( long id = 0; id < 500; id++ ) {
+			map.put( new EntityKey( id, persister ), id );
+		}
+		int visited = 0;
+		for ( Iterator<Long> iterator = map.values().iterator(); iterator.hasNext(); ) {
+			final long id = iterator.next();
+			visited++;
+			if ( id % 2 == 0 ) {
+				iterator.remove();
+			}
+		}
+		assertThat( visited ).isEqualTo( 500 );
+		assertThat( map ).hasSize( 250 );
+		assertThat( map.values() ).allMatch( id -> id % 2 == 1 );
+		for ( long id = 1; id < 500; id += 2 ) {
+			assertThat( map.get( persister, id ) ).isEqualTo( id );
+		}
+
+		map.clear();
+		assertThat( map ).isEmpty();
+		assertThat( map.get( persister, 1L ) ).isNull();
+	}
+}
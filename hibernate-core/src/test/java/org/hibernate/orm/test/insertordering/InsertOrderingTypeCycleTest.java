@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.insertordering;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Entities which reference each other form a cycle of the entity type graph,
+ * so their inserts are ordered by the dependencies between the instances.
+ */
+public class InsertOrderingTypeCycleTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Department.class, Employee.class };
+	}
+
+	@Test
+	public void testBatching() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( long id = 1; id <= 4; id++ ) {
+				final Department department = new Department( id );
+				session.persist( department );
+				session.persist( new Employee( id, department ) );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Department (manager_id,id) values (?,?)", 4 ),
+				new Batch( "insert into Employee (department_id,id) values (?,?)", 4 )
+		);
+		verifyPreparedStatementCount( 2 );
+	}
+
+	@Test
+	public void testBatchingWithManagers() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( long id = 11; id <= 14; id++ ) {
+				final Employee manager = new Employee( id, null );
+				session.persist( manager );
+				final Department department = new Department( id );
+				department.manager = manager;
+				session.persist( department );
+				session.persist( new Employee( id + 10, department ) );
+			}
+
+			clearBatches();
+		} );
+
+		// the managers, then the departments, then the other employees
+		verifyPreparedStatementCount( 3 );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Employee manager;
+
+		public Department() {
+		}
+
+		public Department(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
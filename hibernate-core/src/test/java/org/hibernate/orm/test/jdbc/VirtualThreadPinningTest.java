@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs a workload on virtual threads, pausing every time a statement is prepared,
+ * and verifies that the pause never pins the carrier thread, that is, that no
+ * monitor is held while Hibernate prepares and executes a statement.
+ */
+@DomainModel(annotatedClasses = {
+		VirtualThreadPinningTest.Counted.class,
+		VirtualThreadPinningTest.Pooled.class
+})
+@SessionFactory(statementInspectorClass = VirtualThreadPinningTest.PausingStatementInspector.class)
+public class VirtualThreadPinningTest {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private static final int THREADS = 32;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testNoPinning(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = virtualThreadExecutor();
+		assumeTrue( executor != null, "Virtual threads are not available" );
+
+		// load the classes and translate the queries up front
+		runWorkload( scope, "warm-up" );
+
+		final Path dump = Files.createTempFile( "pinning", ".jfr" );
+		try ( Recording recording = new Recording() ) {
+			recording.enable( PINNED_EVENT ).withThreshold( Duration.ZERO ).withStackTrace();
+			recording.start();
+
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < THREADS; i++ ) {
+				final String name = "thread " + i;
+				futures.add( executor.submit( () -> runWorkload( scope, name ) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+
+			recording.stop();
+			recording.dump( dump );
+
+			final List<RecordedEvent> pinnedEvents = new ArrayList<>();
+			for ( RecordedEvent event : RecordingFile.readAllEvents( dump ) ) {
+				if ( event.getEventType().getName().equals( PINNED_EVENT ) && isPausedStatement( event ) ) {
+					pinnedEvents.add( event );
+				}
+			}
+			assertThat( pinnedEvents ).isEmpty();
+		}
+		finally {
+			executor.shutdown();
+			Files.deleteIfExists( dump );
+		}
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Counted", Counted.class ).getResultCount() )
+					.isEqualTo( THREADS + 1L );
+			assertThat( session.createSelectionQuery( "from Pooled", Pooled.class ).getResultCount() )
+					.isEqualTo( THREADS + 1L );
+		} );
+	}
+
+	private static void runWorkload(SessionFactoryScope scope, String name) {
+		final Counted counted = new Counted( name );
+		final Pooled pooled = new Pooled( name );
+		scope.inTransaction( session -> {
+			session.persist( counted );
+			session.persist( pooled );
+		} );
+		scope.inTransaction( session -> {
+			session.find( Counted.class, counted.id ).name = name + " (updated)";
+			session.createSelectionQuery( "from Pooled where name = :name", Pooled.class )
+					.setParameter( "name", name )
+					.getSingleResult();
+		} );
+	}
+
+	private static boolean isPausedStatement(RecordedEvent event) {
+		if ( event.getStackTrace() != null ) {
+			for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+				if ( frame.getMethod().getType().getName().equals( PausingStatementInspector.class.getName() ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static ExecutorService virtualThreadExecutor() throws ReflectiveOperationException {
+		try {
+			// available since JDK 21
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Parks the current thread, as a blocking JDBC call would, when a
+	 * statement is prepared. A virtual thread parked while holding a
+	 * monitor pins its carrier thread.
+	 */
+	public static class PausingStatementInspector implements StatementInspector {
+		@Override
+		public String inspect(String sql) {
+			try {
+				Thread.sleep( 1 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return sql;
+		}
+	}
+
+	@Entity(name = "Counted")
+	public static class Counted {
+		@Id
+		@GeneratedValue(generator = "increment")
+		private Long id;
+
+		private String name;
+
+		public Counted() {
+		}
+
+		public Counted(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Pooled")
+	public static class Pooled {
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled")
+		@TableGenerator(name = "pooled", allocationSize = 5)
+		private Long id;
+
+		private String name;
+
+		public Pooled() {
+		}
+
+		public Pooled(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.paging.keybased;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.hibernate.query.Order;
+import org.hibernate.query.Page;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SessionFactory
+@DomainModel(annotatedClasses = KeyedResultStreamTest.Book.class)
+public class KeyedResultStreamTest {
+
+	private static final int BOOKS = 25;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= BOOKS; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testProcessedPagesEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> processed = new ArrayList<>();
+			int maxManagedEntities = 0;
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book", Book.class )
+					.getKeyedResultStream( Page.first( 10 ).keyedBy( Order.asc( Book.class, "id" ) ) ) ) {
+				for ( Book book : (Iterable<Book>) books::iterator ) {
+					assertThat( session.contains( book ) ).isTrue();
+					processed.add( book );
+					maxManagedEntities = Math.max(
+							maxManagedEntities,
+							session.getPersistenceContextInternal().getNumberOfManagedEntities()
+					);
+				}
+			}
+			assertThat( processed ).extracting( book -> book.id )
+					.containsExactlyElementsOf( IntStream.rangeClosed( 1, BOOKS ).boxed().toList() );
+			// a page is read with one additional result
+			assertThat( maxManagedEntities ).isEqualTo( 11 );
+			assertThat( session.contains( processed.get( 0 ) ) ).isFalse();
+			// the last page is not evicted
+			assertThat( session.contains( processed.get( BOOKS - 1 ) ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testFirstPageWithOffset(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book where id > 5", Book.class )
+					.getKeyedResultStream( Page.page( 5, 1 ).keyedBy( Order.asc( Book.class, "id" ) ) ) ) {
+				assertThat( books.map( book -> book.id ) )
+						.containsExactlyElementsOf( IntStream.rangeClosed( 11, BOOKS ).boxed().toList() );
+			}
+		} );
+	}
+
+	@Test
+	public void testStatelessSession(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book", Book.class )
+					.getKeyedResultStream( Page.first( 10 ).keyedBy( Order.desc( Book.class, "id" ) ) ) ) {
+				assertThat( books.map( book -> book.title ) ).hasSize( BOOKS ).startsWith( "Book 25", "Book 24" );
+			}
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.pc;
+
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		PersistenceContextLookupByIdTest.Animal.class,
+		PersistenceContextLookupByIdTest.Dog.class
+})
+@SessionFactory
+public class PersistenceContextLookupByIdTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Animal( 1L ) );
+			session.persist( new Dog( 2L ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testLookupById(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final EntityPersister animalPersister =
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( Animal.class );
+			final EntityPersister dogPersister =
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( Dog.class );
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+
+			assertThat( persistenceContext.getEntity( animalPersister, 1L ) ).isNull();
+			assertThat( persistenceContext.getEntityHolder( animalPersister, 1L ) ).isNull();
+
+			final Animal animal = session.find( Animal.class, 1L );
+			final Dog dog = session.find( Dog.class, 2L );
+			assertThat( persistenceContext.getEntity( animalPersister, 1L ) ).isSameAs( animal );
+			assertThat( persistenceContext.getEntity( animalPersister, 2L ) ).isSameAs( dog );
+			assertThat( persistenceContext.getEntity( dogPersister, 2L ) ).isSameAs( dog );
+			assertThat( persistenceContext.getEntity( animalPersister, 3L ) ).isNull();
+
+			final EntityHolder holder = persistenceContext.getEntityHolder( dogPersister, 2L );
+			assertThat( holder ).isNotNull();
+			assertThat( holder.getEntityKey() )
+					.isEqualTo( session.generateEntityKey( 2L, dogPersister ) );
+
+			// a repeated load finds the managed instance
+			assertThat( session.find( Animal.class, 1L ) ).isSameAs( animal );
+			assertThat( session.getReference( Dog.class, 2L ) ).isSameAs( dog );
+		} );
+	}
+
+	@Entity(name = "Animal")
+	public static class Animal {
+		@Id
+		private Long id;
+
+		public Animal() {
+		}
+
+		public Animal(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(Long id) {
+			super( id );
+		}
+	}
+}
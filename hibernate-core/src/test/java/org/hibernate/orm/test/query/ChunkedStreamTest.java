@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		ChunkedStreamTest.Book.class,
+		ChunkedStreamTest.Publisher.class,
+		ChunkedStreamTest.Author.class
+})
+@ServiceRegistry(settings = @Setting(name = FetchSettings.DEFAULT_BATCH_FETCH_SIZE, value = "5"))
+@SessionFactory
+public class ChunkedStreamTest {
+
+	private static final int BOOKS = 25;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher publisher = new Publisher( 1, "Manning" );
+			session.persist( publisher );
+			for ( int i = 1; i <= BOOKS; i++ ) {
+				final Author author = new Author( i, "Author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "Book " + i, publisher, author ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testProcessedEntitiesEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// already managed, so never evicted
+			final Publisher publisher = session.find( Publisher.class, 1 );
+
+			final List<Book> processed = new ArrayList<>();
+			int maxManagedEntities = 0;
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.stream( 10 ) ) {
+				for ( Book book : (Iterable<Book>) books::iterator ) {
+					assertThat( session.contains( book ) ).isTrue();
+					assertThat( book.publisher ).isSameAs( publisher );
+					processed.add( book );
+					maxManagedEntities = Math.max(
+							maxManagedEntities,
+							session.getPersistenceContextInternal().getNumberOfManagedEntities()
+					);
+				}
+			}
+			assertThat( processed ).hasSize( BOOKS );
+			assertThat( processed.get( BOOKS - 1 ).title ).isEqualTo( "Book " + BOOKS );
+			assertThat( maxManagedEntities ).isEqualTo( 11 );
+			assertThat( session.contains( publisher ) ).isTrue();
+			assertThat( session.contains( processed.get( 0 ) ) ).isFalse();
+			// the last chunk is not evicted
+			assertThat( session.contains( processed.get( BOOKS - 1 ) ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testLazyAssociationTargetsEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<Book> processed = new ArrayList<>();
+			int maxEntityHolders = 0;
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.stream( 10 ) ) {
+				for ( Book book : (Iterable<Book>) books::iterator ) {
+					assertThat( Hibernate.isInitialized( book.author ) ).isFalse();
+					processed.add( book );
+					maxEntityHolders = Math.max(
+							maxEntityHolders,
+							persistenceContext.getEntityHoldersByKey().size()
+					);
+				}
+			}
+			assertThat( processed ).hasSize( BOOKS );
+			// the books of a chunk, the proxies of their authors, and the proxy of the publisher
+			assertThat( maxEntityHolders ).isLessThanOrEqualTo( 2 * 10 + 1 );
+
+			final Author firstAuthor = processed.get( 0 ).author;
+			assertThat( session.contains( firstAuthor ) ).isFalse();
+			assertThat( persistenceContext.getBatchFetchQueue().containsEntityKey( authorKey( session, 1 ) ) )
+					.isFalse();
+			// the last chunk is not evicted
+			final Author lastAuthor = processed.get( BOOKS - 1 ).author;
+			assertThat( session.contains( lastAuthor ) ).isTrue();
+			assertThat( persistenceContext.getBatchFetchQueue().containsEntityKey( authorKey( session, BOOKS ) ) )
+					.isTrue();
+			assertThat( lastAuthor.getName() ).isEqualTo( "Author " + BOOKS );
+		} );
+	}
+
+	private static EntityKey authorKey(SessionImplementor session, Integer id) {
+		return session.generateEntityKey(
+				id,
+				session.getFactory().getMappingMetamodel().getEntityDescriptor( Author.class )
+		);
+	}
+
+	@Test
+	public void testStatelessSession(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book", Book.class ).stream( 10 ) ) {
+				assertThat( books.count() ).isEqualTo( BOOKS );
+			}
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Publisher publisher;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Publisher publisher, Author author) {
+			this.id = id;
+			this.title = title;
+			this.publisher = publisher;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingProducerProviderStandard;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducerProvider;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.type.YesNoConverter;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = GeneratedRowReaderTest.Product.class)
+@ServiceRegistry(
+		settings = @Setting(name = QuerySettings.GENERATED_ROW_READERS, value = "true"),
+		services = @ServiceRegistry.Service(
+				role = JdbcValuesMappingProducerProvider.class,
+				impl = GeneratedRowReaderTest.RecordingJdbcValuesMappingProducerProvider.class
+		)
+)
+@SessionFactory
+public class GeneratedRowReaderTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1, "Hammer", 12.5, true ) );
+			session.persist( new Product( 2, "Saw", 20.0, false ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testScalarRows(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final String hql = "select p.id, p.name, p.price, p.available, upper(p.name) from Product p order by p.id";
+			// the second execution uses the cached query plan
+			for ( int i = 0; i < 2; i++ ) {
+				RecordingJdbcValuesMappingProducerProvider.MAPPINGS.clear();
+				final List<Object[]> rows = session.createSelectionQuery( hql, Object[].class ).getResultList();
+				assertThat( rows ).hasSize( 2 );
+				assertThat( rows.get( 0 ) ).containsExactly( 1, "Hammer", 12.5, true, "HAMMER" );
+				assertThat( rows.get( 1 ) ).containsExactly( 2, "Saw", 20.0, false, "SAW" );
+				assertThat( resolveRowReaderOptimizer( scope ) ).isNotNull();
+			}
+		} );
+	}
+
+	@Test
+	public void testRowsWithEntity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			RecordingJdbcValuesMappingProducerProvider.MAPPINGS.clear();
+			final List<Object[]> rows = session.createSelectionQuery(
+					"select p, p.available from Product p order by p.id",
+					Object[].class
+			).getResultList();
+			assertThat( rows ).hasSize( 2 );
+			assertThat( ( (Product) rows.get( 0 )[0] ).name ).isEqualTo( "Hammer" );
+			assertThat( rows.get( 0 )[1] ).isEqualTo( true );
+			// rows with an entity are assembled by the standard row reader
+			assertThat( resolveRowReaderOptimizer( scope ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testOptimizerSharedPerShape(SessionFactoryScope scope) {
+		final BytecodeProvider bytecodeProvider =
+				scope.getSessionFactory().getServiceRegistry().requireService( BytecodeProvider.class );
+		final RowReaderOptimizer optimizer = bytecodeProvider.getRowReaderOptimizer( new int[] { 0, -1, 2 } );
+		assertThat( optimizer ).isNotNull();
+		assertThat( bytecodeProvider.getRowReaderOptimizer( new int[] { 0, -1, 2 } ) )
+				.isExactlyInstanceOf( optimizer.getClass() );
+		assertThat( bytecodeProvider.getRowReaderOptimizer( new int[] { 1, -1, 2 } ) )
+				.isNotExactlyInstanceOf( optimizer.getClass() );
+	}
+
+	private static RowReaderOptimizer resolveRowReaderOptimizer(SessionFactoryScope scope) {
+		assertThat( RecordingJdbcValuesMappingProducerProvider.MAPPINGS ).hasSize( 1 );
+		// the resolution is cached by the mapping, so this is the one used by the query
+		return RecordingJdbcValuesMappingProducerProvider.MAPPINGS.get( 0 )
+				.resolveAssemblers( scope.getSessionFactory() )
+				.getRowReaderOptimizer();
+	}
+
+	public static class RecordingJdbcValuesMappingProducerProvider extends JdbcValuesMappingProducerProviderStandard {
+		static final List<JdbcValuesMapping> MAPPINGS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public JdbcValuesMappingProducer buildMappingProducer(
+				SelectStatement sqlAst,
+				SessionFactoryImplementor sessionFactory) {
+			final JdbcValuesMappingProducer producer = super.buildMappingProducer( sqlAst, sessionFactory );
+			return new JdbcValuesMappingProducer() {
+				@Override
+				public JdbcValuesMapping resolve(
+						JdbcValuesMetadata jdbcResultsMetadata,
+						LoadQueryInfluencers loadQueryInfluencers,
+						SessionFactoryImplementor sessionFactory) {
+					final JdbcValuesMapping mapping =
+							producer.resolve( jdbcResultsMetadata, loadQueryInfluencers, sessionFactory );
+					MAPPINGS.add( mapping );
+					return mapping;
+				}
+
+				@Override
+				public void addAffectedTableNames(Set<String> affectedTableNames, SessionFactoryImplementor sessionFactory) {
+					producer.addAffectedTableNames( affectedTableNames, sessionFactory );
+				}
+			};
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private double price;
+
+		@Convert(converter = YesNoConverter.class)
+		private boolean available;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, double price, boolean available) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+			this.available = available;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.HqlInterpretationCacheStore;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@BaseUnitTest
+public class HqlInterpretationCacheStoreTest {
+
+	private static final String QUERY = "select b.title from Book b where b.isbn = :isbn";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testQueriesAreInterpretedAfterRestart() {
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( Book.class ) ) {
+			sessionFactory.inTransaction( session -> session.createQuery( QUERY, String.class ) );
+		}
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( Book.class ) ) {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getCachedHqlQueryStrings() )
+					.contains( QUERY );
+		}
+	}
+
+	@Test
+	public void testQueriesAreIgnoredAfterModelChange() {
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( Book.class ) ) {
+			sessionFactory.inTransaction( session -> session.createQuery( QUERY, String.class ) );
+		}
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( Book.class, Author.class ) ) {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getCachedHqlQueryStrings() )
+					.doesNotContain( QUERY );
+		}
+	}
+
+	@Test
+	public void testCorruptFileIsIgnored() throws Exception {
+		final Path file = directory.resolve( "queries" );
+		final HqlInterpretationCacheStore store = new HqlInterpretationCacheStore( file, "fingerprint" );
+		store.save( List.of( QUERY, "from Book" ) );
+		assertThat( store.load() ).containsExactly( QUERY, "from Book" );
+		final byte[] bytes = Files.readAllBytes( file );
+
+		// truncated in the middle of a query string
+		Files.write( file, Arrays.copyOf( bytes, bytes.length - 3 ) );
+		assertThat( store.load() ).isEmpty();
+
+		// the count of query strings follows the magic number and the fingerprint
+		final int countOffset = Integer.BYTES + Short.BYTES + "fingerprint".length();
+		final byte[] hugeCount = bytes.clone();
+		ByteBuffer.wrap( hugeCount ).putInt( countOffset, Integer.MAX_VALUE );
+		Files.write( file, hugeCount );
+		assertThat( store.load() ).isEmpty();
+
+		final byte[] negativeLength = bytes.clone();
+		ByteBuffer.wrap( negativeLength ).putInt( countOffset + Integer.BYTES, -1 );
+		Files.write( file, negativeLength );
+		assertThat( store.load() ).isEmpty();
+	}
+
+	private SessionFactoryImplementor buildSessionFactory(Class<?>... entityClasses) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_PLAN_CACHE_STORE_DIRECTORY, directory.toString() )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( registry );
+			for ( Class<?> entityClass : entityClasses ) {
+				metadataSources.addAnnotatedClass( entityClass );
+			}
+			return (SessionFactoryImplementor) metadataSources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		private String isbn;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
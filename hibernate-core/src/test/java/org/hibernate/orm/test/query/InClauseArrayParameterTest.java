@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.HSQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = InClauseArrayParameterTest.Person.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.IN_CLAUSE_ARRAY_PARAMETER, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(HSQLDialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+@RequiresDialect(CockroachDialect.class)
+public class InClauseArrayParameterTest {
+
+	private static final String HQL = "select p.id from Person p where p.id in :ids order by p.id";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				final Person person = new Person();
+				person.id = i;
+				person.name = "Person nr " + i;
+				session.persist( person );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testListIsBoundAsSingleArray(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+
+		for ( int size : new int[] { 1, 3, 10, 25 } ) {
+			final List<Integer> ids = IntStream.rangeClosed( 1, size ).boxed().collect( Collectors.toList() );
+			statementInspector.clear();
+			scope.inTransaction( session -> assertThat(
+					session.createSelectionQuery( HQL, Integer.class )
+							.setParameter( "ids", ids )
+							.getResultList()
+			).containsExactlyElementsOf( ids.subList( 0, Math.min( size, 20 ) ) ) );
+			statementInspector.assertExecutedCount( 1 );
+			statementInspector.assertNumberOfOccurrenceInQuery( 0, "?", 1 );
+		}
+
+		assertThat( sessionFactory.getStatistics().getQueryStatistics( HQL ).getSqlVariantCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testNegatedListIsNotRewritten(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select p.id from Person p where p.id not in :ids", Integer.class )
+						.setParameter( "ids", List.of( 1, 2, 3 ) )
+						.getResultList()
+		).hasSize( 17 ) );
+		statementInspector.assertNumberOfOccurrenceInQuery( 0, "?", 3 );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+}
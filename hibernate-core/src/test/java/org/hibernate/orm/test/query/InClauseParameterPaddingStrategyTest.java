@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.Arrays;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.InClauseParameterPaddingStrategies;
+import org.hibernate.query.spi.InClauseParameterPaddingStrategy;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Jpa(
+		annotatedClasses = { InClauseParameterPaddingStrategyTest.Person.class },
+		integrationSettings = {
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+				@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true"),
+				@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING_STRATEGY, value = "3, 6"),
+				@Setting(name = AvailableSettings.DIALECT_NATIVE_PARAM_MARKERS, value = "false")
+		},
+		useCollectingStatementInspector = true
+)
+public class InClauseParameterPaddingStrategyTest {
+
+	private static final String HQL = "select p from Person p where p.id in :ids";
+
+	@BeforeEach
+	protected void setUp(EntityManagerFactoryScope scope) {
+		scope.inTransaction( entityManager -> {
+			for ( int i = 1; i < 10; i++ ) {
+				Person person = new Person();
+				person.id = i;
+				person.name = String.format( "Person nr %d", i );
+				entityManager.persist( person );
+			}
+		} );
+		statistics( scope ).clear();
+	}
+
+	@AfterEach
+	protected void cleanup(EntityManagerFactoryScope scope) {
+		scope.getEntityManagerFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testFixedBuckets(EntityManagerFactoryScope scope) {
+		validateInClause( scope, "in (?,?,?)", 1 );
+		validateInClause( scope, "in (?,?,?)", 1, 2, 3 );
+		validateInClause( scope, "in (?,?,?,?,?,?)", 1, 2, 3, 4 );
+		validateInClause( scope, "in (?,?,?,?,?,?)", 1, 2, 3, 4, 5, 6 );
+		validateInClause( scope, "in (?,?,?,?,?,?,?,?,?,?,?,?)", 1, 2, 3, 4, 5, 6, 7 );
+
+		assertThat( statistics( scope ).getQueryStatistics( HQL ).getSqlVariantCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testBuiltInStrategies() {
+		final InClauseParameterPaddingStrategy fibonacci = InClauseParameterPaddingStrategies.FIBONACCI;
+		assertThat( fibonacci.determinePaddedSize( 1 ) ).isEqualTo( 1 );
+		assertThat( fibonacci.determinePaddedSize( 2 ) ).isEqualTo( 2 );
+		assertThat( fibonacci.determinePaddedSize( 4 ) ).isEqualTo( 5 );
+		assertThat( fibonacci.determinePaddedSize( 9 ) ).isEqualTo( 13 );
+		assertThat( fibonacci.determinePaddedSize( 1000 ) ).isEqualTo( 1597 );
+
+		final InClauseParameterPaddingStrategy buckets = InClauseParameterPaddingStrategies.fixedBuckets( 100, 10, 50 );
+		assertThat( buckets.determinePaddedSize( 1 ) ).isEqualTo( 10 );
+		assertThat( buckets.determinePaddedSize( 10 ) ).isEqualTo( 10 );
+		assertThat( buckets.determinePaddedSize( 11 ) ).isEqualTo( 50 );
+		assertThat( buckets.determinePaddedSize( 100 ) ).isEqualTo( 100 );
+		assertThat( buckets.determinePaddedSize( 101 ) ).isEqualTo( 200 );
+
+		assertThat( InClauseParameterPaddingStrategy.POWER_OF_TWO.determinePaddedSize( 5 ) ).isEqualTo( 8 );
+	}
+
+	private void validateInClause(EntityManagerFactoryScope scope, String expectedInClause, Integer... ids) {
+		final SQLStatementInspector sqlStatementInterceptor = scope.getCollectingStatementInspector();
+		sqlStatementInterceptor.clear();
+
+		scope.inTransaction( entityManager -> {
+			assertThat( entityManager.createQuery( HQL, Person.class )
+					.setParameter( "ids", Arrays.asList( ids ) )
+					.getResultList() )
+					.hasSize( ids.length );
+		} );
+
+		assertThat( sqlStatementInterceptor.getSqlQueries().get( 0 ) ).endsWith( expectedInClause );
+	}
+
+	private static Statistics statistics(EntityManagerFactoryScope scope) {
+		return scope.getEntityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.sqm.UnknownEntityException;
+import org.hibernate.query.sqm.UnknownPathException;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = ParallelNamedQueryCheckTest.Thing.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.QUERY_STARTUP_CHECKING, value = "false"),
+		@Setting(name = AvailableSettings.QUERY_STARTUP_CHECK_PARALLELISM, value = "4")
+})
+@SessionFactory(generateStatistics = true)
+public class ParallelNamedQueryCheckTest {
+
+	@Test
+	public void testErrorsAreTheSameForAnyParallelism(SessionFactoryScope scope) {
+		final QueryEngine queryEngine = scope.getSessionFactory().getQueryEngine();
+
+		final Map<String, HibernateException> serialErrors =
+				queryEngine.getNamedObjectRepository().checkNamedQueries( queryEngine, 1 );
+		final Map<String, HibernateException> parallelErrors =
+				queryEngine.getNamedObjectRepository().checkNamedQueries( queryEngine, 4 );
+
+		assertThat( parallelErrors.keySet() )
+				.containsExactly( "Thing.unknownAttribute", "Thing.unknownEntity" )
+				.containsExactlyElementsOf( serialErrors.keySet() );
+		assertThat( parallelErrors.get( "Thing.unknownAttribute" ) ).isInstanceOf( UnknownPathException.class );
+		assertThat( parallelErrors.get( "Thing.unknownEntity" ) ).isInstanceOf( UnknownEntityException.class );
+	}
+
+	@Test
+	public void testValidQueriesAreCached(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final QueryEngine queryEngine = factory.getQueryEngine();
+		queryEngine.getNamedObjectRepository().checkNamedQueries( queryEngine, 4 );
+
+		final Statistics statistics = factory.getStatistics();
+		statistics.clear();
+		for ( String hql : List.of( "from Thing", "from Thing where name = :name", "select count(*) from Thing" ) ) {
+			queryEngine.interpretHql( hql, null );
+		}
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 3 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "Thing")
+	@NamedQuery(name = "Thing.all", query = "from Thing")
+	@NamedQuery(name = "Thing.byName", query = "from Thing where name = :name")
+	@NamedQuery(name = "Thing.count", query = "select count(*) from Thing")
+	@NamedQuery(name = "Thing.unknownAttribute", query = "from Thing where colour = 'red'")
+	@NamedQuery(name = "Thing.unknownEntity", query = "from Nothing")
+	public static class Thing {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
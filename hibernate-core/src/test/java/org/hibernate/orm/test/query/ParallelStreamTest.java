@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = ParallelStreamTest.Book.class)
+@SessionFactory
+public class ParallelStreamTest {
+
+	private static final int BOOKS = 100;
+
+	private ExecutorService executorService;
+	private final AtomicInteger executions = new AtomicInteger();
+	private final Executor executor = command -> {
+		executions.incrementAndGet();
+		executorService.execute( command );
+	};
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		executorService = Executors.newFixedThreadPool( 4 );
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= BOOKS; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		executorService.shutdownNow();
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testPartitions(SessionFactoryScope scope) {
+		executions.set( 0 );
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book where title like :title", Book.class )
+					.setParameter( "title", "Book%" )
+					.parallelStream( 4, executor ) ) {
+				final List<Book> results = books.toList();
+				assertThat( results ).extracting( book -> book.id )
+						.containsExactlyInAnyOrderElementsOf( LongStream.rangeClosed( 1, BOOKS ).boxed().toList() );
+				// read by stateless sessions
+				assertThat( results ).noneMatch( session::contains );
+			}
+			assertThat( executions.get() ).isEqualTo( 4 );
+		} );
+	}
+
+	@Test
+	public void testFewerIdentifiersThanPartitions(SessionFactoryScope scope) {
+		executions.set( 0 );
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book where id > 98", Book.class )
+					.parallelStream( 4, executor ) ) {
+				assertThat( books.map( book -> book.title ) ).containsExactlyInAnyOrder( "Book 99", "Book 100" );
+			}
+			assertThat( executions.get() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testNoResults(SessionFactoryScope scope) {
+		executions.set( 0 );
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book where id > :id", Book.class )
+					.setParameter( "id", (long) BOOKS )
+					.parallelStream( 4, executor ) ) {
+				assertThat( books ).isEmpty();
+			}
+			assertThat( executions.get() ).isZero();
+		} );
+	}
+
+	@Test
+	public void testOrderedQueryNotPartitioned(SessionFactoryScope scope) {
+		executions.set( 0 );
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book order by id desc", Book.class )
+					.parallelStream( 4, executor ) ) {
+				final List<Book> results = books.toList();
+				assertThat( results ).hasSize( BOOKS );
+				assertThat( results.get( 0 ).id ).isEqualTo( (long) BOOKS );
+				assertThat( results ).allMatch( session::contains );
+			}
+			assertThat( executions.get() ).isZero();
+		} );
+	}
+
+	@Test
+	public void testEnabledFilter(SessionFactoryScope scope) {
+		executions.set( 0 );
+		scope.inTransaction( session -> {
+			session.enableFilter( "titlePrefix" ).setParameter( "prefix", "Book 1%" );
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book", Book.class )
+					.parallelStream( 4, executor ) ) {
+				assertThat( books.map( book -> book.id ) ).containsExactlyInAnyOrderElementsOf(
+						LongStream.rangeClosed( 1, BOOKS )
+								.filter( id -> Long.toString( id ).startsWith( "1" ) )
+								.boxed()
+								.toList()
+				);
+			}
+			assertThat( executions.get() ).isEqualTo( 4 );
+		} );
+	}
+
+	@Test
+	public void testProjectionNotPartitioned(SessionFactoryScope scope) {
+		executions.set( 0 );
+		scope.inTransaction( session -> {
+			try ( Stream<String> titles = session.createSelectionQuery( "select title from Book", String.class )
+					.parallelStream( 4, executor ) ) {
+				assertThat( titles ).hasSize( BOOKS );
+			}
+			try ( Stream<Object[]> rows = session.createSelectionQuery( "select id, title from Book", Object[].class )
+					.parallelStream( 4, executor ) ) {
+				assertThat( rows ).hasSize( BOOKS );
+			}
+			assertThat( executions.get() ).isZero();
+		} );
+	}
+
+	@Entity(name = "Book")
+	@FilterDef(
+			name = "titlePrefix",
+			parameters = @ParamDef(name = "prefix", type = String.class),
+			defaultCondition = "title like :prefix"
+	)
+	@Filter(name = "titlePrefix")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lazy associations must be fetchable while the results of a stream are read,
+ * whatever the {@linkplain org.hibernate.dialect.Dialect#getStreamingFetchSize
+ * streaming fetch size} of the dialect.
+ */
+@DomainModel(annotatedClasses = {
+		StreamLazyAssociationTest.Book.class,
+		StreamLazyAssociationTest.Author.class
+})
+@SessionFactory
+public class StreamLazyAssociationTest {
+
+	private static final int BOOKS = 20;
+
+	private static final String HQL = "from Book order by id";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= BOOKS; i++ ) {
+				final Author author = new Author( i, "Author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "Book " + i, author ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testAssociationLoadedWhileStreaming(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( HQL, Book.class ).stream() ) {
+				assertThat( books.map( book -> book.author.getName() ) ).containsExactlyElementsOf( authorNames() );
+			}
+		} );
+	}
+
+	@Test
+	public void testAssociationLoadedWhileStreamingOutsideTransaction(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( HQL, Book.class ).stream() ) {
+				assertThat( books.map( book -> book.author.getName() ) ).containsExactlyElementsOf( authorNames() );
+			}
+		} );
+	}
+
+	private static List<String> authorNames() {
+		return IntStream.rangeClosed( 1, BOOKS ).mapToObj( i -> "Author " + i ).toList();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = StreamingFetchSizeTest.Item.class)
+@ServiceRegistry(
+		settingProviders = {
+				@SettingProvider(
+						settingName = AvailableSettings.DIALECT,
+						provider = StreamingFetchSizeTest.TestSettingProvider.class),
+				@SettingProvider(
+						settingName = AvailableSettings.CONNECTION_PROVIDER,
+						provider = PreparedStatementSpyConnectionProviderSettingProvider.class)
+		}
+)
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class StreamingFetchSizeTest {
+
+	private static final String HQL = "from Item order by id";
+
+	private PreparedStatementSpyConnectionProvider connectionProvider;
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	public static class TestDialect extends H2Dialect {
+		@Override
+		public int getStreamingFetchSize() {
+			return 50;
+		}
+
+		@Override
+		public boolean requiresAutoCommitDisabledForStreaming() {
+			return true;
+		}
+	}
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		final Map<String, Object> properties = scope.getSessionFactory().getProperties();
+		connectionProvider =
+				(PreparedStatementSpyConnectionProvider) properties.get( AvailableSettings.CONNECTION_PROVIDER );
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i ) );
+			}
+		} );
+	}
+
+	@BeforeEach
+	public void clear() {
+		connectionProvider.clear();
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Item> items = session.createSelectionQuery( HQL, Item.class ).stream() ) {
+				assertThat( items.count() ).isEqualTo( 5 );
+			}
+			assertThat( fetchSizes() ).containsExactly( 50 );
+		} );
+	}
+
+	@Test
+	public void testListAndScrollInsensitive(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( HQL, Item.class ).list() ).hasSize( 5 );
+			try ( ScrollableResults<Item> items = session.createSelectionQuery( HQL, Item.class )
+					.scroll( ScrollMode.SCROLL_INSENSITIVE ) ) {
+				assertThat( items.next() ).isTrue();
+			}
+			assertThat( fetchSizes() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testExplicitFetchSize(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Item> items = session.createSelectionQuery( HQL, Item.class ).setFetchSize( 2 ).stream() ) {
+				assertThat( items.count() ).isEqualTo( 5 );
+			}
+			assertThat( fetchSizes() ).containsExactly( 2 );
+		} );
+	}
+
+	@Test
+	public void testAutoCommitDisabledOutsideTransaction(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			try ( ScrollableResults<Item> items = session.createSelectionQuery( HQL, Item.class )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				assertThat( items.next() ).isTrue();
+				assertThat( session.doReturningWork( Connection::getAutoCommit ) ).isFalse();
+				while ( items.next() ) {
+					assertThat( items.get() ).isNotNull();
+				}
+			}
+			assertThat( session.doReturningWork( Connection::getAutoCommit ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testAutoCommitRestoredAfterTransactionBegunWhileStreaming(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			try ( ScrollableResults<Item> items = session.createSelectionQuery( HQL, Item.class )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				assertThat( items.next() ).isTrue();
+				session.beginTransaction();
+				while ( items.next() ) {
+					assertThat( items.get() ).isNotNull();
+				}
+			}
+			// re-enabling auto-commit would commit the transaction
+			assertThat( session.doReturningWork( Connection::getAutoCommit ) ).isFalse();
+			session.getTransaction().commit();
+			// the connection may have been released when the transaction completed
+			for ( Connection connection : connectionProvider.getReleasedConnections() ) {
+				assertThat( autoCommitModes( connection ) ).endsWith( true );
+			}
+			assertThat( session.doReturningWork( Connection::getAutoCommit ) ).isTrue();
+		} );
+	}
+
+	private List<Object> autoCommitModes(Connection connection) {
+		try {
+			final List<Object> autoCommitModes = new ArrayList<>();
+			for ( Object[] arguments : connectionProvider.spyContext.getCalls(
+					Connection.class.getMethod( "setAutoCommit", boolean.class ),
+					connection
+			) ) {
+				autoCommitModes.add( arguments[0] );
+			}
+			return autoCommitModes;
+		}
+		catch (NoSuchMethodException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	private List<Object> fetchSizes() {
+		final List<Object> fetchSizes = new ArrayList<>();
+		try {
+			for ( PreparedStatement statement : connectionProvider.getPreparedStatements() ) {
+				for ( Object[] arguments : connectionProvider.spyContext.getCalls(
+						Statement.class.getMethod( "setFetchSize", int.class ),
+						statement
+				) ) {
+					fetchSizes.add( arguments[0] );
+				}
+			}
+		}
+		catch (NoSuchMethodException e) {
+			throw new AssertionError( e );
+		}
+		return fetchSizes;
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		public Item() {
+		}
+
+		public Item(Integer id) {
+			this.id = id;
+		}
+	}
+}
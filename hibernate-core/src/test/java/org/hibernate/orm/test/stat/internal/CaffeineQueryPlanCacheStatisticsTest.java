@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = CaffeineQueryPlanCacheStatisticsTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_FACTORY, value = "caffeine"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "2")
+})
+@SessionFactory
+public class CaffeineQueryPlanCacheStatisticsTest {
+
+	private Statistics statistics;
+
+	@BeforeEach
+	protected void cleanup(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		statistics = sessionFactory.getStatistics();
+		statistics.clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testCaffeineFactoryIsUsed(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getServiceRegistry().requireService( InternalCacheFactory.class ) )
+				.extracting( Object::getClass )
+				.extracting( Class::getSimpleName )
+				.isEqualTo( "CaffeineInternalCacheFactory" );
+	}
+
+	@Test
+	public void testHitsAndMisses(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "from Item", Item.class );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+
+			session.createQuery( "from Item", Item.class );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testEvictions(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.createQuery( "from Item where id = " + i, Item.class );
+			}
+		} );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 10 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isGreaterThan( 0 );
+		assertThat( scope.getSessionFactory().getQueryEngine().getInterpretationCache()
+				.getNumberOfCachedHqlInterpretations() ).isLessThanOrEqualTo( 2 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
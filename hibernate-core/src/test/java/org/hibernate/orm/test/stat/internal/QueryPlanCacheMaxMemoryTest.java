@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryPlanCacheMaxMemoryTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_FACTORY, value = "caffeine"),
+		// ignored, in favor of the memory bound
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "2"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_MEMORY, value = "100000")
+})
+@SessionFactory
+public class QueryPlanCacheMaxMemoryTest {
+
+	private Statistics statistics;
+
+	@BeforeEach
+	protected void cleanup(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		statistics = sessionFactory.getStatistics();
+		statistics.clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testSmallQueriesAreNotBoundByCount(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				session.createQuery( "from Item where id = " + i, Item.class );
+			}
+		} );
+
+		assertThat( interpretationCache( scope ).getNumberOfCachedHqlInterpretations() ).isEqualTo( 5 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testLargeQueryIsEvicted(SessionFactoryScope scope) {
+		final String largeQuery = IntStream.range( 0, 1000 )
+				.mapToObj( Integer::toString )
+				.collect( Collectors.joining( ",", "from Item where id in (", ")" ) );
+
+		scope.inTransaction( session -> {
+			session.createQuery( "from Item", Item.class );
+			session.createQuery( largeQuery, Item.class );
+		} );
+
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isGreaterThan( 0 );
+
+		scope.inTransaction( session -> session.createQuery( "from Item", Item.class ) );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testPlanWeighedWithItsTranslations(SessionFactoryScope scope) {
+		// each plan fits when weighed by the length of its query
+		// string, but not once its translation to SQL is cached
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				for ( int j = 0; j < 2; j++ ) {
+					session.createQuery( "from Item where name = :name" + i, Item.class )
+							.setParameter( "name" + i, "item" )
+							.getResultList();
+				}
+			}
+		} );
+
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isGreaterThan( 0 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedHqlInterpretations() ).isEqualTo( 10 );
+	}
+
+	private static QueryInterpretationCache interpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.QueryStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryTranslationCacheStatisticsTest.Item.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class QueryTranslationCacheStatisticsTest {
+
+	private static final String HQL = "from Item order by id";
+
+	@BeforeEach
+	protected void cleanup(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testTranslationIsReusedForEachLimitShape(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				session.createSelectionQuery( HQL, Item.class ).setMaxResults( 10 ).getResultList();
+				session.createSelectionQuery( HQL, Item.class ).getResultList();
+			}
+		} );
+
+		final QueryStatistics queryStatistics = scope.getSessionFactory().getStatistics().getQueryStatistics( HQL );
+		assertThat( queryStatistics.getTranslationCacheMissCount() ).isEqualTo( 2 );
+		assertThat( queryStatistics.getTranslationCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testTranslationIsReusedWithoutLimit(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				session.createSelectionQuery( HQL, Item.class ).getResultList();
+			}
+		} );
+
+		final QueryStatistics queryStatistics = scope.getSessionFactory().getStatistics().getQueryStatistics( HQL );
+		assertThat( queryStatistics.getTranslationCacheMissCount() ).isEqualTo( 1 );
+		assertThat( queryStatistics.getTranslationCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
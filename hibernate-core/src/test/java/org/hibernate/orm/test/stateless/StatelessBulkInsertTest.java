@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.PostPersist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SessionFactory(useCollectingStatementInspector = true)
+@DomainModel(annotatedClasses = {
+		StatelessBulkInsertTest.Person.class,
+		StatelessBulkInsertTest.Vehicle.class,
+		StatelessBulkInsertTest.Car.class,
+		StatelessBulkInsertTest.Tag.class
+})
+public class StatelessBulkInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testBulkInsert(SessionFactoryScope scope) {
+		final List<Person> people = new ArrayList<>();
+		for ( int i = 1; i <= 250; i++ ) {
+			people.add( new Person( i, i % 10 == 0 ? null : "Person\t" + i + "\\", LocalDate.of( 2000, 1, 1 ).plusDays( i ) ) );
+		}
+		scope.inStatelessTransaction( session -> session.bulkInsert( people ) );
+
+		assertThat( people ).allMatch( person -> person.postPersist );
+		scope.inStatelessTransaction( session -> {
+			final List<Person> loaded =
+					session.createSelectionQuery( "from Person order by id", Person.class ).getResultList();
+			assertThat( loaded ).hasSize( 250 );
+			for ( int i = 0; i < loaded.size(); i++ ) {
+				final Person person = people.get( i );
+				assertThat( loaded.get( i ).id ).isEqualTo( person.id );
+				assertThat( loaded.get( i ).name ).isEqualTo( person.name );
+				assertThat( loaded.get( i ).birthDate ).isEqualTo( person.birthDate );
+			}
+		} );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testBulkInsertStatements(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		final List<Person> people = new ArrayList<>();
+		for ( int i = 1; i <= 250; i++ ) {
+			people.add( new Person( i, "Person " + i, null ) );
+		}
+		scope.inStatelessTransaction( session -> session.bulkInsert( people ) );
+
+		// the statement of a hundred rows is prepared once, and reused
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 2 );
+		assertThat( sqlQueries.get( 0 ) ).endsWith( ",(?,?,?)".repeat( 99 ) );
+		assertThat( sqlQueries.get( 1 ) ).endsWith( "values (?,?,?)" + ",(?,?,?)".repeat( 49 ) );
+	}
+
+	@Test
+	public void testBulkInsertJoinedInheritance(SessionFactoryScope scope) {
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 1; i <= 5; i++ ) {
+			entities.add( new Car( i, "Car " + i, i + 1 ) );
+		}
+		entities.add( new Vehicle( 6, "Vehicle 6" ) );
+		scope.inStatelessTransaction( session -> session.bulkInsert( entities ) );
+
+		scope.inStatelessTransaction( session -> {
+			final List<Car> cars =
+					session.createSelectionQuery( "from Car order by id", Car.class ).getResultList();
+			assertThat( cars ).extracting( car -> car.doors ).containsExactly( 2, 3, 4, 5, 6 );
+			assertThat( cars ).extracting( car -> car.name ).containsExactly( "Car 1", "Car 2", "Car 3", "Car 4", "Car 5" );
+			assertThat( session.createSelectionQuery( "from Vehicle", Vehicle.class ).getResultList() ).hasSize( 6 );
+		} );
+	}
+
+	@Test
+	public void testBulkInsertIdentity(SessionFactoryScope scope) {
+		final List<Tag> tags = List.of( new Tag( "a" ), new Tag( "b" ), new Tag( "c" ) );
+		// an entity with an identity column is inserted row by row
+		scope.inStatelessTransaction( session -> session.bulkInsert( tags ) );
+
+		assertThat( tags ).allMatch( tag -> tag.id != null );
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "select name from Tag order by name", String.class ).getResultList()
+		).containsExactly( "a", "b", "c" ) );
+	}
+
+	@Test
+	public void testBulkInsertDuplicateKey(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.insert( new Person( 1, "Person 1", null ) ) );
+
+		final List<Person> people = List.of( new Person( 2, "Person 2", null ), new Person( 1, "Person 1", null ) );
+		assertThatThrownBy( () -> scope.inStatelessTransaction( session -> session.bulkInsert( people ) ) )
+				.isInstanceOf( ConstraintViolationException.class );
+
+		// the transaction was rolled back
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "select id from Person", Integer.class ).getResultList()
+		).containsExactly( 1 ) );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private LocalDate birthDate;
+
+		transient boolean postPersist;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name, LocalDate birthDate) {
+			this.id = id;
+			this.name = name;
+			this.birthDate = birthDate;
+		}
+
+		@PostPersist
+		void postPersist() {
+			postPersist = true;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		private int doors;
+
+		public Car() {
+		}
+
+		public Car(Integer id, String name, int doors) {
+			super( id, name );
+			this.doors = doors;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		public Tag() {
+		}
+
+		public Tag(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -241,6 +241,22 @@ public void completeJdbcBatchExecutionEvent(
 		}
 	}
 
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			DiagnosticEvent monitoringEvent,
+			String statementSql,
+			int batchSize) {
+		if ( monitoringEvent != null ) {
+			final JdbcBatchExecutionEvent jdbcBatchExecutionEvent = (JdbcBatchExecutionEvent) monitoringEvent;
+			jdbcBatchExecutionEvent.end();
+			if ( jdbcBatchExecutionEvent.shouldCommit() ) {
+				jdbcBatchExecutionEvent.sql = statementSql;
+				jdbcBatchExecutionEvent.batchSize = batchSize;
+				jdbcBatchExecutionEvent.commit();
+			}
+		}
+	}
+
 	@Override
 	public DiagnosticEvent beginCachePutEvent() {
 		if ( cachePutEventType.isEnabled() ) {